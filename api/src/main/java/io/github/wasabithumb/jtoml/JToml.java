@@ -17,6 +17,7 @@
 package io.github.wasabithumb.jtoml;
 
 import io.github.wasabithumb.jtoml.document.TomlDocument;
+import io.github.wasabithumb.jtoml.document.TomlStreamWriter;
 import io.github.wasabithumb.jtoml.except.TomlException;
 import io.github.wasabithumb.jtoml.except.TomlIOException;
 import io.github.wasabithumb.jtoml.except.TomlValueException;
@@ -27,6 +28,10 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -160,6 +165,66 @@ public interface JToml {
     @ApiStatus.AvailableSince("0.3.0")
     void write(@NotNull Writer writer, @NotNull TomlTable table) throws TomlValueException, TomlIOException;
 
+    /**
+     * Writes a TOML table to a channel
+     * @param channel Channel to receive the UTF-8 encoded TOML data. If the channel is in non-blocking mode,
+     *                this method will spin until all data has been accepted.
+     * @param table Table to write
+     * @throws TomlValueException The TOML spec does not allow for lossless serialization of the table data.
+     * See exception docs for more details.
+     * @throws TomlIOException The underlying channel raised an exception
+     * @see #write(OutputStream, TomlTable)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    void write(@NotNull WritableByteChannel channel, @NotNull TomlTable table) throws TomlValueException, TomlIOException;
+
+    /**
+     * Writes a TOML table into the remaining space of a buffer, which may be direct.
+     * On success, the position of the buffer is advanced past the written data.
+     * @param buffer Buffer to receive the UTF-8 encoded TOML data
+     * @param table Table to write
+     * @return The number of bytes written
+     * @throws BufferOverflowException The remaining space in the buffer is not large enough to
+     * hold the document. The position of the buffer is left unchanged, though the content of
+     * its remaining space is undefined.
+     * @throws TomlValueException The TOML spec does not allow for lossless serialization of the table data.
+     * See exception docs for more details.
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    int write(@NotNull ByteBuffer buffer, @NotNull TomlTable table) throws BufferOverflowException, TomlValueException;
+
+    /**
+     * Appends a TOML table to an {@link Appendable} such as a {@link StringBuilder},
+     * without creating an intermediate string
+     * @param out Destination for the TOML plaintext
+     * @param table Table to write
+     * @throws TomlValueException The TOML spec does not allow for lossless serialization of the table data.
+     * See exception docs for more details.
+     * @throws TomlIOException The destination raised an exception
+     * @see #write(Writer, TomlTable)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    void writeTo(@NotNull Appendable out, @NotNull TomlTable table) throws TomlValueException, TomlIOException;
+
+    /**
+     * Creates a writer which emits a TOML document to a stream incrementally, without
+     * first building a {@link TomlTable}. Closing the writer does not close the stream.
+     * @param out Stream to receive the UTF-8 encoded TOML data
+     * @see TomlStreamWriter
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @NotNull TomlStreamWriter streamWriter(@NotNull OutputStream out);
+
+    /**
+     * Creates a writer which emits a TOML document to a writer incrementally, without
+     * first building a {@link TomlTable}. Closing the stream writer does not close the writer.
+     * @param writer Writer to receive the TOML plaintext
+     * @see TomlStreamWriter
+     * @see #write(Writer, TomlTable)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @NotNull TomlStreamWriter streamWriter(@NotNull Writer writer);
+
     /**
      * Writes a TOML table to a file
      * @param file Path of the file to receive the UTF-8 encoded TOML data
@@ -195,6 +260,69 @@ public interface JToml {
 
     //
 
+    /**
+     * Writes a compact binary snapshot of a TOML table. Snapshots preserve value types,
+     * the original text of floats, the creation order of keys and, if
+     * {@link io.github.wasabithumb.jtoml.option.JTomlOption#WRITE_COMMENTS WRITE_COMMENTS} is set,
+     * comments. Keys and strings are deduplicated through a shared string table, and every
+     * table and array is length-prefixed so readers can skip subtrees.
+     * The format is intended for caching parsed documents and is not a substitute for TOML;
+     * snapshots are only guaranteed to be readable by the same version of JToml.
+     * @param out Stream to receive the snapshot
+     * @param table Table to write
+     * @throws TomlIOException The underlying stream raised an exception
+     * @see #readBinary(ByteBuffer)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    void writeBinary(@NotNull OutputStream out, @NotNull TomlTable table) throws TomlIOException;
+
+    /**
+     * Reads a binary snapshot produced by {@link #writeBinary(OutputStream, TomlTable)}.
+     * Data is read from the current position of the buffer; the position of the buffer itself
+     * is not changed. Comments are restored if
+     * {@link io.github.wasabithumb.jtoml.option.JTomlOption#READ_COMMENTS READ_COMMENTS} is set.
+     * @param buffer Buffer holding the snapshot
+     * @throws io.github.wasabithumb.jtoml.except.parse.TomlBinaryException Data is not a valid snapshot
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @NotNull TomlDocument readBinary(@NotNull ByteBuffer buffer) throws TomlException;
+
+    /**
+     * Provides a read-only document backed directly by a binary snapshot produced by
+     * {@link #writeBinary(OutputStream, TomlTable)}. Unlike {@link #readBinary(ByteBuffer)},
+     * nothing is decoded up front: tables are navigated by offset within the buffer and value
+     * objects are only created for values which are returned, so heap usage does not grow with the
+     * size of the snapshot. The buffer may be direct or memory-mapped, and must not be modified while
+     * the document is in use. Malformed regions of the snapshot are reported when they are accessed.
+     * Creation order is not retained, so documents are written in label order
+     * under {@link io.github.wasabithumb.jtoml.option.prop.SortMethod#TIME TIME} sorting.
+     * @param buffer Buffer holding the snapshot, starting at its current position
+     * @throws io.github.wasabithumb.jtoml.except.parse.TomlBinaryException Data is not a valid snapshot
+     * @see #viewBinary(Path)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @NotNull TomlDocument viewBinary(@NotNull ByteBuffer buffer) throws TomlException;
+
+    /**
+     * Maps a binary snapshot file into memory and provides a read-only document backed by it.
+     * Snapshots of up to 2 GiB are supported.
+     * @param file Path to the snapshot file
+     * @throws TomlIOException The filesystem raised an exception
+     * @throws io.github.wasabithumb.jtoml.except.parse.TomlBinaryException File is not a valid snapshot
+     * @see #viewBinary(ByteBuffer)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default @NotNull TomlDocument viewBinary(@NotNull Path file) throws TomlException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return this.viewBinary(channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()));
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+            return null;
+        }
+    }
+
+    //
+
     /**
      * Serializes the given TOML table to the given type,
      * if an appropriate serializer is present in the classpath.
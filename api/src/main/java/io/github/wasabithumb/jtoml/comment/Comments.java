@@ -39,6 +39,17 @@ public interface Comments {
         return CommentsImpl.copyOf(other);
     }
 
+    /**
+     * Provides an immutable copy of the given comments. Attempts to modify the
+     * returned object will raise {@link UnsupportedOperationException}.
+     * If the given comments are already immutable, they are returned as-is.
+     */
+    @Contract("_ -> !null")
+    @ApiStatus.AvailableSince("1.6.0")
+    static @NotNull Comments immutableCopyOf(@NotNull Comments other) {
+        return CommentsImpl.immutableCopyOf(other);
+    }
+
     @Contract("_ -> new")
     @ApiStatus.AvailableSince("1.5.0")
     static @NotNull Comments comments(@NotNull Comment @NotNull ... src) {
@@ -26,6 +26,12 @@ import java.util.*;
 @ApiStatus.Internal
 final class CommentsImpl implements Comments {
 
+    private static final CommentsImpl EMPTY;
+    static {
+        EMPTY = new CommentsImpl();
+        EMPTY.immutable = true;
+    }
+
     @Contract("_ -> new")
     static @NotNull CommentsImpl copyOf(@NotNull Comments other) {
         if (other instanceof CommentsImpl) {
@@ -37,6 +43,20 @@ final class CommentsImpl implements Comments {
         }
     }
 
+    @Contract("_ -> !null")
+    static @NotNull CommentsImpl immutableCopyOf(@NotNull Comments other) {
+        if (other instanceof CommentsImpl) {
+            CommentsImpl qual = (CommentsImpl) other;
+            if (qual.immutable) return qual;
+            if (qual.postHead == 0) return EMPTY;
+        } else if (other.count() == 0) {
+            return EMPTY;
+        }
+        CommentsImpl ret = copyOf(other);
+        ret.immutable = true;
+        return ret;
+    }
+
     //
 
     private Comment[] array;
@@ -44,15 +64,19 @@ final class CommentsImpl implements Comments {
     private int preHead;
     private int postHead;
     private boolean hasInline;
+    private boolean immutable;
+    private boolean shared;
 
+    /** The backing array is shared until either side next writes to it */
     private CommentsImpl(@NotNull CommentsImpl other) {
-        final int capacity = other.capacity;
-        this.array = new Comment[capacity];
-        this.capacity = capacity;
+        this.array = other.array;
+        this.capacity = other.capacity;
         this.preHead = other.preHead;
         this.postHead = other.postHead;
         this.hasInline = other.hasInline;
-        System.arraycopy(other.array, 0, this.array, 0, other.postHead);
+        this.immutable = false;
+        this.shared = true;
+        if (!other.immutable) other.shared = true;
     }
 
     CommentsImpl() {
@@ -89,15 +113,19 @@ final class CommentsImpl implements Comments {
 
     @Override
     public void clear() {
+        this.checkMutable();
         this.array = new Comment[0];
         this.capacity = 0;
         this.preHead = 0;
         this.postHead = 0;
         this.hasInline = false;
+        this.shared = false;
     }
 
     @Override
     public void clear(@NotNull CommentPosition position) {
+        this.checkMutable();
+        this.own();
         int tmp;
         switch (position) {
             case PRE:
@@ -132,6 +160,8 @@ final class CommentsImpl implements Comments {
 
     @Override
     public void add(@NotNull Comment comment) {
+        this.checkMutable();
+        this.own();
         switch (comment.position()) {
             case PRE:
                 this.ensureCapacity();
@@ -163,6 +193,16 @@ final class CommentsImpl implements Comments {
         }
     }
 
+    private void checkMutable() throws UnsupportedOperationException {
+        if (this.immutable) throw new UnsupportedOperationException("Comments are immutable");
+    }
+
+    private void own() {
+        if (!this.shared) return;
+        this.array = Arrays.copyOf(this.array, this.capacity);
+        this.shared = false;
+    }
+
     private void ensureCapacity() {
         int capacity = this.capacity;
         if (capacity == 0) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.document;
+
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import org.jetbrains.annotations.*;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+/**
+ * A handle to a single file watched by a {@link TomlWatcher}, which dispatches changes
+ * to listeners registered for specific key prefixes. Subscriptions are held in a prefix trie,
+ * so a reload only visits the listeners whose prefix is an ancestor or descendant of a changed key;
+ * components which are not affected by a change are never invoked.
+ * <h4>Example</h4>
+ * <pre>{@code
+ * TomlConfigHandle handle = TomlConfigHandle.open(watcher, path);
+ * handle.onChange("db.pool", (TomlKey prefix, TomlValue oldValue, TomlValue newValue) -> {
+ *     pool.resize(newValue.asTable().get("size").asPrimitive().asInteger());
+ * });
+ * }</pre>
+ */
+@ApiStatus.NonExtendable
+@ApiStatus.AvailableSince("1.6.0")
+public interface TomlConfigHandle extends Closeable {
+
+    /**
+     * Begins watching the given file with the given watcher, and returns a handle to it.
+     * Closing the handle does not stop the watcher from watching the file.
+     * @throws TomlIOException The filesystem raised an exception
+     * @throws TomlException File is not valid TOML
+     */
+    @Contract("_, _ -> new")
+    static @NotNull TomlConfigHandle open(@NotNull TomlWatcher watcher, @NotNull Path file) throws TomlException {
+        return new TomlConfigHandleImpl(watcher, file);
+    }
+
+    //
+
+    /**
+     * The file which this handle tracks, as an absolute and normalized path
+     */
+    @NotNull Path file();
+
+    /**
+     * The most recently published snapshot of the file
+     */
+    @NotNull ImmutableTomlTable get();
+
+    /**
+     * Registers a listener to be notified when any value at or below the given key changes.
+     * A key with no parts subscribes to every change in the file.
+     * @return A subscription which may be used to unregister the listener
+     */
+    @NotNull Subscription onChange(@NotNull TomlKey prefix, @NotNull Listener listener);
+
+    /**
+     * Registers a listener to be notified when any value at or below the given key changes
+     * @param prefix A TOML key, such as {@code db.pool}
+     * @return A subscription which may be used to unregister the listener
+     * @throws IllegalArgumentException Key is not valid
+     * @see #onChange(TomlKey, Listener)
+     */
+    default @NotNull Subscription onChange(@NotNull String prefix, @NotNull Listener listener) {
+        return this.onChange(TomlKey.parse(prefix), listener);
+    }
+
+    /**
+     * Unregisters all listeners and detaches this handle from its watcher
+     */
+    @Override
+    void close();
+
+    //
+
+    /**
+     * Receives the old and new values of a subtree whenever it changes
+     */
+    @FunctionalInterface
+    interface Listener {
+
+        /**
+         * Called when a value at or below the subscribed prefix changes
+         * @param prefix The key which the listener subscribed to
+         * @param oldValue The value at the key in the previous snapshot, or null if it was not present
+         * @param newValue The value at the key in the current snapshot, or null if it is not present
+         */
+        void onChange(@NotNull TomlKey prefix, @Nullable TomlValue oldValue, @Nullable TomlValue newValue);
+
+    }
+
+    /**
+     * A listener registered with {@link #onChange(TomlKey, Listener)}
+     */
+    @ApiStatus.NonExtendable
+    interface Subscription {
+
+        /** The key which the listener subscribed to */
+        @NotNull TomlKey prefix();
+
+        /** Unregisters the listener. Has no effect if already cancelled. */
+        void cancel();
+
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.document;
+
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@ApiStatus.Internal
+final class TomlConfigHandleImpl implements TomlConfigHandle, TomlWatcher.Listener {
+
+    private static @Nullable TomlValue valueAt(@NotNull ImmutableTomlTable table, @NotNull TomlKey key) {
+        return key.size() == 0 ? table : table.get(key);
+    }
+
+    //
+
+    private final TomlWatcher watcher;
+    private final Path file;
+    private final Node root;
+    private volatile ImmutableTomlTable current;
+
+    TomlConfigHandleImpl(@NotNull TomlWatcher watcher, @NotNull Path file) throws TomlException {
+        this.watcher = watcher;
+        this.file = TomlWatcherImpl.keyOf(file);
+        this.root = new Node(TomlKey.literal());
+        watcher.subscribe(this);
+        try {
+            this.current = watcher.watch(this.file);
+        } catch (RuntimeException e) {
+            watcher.unsubscribe(this);
+            throw e;
+        }
+    }
+
+    //
+
+    @Override
+    public @NotNull Path file() {
+        return this.file;
+    }
+
+    @Override
+    public @NotNull ImmutableTomlTable get() {
+        return this.current;
+    }
+
+    @Override
+    public @NotNull Subscription onChange(@NotNull TomlKey prefix, @NotNull Listener listener) {
+        Objects.requireNonNull(listener);
+        Node node = this.root;
+        for (String part : prefix) node = node.child(part);
+
+        SubscriptionImpl ret = new SubscriptionImpl(node, listener);
+        node.subscriptions.add(ret);
+        return ret;
+    }
+
+    @Override
+    public void close() {
+        this.watcher.unsubscribe(this);
+        this.root.subscriptions.clear();
+        this.root.children.clear();
+    }
+
+    //
+
+    @Override
+    public void onReload(TomlWatcher.@NotNull Event event) {
+        if (!this.file.equals(event.file())) return;
+        this.current = event.current();
+
+        // Collect each node which is an ancestor or descendant of a changed key
+        Set<Node> affected = new LinkedHashSet<>();
+        Node node;
+        for (TomlKey key : event.changedKeys()) {
+            node = this.root;
+            if (!node.subscriptions.isEmpty()) affected.add(node);
+            for (String part : key) {
+                node = node.children.get(part);
+                if (node == null) break;
+                if (!node.subscriptions.isEmpty()) affected.add(node);
+            }
+            if (node != null) node.collectDescendants(affected);
+        }
+
+        ImmutableTomlTable previous = event.previous();
+        ImmutableTomlTable current = event.current();
+        TomlValue oldValue;
+        TomlValue newValue;
+        for (Node n : affected) {
+            oldValue = valueAt(previous, n.key);
+            newValue = valueAt(current, n.key);
+            for (SubscriptionImpl sub : n.subscriptions) {
+                try {
+                    sub.listener.onChange(n.key, oldValue, newValue);
+                } catch (RuntimeException e) {
+                    Logger.getLogger("jtoml")
+                            .log(Level.WARNING, "Unhandled exception in change listener for " + n.key, e);
+                }
+            }
+        }
+    }
+
+    //
+
+    private static final class Node {
+
+        final TomlKey key;
+        final Map<String, Node> children;
+        final List<SubscriptionImpl> subscriptions;
+
+        Node(@NotNull TomlKey key) {
+            this.key = key;
+            this.children = new ConcurrentHashMap<>();
+            this.subscriptions = new CopyOnWriteArrayList<>();
+        }
+
+        //
+
+        @NotNull Node child(@NotNull String part) {
+            return this.children.computeIfAbsent(
+                    part,
+                    (String p) -> new Node(TomlKey.join(this.key, TomlKey.literal(p)))
+            );
+        }
+
+        void collectDescendants(@NotNull Set<Node> dest) {
+            for (Node child : this.children.values()) {
+                if (!child.subscriptions.isEmpty()) dest.add(child);
+                child.collectDescendants(dest);
+            }
+        }
+
+    }
+
+    private static final class SubscriptionImpl implements Subscription {
+
+        private final Node node;
+        final Listener listener;
+
+        SubscriptionImpl(@NotNull Node node, @NotNull Listener listener) {
+            this.node = node;
+            this.listener = listener;
+        }
+
+        //
+
+        @Override
+        public @NotNull TomlKey prefix() {
+            return this.node.key;
+        }
+
+        @Override
+        public void cancel() {
+            this.node.subscriptions.remove(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.document;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+
+/**
+ * A thread-safe cache of parsed TOML files, keyed by path and validated against the
+ * modification time and size of the file on each access. Entries are evicted in
+ * least-recently-used order once their combined estimated heap footprint exceeds the
+ * {@link Builder#maxWeight(long) configured bound}. Concurrent requests for a file which
+ * is not cached are collapsed into a single parse.
+ * <h4>Example</h4>
+ * <pre>{@code
+ * TomlDocumentCache cache = TomlDocumentCache.builder(JToml.jToml())
+ *         .maxWeight(16L << 20)
+ *         .build();
+ * ImmutableTomlTable shared = cache.get(path);   // shared, immutable
+ * TomlTable mine = cache.getCopy(path);          // private, copy-on-write
+ * }</pre>
+ */
+@ApiStatus.NonExtendable
+@ApiStatus.AvailableSince("1.6.0")
+public interface TomlDocumentCache {
+
+    /**
+     * Creates a cache with the default settings, which reads
+     * files using the given JToml instance
+     */
+    @Contract("_ -> new")
+    static @NotNull TomlDocumentCache create(@NotNull JToml instance) {
+        return builder(instance).build();
+    }
+
+    /**
+     * Creates a builder for a cache which reads
+     * files using the given JToml instance
+     */
+    @Contract("_ -> new")
+    static @NotNull Builder builder(@NotNull JToml instance) {
+        return new Builder(instance);
+    }
+
+    //
+
+    /**
+     * Provides the parsed content of the given file, reading it only if it is not cached or
+     * has changed since it was cached. The returned table is shared between callers.
+     * @throws TomlIOException The filesystem raised an exception
+     * @throws TomlException File is not valid TOML
+     */
+    @NotNull ImmutableTomlTable get(@NotNull Path file) throws TomlException;
+
+    /**
+     * Provides a private, mutable copy of the parsed content of the given file.
+     * The copy shares structure with the cached table until it is modified.
+     * @throws TomlIOException The filesystem raised an exception
+     * @throws TomlException File is not valid TOML
+     * @see #get(Path)
+     * @see TomlTable#copyOf(TomlTable)
+     */
+    default @NotNull TomlTable getCopy(@NotNull Path file) throws TomlException {
+        return TomlTable.copyOf(this.get(file));
+    }
+
+    /**
+     * Discards the cached content of the given file, if any
+     */
+    void invalidate(@NotNull Path file);
+
+    /**
+     * Discards all cached content
+     */
+    void invalidateAll();
+
+    /**
+     * Reports the number of cached files
+     */
+    int size();
+
+    /**
+     * Reports the combined estimated heap footprint of all cached files, in bytes
+     */
+    long weight();
+
+    //
+
+    final class Builder {
+
+        private final JToml instance;
+        private long maxWeight = 64L << 20;
+        private boolean verifyContent = false;
+
+        private Builder(@NotNull JToml instance) {
+            this.instance = instance;
+        }
+
+        //
+
+        /**
+         * Sets the bound on the combined estimated heap footprint of cached files, in bytes.
+         * Defaults to 64 MiB. A file whose footprint alone exceeds the bound is parsed on every access.
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        public @NotNull Builder maxWeight(long maxWeight) {
+            if (maxWeight < 0L) throw new IllegalArgumentException("Weight may not be negative");
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        /**
+         * If set, the content of a file is hashed on every access and compared to the hash of the cached
+         * content. This detects modifications which do not change the modification time or size of the file,
+         * and avoids reparsing files whose modification time changes without their content changing.
+         * Defaults to false.
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        public @NotNull Builder verifyContent(boolean verifyContent) {
+            this.verifyContent = verifyContent;
+            return this;
+        }
+
+        @Contract("-> new")
+        public @NotNull TomlDocumentCache build() {
+            return new TomlDocumentCacheImpl(this.instance, this.maxWeight, this.verifyContent);
+        }
+
+    }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.document;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.comment.Comment;
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@ApiStatus.Internal
+final class TomlDocumentCacheImpl implements TomlDocumentCache {
+
+    /** Computes the SHA-256 hash of the given data */
+    static byte @NotNull [] hash(byte @NotNull [] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Roughly estimates the heap retained by the given value, in bytes.
+     * Assumes compressed references and UTF-16 strings.
+     */
+    static long estimateWeight(@NotNull TomlValue value) {
+        long ret = 0L;
+        for (Comment c : value.comments().all()) ret += 24L + stringWeight(c.content());
+
+        if (value.isPrimitive()) {
+            TomlPrimitive p = value.asPrimitive();
+            ret += 32L;
+            switch (p.type()) {
+                case STRING:
+                case FLOAT:
+                    ret += stringWeight(p.asString());
+                    break;
+                case OFFSET_DATE_TIME:
+                case LOCAL_DATE_TIME:
+                case LOCAL_DATE:
+                case LOCAL_TIME:
+                    ret += 48L;
+                    break;
+            }
+        } else if (value.isArray()) {
+            TomlArray array = value.asArray();
+            ret += 40L + 4L * array.size();
+            for (TomlValue element : array) ret += estimateWeight(element);
+        } else {
+            ret += 48L;
+            for (Map.Entry<TomlKey, TomlValue> entry : value.asTable().entries(false)) {
+                ret += 8L + stringWeight(entry.getKey().get(0)) + estimateWeight(entry.getValue());
+            }
+        }
+        return ret;
+    }
+
+    private static long stringWeight(@NotNull String s) {
+        return 40L + 2L * s.length();
+    }
+
+    private static @NotNull Path keyOf(@NotNull Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    private static @NotNull RuntimeException unwrap(@NotNull CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return e;
+    }
+
+    //
+
+    private final JToml instance;
+    private final long maxWeight;
+    private final boolean verifyContent;
+    private final LinkedHashMap<Path, Entry> entries;
+    private final Map<Path, CompletableFuture<Entry>> loading;
+    private long weight;
+
+    TomlDocumentCacheImpl(@NotNull JToml instance, long maxWeight, boolean verifyContent) {
+        this.instance = instance;
+        this.maxWeight = maxWeight;
+        this.verifyContent = verifyContent;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.loading = new ConcurrentHashMap<>();
+        this.weight = 0L;
+    }
+
+    //
+
+    @Override
+    public @NotNull ImmutableTomlTable get(@NotNull Path file) throws TomlException {
+        final Path key = keyOf(file);
+        final BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (IOException e) {
+            this.invalidate(key);
+            TomlIOException.rethrow(e);
+            return null;
+        }
+
+        Entry cached;
+        synchronized (this.entries) {
+            cached = this.entries.get(key);
+        }
+        if (cached != null && !this.verifyContent && cached.matches(attrs)) return cached.table;
+
+        // Collapse concurrent loads of the same file
+        CompletableFuture<Entry> future = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = this.loading.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join().table;
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        try {
+            Entry loaded = this.load(key, attrs, cached);
+            this.store(loaded);
+            future.complete(loaded);
+            return loaded.table;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loading.remove(key, future);
+        }
+    }
+
+    private @NotNull Entry load(
+            @NotNull Path key,
+            @NotNull BasicFileAttributes attrs,
+            @Nullable Entry previous
+    ) throws TomlException {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(key);
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+            return null;
+        }
+
+        byte[] hash = null;
+        if (this.verifyContent) {
+            hash = hash(data);
+            if (previous != null && Arrays.equals(hash, previous.hash)) {
+                // Content is unchanged; only the metadata is refreshed
+                return new Entry(key, attrs, hash, previous.table, previous.weight);
+            }
+        }
+
+        ImmutableTomlTable table = this.instance.read(new ByteArrayInputStream(data)).freeze();
+        return new Entry(key, attrs, hash, table, estimateWeight(table));
+    }
+
+    private void store(@NotNull Entry entry) {
+        synchronized (this.entries) {
+            Entry old = this.entries.remove(entry.path);
+            if (old != null) this.weight -= old.weight;
+            if (entry.weight > this.maxWeight) return;
+
+            this.entries.put(entry.path, entry);
+            this.weight += entry.weight;
+
+            Iterator<Entry> iter = this.entries.values().iterator();
+            Entry eldest;
+            while (this.weight > this.maxWeight && iter.hasNext()) {
+                eldest = iter.next();
+                iter.remove();
+                this.weight -= eldest.weight;
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(@NotNull Path file) {
+        final Path key = keyOf(file);
+        synchronized (this.entries) {
+            Entry old = this.entries.remove(key);
+            if (old != null) this.weight -= old.weight;
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+            this.weight = 0L;
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    @Override
+    public long weight() {
+        synchronized (this.entries) {
+            return this.weight;
+        }
+    }
+
+    //
+
+    private static final class Entry {
+
+        final Path path;
+        final FileTime modified;
+        final long size;
+        final byte[] hash;
+        final ImmutableTomlTable table;
+        final long weight;
+
+        Entry(
+                @NotNull Path path,
+                @NotNull BasicFileAttributes attrs,
+                byte @Nullable [] hash,
+                @NotNull ImmutableTomlTable table,
+                long weight
+        ) {
+            this.path = path;
+            this.modified = attrs.lastModifiedTime();
+            this.size = attrs.size();
+            this.hash = hash;
+            this.table = table;
+            this.weight = weight;
+        }
+
+        //
+
+        boolean matches(@NotNull BasicFileAttributes attrs) {
+            return this.size == attrs.size() && this.modified.equals(attrs.lastModifiedTime());
+        }
+
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.document;
+
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.except.TomlValueException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+
+/**
+ * Writes a TOML document incrementally, without first building a
+ * {@link io.github.wasabithumb.jtoml.value.table.TomlTable TomlTable}. Output uses the same
+ * formatting and options as {@link io.github.wasabithumb.jtoml.JToml#write(java.io.OutputStream,
+ * io.github.wasabithumb.jtoml.value.table.TomlTable) JToml#write}, and statements are emitted
+ * in the order they are given; sorting options do not apply.
+ * <p>
+ * Key-value pairs belong to the most recently opened table, or to the root table if none has
+ * been opened. Keys are checked for uniqueness within the current table, and table headers are
+ * checked against previously declared headers. The state required for this is bounded by the
+ * width of the current table and the number of distinct headers, so repeatedly writing
+ * {@code [[records]]} uses constant memory.
+ * <h4>Example</h4>
+ * <pre>{@code
+ * try (TomlStreamWriter writer = JToml.jToml().streamWriter(out)) {
+ *     writer.keyValue("title", "Export");
+ *     for (Record r : records) {
+ *         writer.beginArrayTable("records")
+ *                 .keyValue("id", r.id())
+ *                 .beginArray("tags");
+ *         for (String tag : r.tags()) writer.value(TomlPrimitive.of(tag));
+ *         writer.endArray();
+ *     }
+ * }
+ * }</pre>
+ */
+@ApiStatus.NonExtendable
+@ApiStatus.AvailableSince("1.6.0")
+public interface TomlStreamWriter extends Closeable, Flushable {
+
+    /**
+     * Writes a comment on its own line
+     * @throws IllegalArgumentException Content contains a newline or other illegal character
+     * @throws IllegalStateException An array is open
+     */
+    @Contract("_ -> this")
+    @NotNull TomlStreamWriter comment(@NotNull String content);
+
+    /**
+     * Writes a table header, such as {@code [server]}. Subsequent key-value pairs
+     * are added to this table.
+     * @throws IllegalArgumentException A table with this key was already declared
+     * @throws IllegalStateException An array is open
+     */
+    @Contract("_ -> this")
+    @NotNull TomlStreamWriter beginTable(@NotNull TomlKey key);
+
+    /**
+     * Writes a table header, such as {@code [server]}
+     * @see #beginTable(TomlKey)
+     */
+    @Contract("_ -> this")
+    default @NotNull TomlStreamWriter beginTable(@NotNull String key) {
+        return this.beginTable(TomlKey.parse(key));
+    }
+
+    /**
+     * Writes an array of tables header, such as {@code [[records]]}. Each call appends
+     * a new table to the array, and subsequent key-value pairs are added to it.
+     * @throws IllegalArgumentException A standard table with this key was already declared
+     * @throws IllegalStateException An array is open
+     */
+    @Contract("_ -> this")
+    @NotNull TomlStreamWriter beginArrayTable(@NotNull TomlKey key);
+
+    /**
+     * Writes an array of tables header, such as {@code [[records]]}
+     * @see #beginArrayTable(TomlKey)
+     */
+    @Contract("_ -> this")
+    default @NotNull TomlStreamWriter beginArrayTable(@NotNull String key) {
+        return this.beginArrayTable(TomlKey.parse(key));
+    }
+
+    /**
+     * Writes a key-value pair to the current table. Arrays and tables are written inline.
+     * @throws IllegalArgumentException The key was already defined in the current table
+     * @throws IllegalStateException An array is open
+     * @throws TomlValueException The TOML spec does not allow for lossless serialization of the value
+     */
+    @Contract("_, _ -> this")
+    @NotNull TomlStreamWriter keyValue(@NotNull TomlKey key, @NotNull TomlValue value);
+
+    /**
+     * Writes a key-value pair to the current table
+     * @see #keyValue(TomlKey, TomlValue)
+     */
+    @Contract("_, _ -> this")
+    default @NotNull TomlStreamWriter keyValue(@NotNull String key, @NotNull TomlValue value) {
+        return this.keyValue(TomlKey.parse(key), value);
+    }
+
+    /**
+     * Writes a string key-value pair to the current table
+     * @see #keyValue(TomlKey, TomlValue)
+     */
+    @Contract("_, _ -> this")
+    default @NotNull TomlStreamWriter keyValue(@NotNull String key, @NotNull String value) {
+        return this.keyValue(TomlKey.parse(key), TomlPrimitive.of(value));
+    }
+
+    /**
+     * Writes an integer key-value pair to the current table
+     * @see #keyValue(TomlKey, TomlValue)
+     */
+    @Contract("_, _ -> this")
+    default @NotNull TomlStreamWriter keyValue(@NotNull String key, long value) {
+        return this.keyValue(TomlKey.parse(key), TomlPrimitive.of(value));
+    }
+
+    /**
+     * Writes a float key-value pair to the current table
+     * @see #keyValue(TomlKey, TomlValue)
+     */
+    @Contract("_, _ -> this")
+    default @NotNull TomlStreamWriter keyValue(@NotNull String key, double value) {
+        return this.keyValue(TomlKey.parse(key), TomlPrimitive.of(value));
+    }
+
+    /**
+     * Writes a boolean key-value pair to the current table
+     * @see #keyValue(TomlKey, TomlValue)
+     */
+    @Contract("_, _ -> this")
+    default @NotNull TomlStreamWriter keyValue(@NotNull String key, boolean value) {
+        return this.keyValue(TomlKey.parse(key), TomlPrimitive.of(value));
+    }
+
+    /**
+     * Begins an array value in the current table. Elements are added with {@link #value(TomlValue)}
+     * and {@link #beginArray()}, and the array is completed with {@link #endArray()}.
+     * Streamed arrays are written on a single line unless the
+     * {@link io.github.wasabithumb.jtoml.option.prop.ArrayStrategy#TALL TALL} strategy is set.
+     * @throws IllegalArgumentException The key was already defined in the current table
+     * @throws IllegalStateException An array is open
+     */
+    @Contract("_ -> this")
+    @NotNull TomlStreamWriter beginArray(@NotNull TomlKey key);
+
+    /**
+     * Begins an array value in the current table
+     * @see #beginArray(TomlKey)
+     */
+    @Contract("_ -> this")
+    default @NotNull TomlStreamWriter beginArray(@NotNull String key) {
+        return this.beginArray(TomlKey.parse(key));
+    }
+
+    /**
+     * Begins an array nested within the currently open array
+     * @throws IllegalStateException No array is open
+     */
+    @Contract("-> this")
+    @NotNull TomlStreamWriter beginArray();
+
+    /**
+     * Adds an element to the currently open array. Tables are written inline.
+     * @throws IllegalStateException No array is open
+     * @throws TomlValueException The TOML spec does not allow for lossless serialization of the value
+     */
+    @Contract("_ -> this")
+    @NotNull TomlStreamWriter value(@NotNull TomlValue value);
+
+    /**
+     * Completes the currently open array
+     * @throws IllegalStateException No array is open
+     */
+    @Contract("-> this")
+    @NotNull TomlStreamWriter endArray();
+
+    /**
+     * Flushes any buffered output to the destination
+     * @throws TomlIOException The destination raised an exception
+     */
+    @Override
+    void flush() throws TomlIOException;
+
+    /**
+     * Flushes any buffered output. The destination itself is not closed.
+     * @throws IllegalStateException An array is open
+     * @throws TomlIOException The destination raised an exception
+     */
+    @Override
+    void close() throws TomlIOException;
+
+}
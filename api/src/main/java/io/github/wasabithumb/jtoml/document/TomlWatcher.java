@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.document;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlDiff;
+import org.jetbrains.annotations.*;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches TOML files for modification using a {@link java.nio.file.WatchService WatchService}
+ * and keeps an up-to-date, immutable snapshot of each. Bursts of filesystem events are debounced,
+ * and only the files which changed are reread. A file is only reparsed if its content hash
+ * differs from that of the current snapshot, so touching a file is free.
+ * <p>
+ * When the values of a file change, its new snapshot is published atomically and each
+ * {@link Listener} is notified with the keys which changed, as computed by {@link TomlDiff}.
+ * Listeners are invoked on the thread which performed the reload; this is the background
+ * thread of the watcher unless the reload was requested with {@link #refresh()}.
+ * <h4>Example</h4>
+ * <pre>{@code
+ * TomlWatcher watcher = TomlWatcher.create(JToml.jToml());
+ * watcher.watch(path);
+ * watcher.subscribe((TomlWatcher.Event event) -> {
+ *     System.out.println(event.file() + " changed: " + event.changedKeys());
+ * });
+ * }</pre>
+ */
+@ApiStatus.NonExtendable
+@ApiStatus.AvailableSince("1.6.0")
+public interface TomlWatcher extends Closeable {
+
+    /**
+     * Creates a watcher with the default settings, which reads
+     * files using the given JToml instance
+     * @throws TomlIOException The filesystem does not support watching
+     */
+    @Contract("_ -> new")
+    static @NotNull TomlWatcher create(@NotNull JToml instance) throws TomlIOException {
+        return builder(instance).build();
+    }
+
+    /**
+     * Creates a builder for a watcher which reads
+     * files using the given JToml instance
+     */
+    @Contract("_ -> new")
+    static @NotNull Builder builder(@NotNull JToml instance) {
+        return new Builder(instance);
+    }
+
+    //
+
+    /**
+     * Begins watching the given file, reading it if it is not already watched
+     * @return The current snapshot of the file
+     * @throws TomlIOException The filesystem raised an exception
+     * @throws TomlException File is not valid TOML
+     */
+    @NotNull ImmutableTomlTable watch(@NotNull Path file) throws TomlException;
+
+    /**
+     * Stops watching the given file
+     */
+    void unwatch(@NotNull Path file);
+
+    /**
+     * Provides the current snapshot of the given file,
+     * or null if the file is not watched
+     */
+    @Nullable ImmutableTomlTable snapshot(@NotNull Path file);
+
+    /**
+     * Registers a listener to be notified whenever a watched file changes
+     */
+    void subscribe(@NotNull Listener listener);
+
+    /**
+     * Unregisters a listener previously registered with {@link #subscribe(Listener)}
+     */
+    void unsubscribe(@NotNull Listener listener);
+
+    /**
+     * Immediately checks every watched file for changes on the calling thread,
+     * without waiting for filesystem events. This is useful on platforms where
+     * the watch service polls infrequently.
+     */
+    void refresh();
+
+    /**
+     * Stops watching all files and terminates the background thread
+     */
+    @Override
+    void close();
+
+    //
+
+    /**
+     * Receives notifications of changes to watched files
+     */
+    @FunctionalInterface
+    interface Listener {
+
+        /**
+         * Called when the values of a watched file change
+         */
+        void onReload(@NotNull Event event);
+
+        /**
+         * Called when a watched file has changed but could not be reread.
+         * The previous snapshot is retained.
+         */
+        default void onError(@NotNull Path file, @NotNull TomlException error) { }
+
+    }
+
+    /**
+     * Describes a change to a watched file
+     */
+    @ApiStatus.NonExtendable
+    interface Event {
+
+        /** The file which changed, as an absolute and normalized path */
+        @NotNull Path file();
+
+        /** The snapshot which was replaced */
+        @NotNull ImmutableTomlTable previous();
+
+        /** The snapshot which was published */
+        @NotNull ImmutableTomlTable current();
+
+        /** The differences between the previous and current snapshots */
+        @NotNull TomlDiff diff();
+
+        /** The keys of each value which was added, removed or changed, in lexicographical order */
+        @NotNull @Unmodifiable Set<TomlKey> changedKeys();
+
+    }
+
+    //
+
+    final class Builder {
+
+        private final JToml instance;
+        private long debounceNanos = TimeUnit.MILLISECONDS.toNanos(100L);
+
+        private Builder(@NotNull JToml instance) {
+            this.instance = instance;
+        }
+
+        //
+
+        /**
+         * Sets how long a file must go without further filesystem events before it is reread.
+         * Defaults to 100 milliseconds.
+         */
+        @Contract(value = "_, _ -> this", mutates = "this")
+        public @NotNull Builder debounce(long duration, @NotNull TimeUnit unit) {
+            if (duration < 0L) throw new IllegalArgumentException("Duration may not be negative");
+            this.debounceNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Creates the watcher
+         * @throws TomlIOException The filesystem does not support watching
+         */
+        @Contract("-> new")
+        public @NotNull TomlWatcher build() throws TomlIOException {
+            return new TomlWatcherImpl(this.instance, this.debounceNanos);
+        }
+
+    }
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.document;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlDiff;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@ApiStatus.Internal
+final class TomlWatcherImpl implements TomlWatcher {
+
+    static @NotNull Path keyOf(@NotNull Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    //
+
+    private final JToml instance;
+    private final long debounceNanos;
+    private final WatchService service;
+    private final Map<Path, FileState> files;
+    private final Map<Path, WatchKey> dirs;
+    private final List<Listener> listeners;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    TomlWatcherImpl(@NotNull JToml instance, long debounceNanos) throws TomlIOException {
+        WatchService service = null;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+
+        this.instance = instance;
+        this.debounceNanos = debounceNanos;
+        this.service = service;
+        this.files = new ConcurrentHashMap<>();
+        this.dirs = new HashMap<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.closed = false;
+
+        Thread thread = new Thread(this::run, "jtoml-watcher");
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+    }
+
+    //
+
+    @Override
+    public @NotNull ImmutableTomlTable watch(@NotNull Path file) throws TomlException {
+        if (this.closed) throw new IllegalStateException("Watcher is closed");
+        final Path key = keyOf(file);
+        FileState state = this.files.get(key);
+        if (state != null) return state.snapshot;
+
+        state = new FileState(key);
+        state.read(this.instance);
+
+        final Path dir = key.getParent();
+        synchronized (this.dirs) {
+            if (!this.dirs.containsKey(dir)) {
+                try {
+                    this.dirs.put(dir, dir.register(
+                            this.service,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE
+                    ));
+                } catch (IOException e) {
+                    TomlIOException.rethrow(e);
+                }
+            }
+            FileState existing = this.files.putIfAbsent(key, state);
+            if (existing != null) state = existing;
+        }
+        return state.snapshot;
+    }
+
+    @Override
+    public void unwatch(@NotNull Path file) {
+        final Path key = keyOf(file);
+        final Path dir = key.getParent();
+        synchronized (this.dirs) {
+            if (this.files.remove(key) == null) return;
+            for (Path other : this.files.keySet()) {
+                if (dir.equals(other.getParent())) return;
+            }
+            WatchKey wk = this.dirs.remove(dir);
+            if (wk != null) wk.cancel();
+        }
+    }
+
+    @Override
+    public @Nullable ImmutableTomlTable snapshot(@NotNull Path file) {
+        FileState state = this.files.get(keyOf(file));
+        return state == null ? null : state.snapshot;
+    }
+
+    @Override
+    public void subscribe(@NotNull Listener listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public void unsubscribe(@NotNull Listener listener) {
+        this.listeners.remove(listener);
+    }
+
+    @Override
+    public void refresh() {
+        for (FileState state : this.files.values()) this.reload(state);
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) return;
+        this.closed = true;
+        try {
+            this.service.close();
+        } catch (IOException ignored) { }
+        synchronized (this.dirs) {
+            this.files.clear();
+            this.dirs.clear();
+        }
+        if (Thread.currentThread() != this.thread) this.thread.interrupt();
+    }
+
+    //
+
+    private void run() {
+        final Map<Path, Long> pending = new HashMap<>();
+        WatchKey wk;
+        long now;
+        long next;
+
+        while (!this.closed) {
+            try {
+                if (pending.isEmpty()) {
+                    wk = this.service.take();
+                } else {
+                    next = Long.MAX_VALUE;
+                    now = System.nanoTime();
+                    for (long due : pending.values()) next = Math.min(next, due - now);
+                    wk = this.service.poll(Math.max(0L, next), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+
+            if (wk != null) {
+                final Path dir = (Path) wk.watchable();
+                final long due = System.nanoTime() + this.debounceNanos;
+                for (WatchEvent<?> event : wk.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events were lost, so every file in the directory is suspect
+                        for (Path file : this.files.keySet()) {
+                            if (dir.equals(file.getParent())) pending.put(file, due);
+                        }
+                        continue;
+                    }
+                    Path file = dir.resolve((Path) event.context());
+                    if (this.files.containsKey(file)) pending.put(file, due);
+                }
+                wk.reset();
+            }
+
+            now = System.nanoTime();
+            Iterator<Map.Entry<Path, Long>> iter = pending.entrySet().iterator();
+            Map.Entry<Path, Long> entry;
+            FileState state;
+            while (iter.hasNext()) {
+                entry = iter.next();
+                if (entry.getValue() - now > 0L) continue;
+                iter.remove();
+                state = this.files.get(entry.getKey());
+                if (state == null) continue;
+                try {
+                    this.reload(state);
+                } catch (RuntimeException e) {
+                    // Losing the thread would silently stop all further reloads
+                    Logger.getLogger("jtoml")
+                            .log(Level.WARNING, "Unexpected exception while reloading " + state.path, e);
+                }
+            }
+        }
+    }
+
+    private void reload(@NotNull FileState state) {
+        synchronized (state) {
+            final ImmutableTomlTable previous = state.snapshot;
+            try {
+                if (!state.read(this.instance)) return;
+            } catch (TomlIOException e) {
+                // The file is likely being replaced, and will be reread once it is recreated
+                if (e.getCause() instanceof NoSuchFileException) return;
+                this.notifyError(state.path, e);
+                return;
+            } catch (TomlException e) {
+                this.notifyError(state.path, e);
+                return;
+            }
+
+            TomlDiff diff = TomlDiff.between(previous, state.snapshot);
+            if (diff.isEmpty()) return;
+
+            Event event = new EventImpl(state.path, previous, state.snapshot, diff);
+            for (Listener listener : this.listeners) {
+                try {
+                    listener.onReload(event);
+                } catch (RuntimeException e) {
+                    Logger.getLogger("jtoml")
+                            .log(Level.WARNING, "Unhandled exception in watch listener", e);
+                }
+            }
+        }
+    }
+
+    private void notifyError(@NotNull Path file, @NotNull TomlException error) {
+        for (Listener listener : this.listeners) {
+            try {
+                listener.onError(file, error);
+            } catch (RuntimeException e) {
+                Logger.getLogger("jtoml")
+                        .log(Level.WARNING, "Unhandled exception in watch listener", e);
+            }
+        }
+    }
+
+    //
+
+    private static final class FileState {
+
+        final Path path;
+        volatile ImmutableTomlTable snapshot;
+        private byte[] hash;
+
+        FileState(@NotNull Path path) {
+            this.path = path;
+            this.snapshot = null;
+            this.hash = null;
+        }
+
+        //
+
+        /**
+         * Reads the file, replacing the snapshot if its content has changed
+         * @return True if the snapshot was replaced
+         */
+        boolean read(@NotNull JToml instance) throws TomlException {
+            byte[] data;
+            try {
+                data = Files.readAllBytes(this.path);
+            } catch (IOException e) {
+                TomlIOException.rethrow(e);
+                return false;
+            }
+
+            byte[] hash = TomlDocumentCacheImpl.hash(data);
+            if (Arrays.equals(hash, this.hash)) return false;
+
+            this.snapshot = instance.read(new ByteArrayInputStream(data)).freeze();
+            this.hash = hash;
+            return true;
+        }
+
+    }
+
+    private static final class EventImpl implements Event {
+
+        private final Path file;
+        private final ImmutableTomlTable previous;
+        private final ImmutableTomlTable current;
+        private final TomlDiff diff;
+        private Set<TomlKey> changedKeys;
+
+        EventImpl(
+                @NotNull Path file,
+                @NotNull ImmutableTomlTable previous,
+                @NotNull ImmutableTomlTable current,
+                @NotNull TomlDiff diff
+        ) {
+            this.file = file;
+            this.previous = previous;
+            this.current = current;
+            this.diff = diff;
+            this.changedKeys = null;
+        }
+
+        //
+
+        @Override
+        public @NotNull Path file() {
+            return this.file;
+        }
+
+        @Override
+        public @NotNull ImmutableTomlTable previous() {
+            return this.previous;
+        }
+
+        @Override
+        public @NotNull ImmutableTomlTable current() {
+            return this.current;
+        }
+
+        @Override
+        public @NotNull TomlDiff diff() {
+            return this.diff;
+        }
+
+        @Override
+        public @NotNull @Unmodifiable Set<TomlKey> changedKeys() {
+            Set<TomlKey> ret = this.changedKeys;
+            if (ret != null) return ret;
+
+            List<TomlDiff.Entry> entries = this.diff.entries();
+            ret = new LinkedHashSet<>(entries.size());
+            for (TomlDiff.Entry entry : entries) ret.add(entry.key());
+            return this.changedKeys = Collections.unmodifiableSet(ret);
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.except.parse;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Binary snapshot data is truncated, corrupt or was written
+ * by an incompatible version of the format.
+ * @see io.github.wasabithumb.jtoml.JToml#readBinary(java.nio.ByteBuffer)
+ */
+@ApiStatus.AvailableSince("1.6.0")
+public final class TomlBinaryException extends TomlParseException {
+
+    private static final long serialVersionUID = -2291638104257789375L;
+
+    //
+
+    public TomlBinaryException(@NotNull String message) {
+        super(message);
+    }
+
+    public TomlBinaryException(@NotNull String message, @Nullable Throwable cause) {
+        super(message, cause);
+    }
+
+}
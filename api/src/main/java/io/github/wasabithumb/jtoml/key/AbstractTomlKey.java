@@ -21,7 +21,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.AbstractCollection;
 import java.util.Iterator;
-import java.util.StringJoiner;
+import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
 @ApiStatus.Internal
@@ -66,47 +66,48 @@ abstract class AbstractTomlKey extends AbstractCollection<String> implements Tom
         }
     }
 
+    /**
+     * Escape sequences for each ASCII character, or null if the character may
+     * appear unescaped in a basic string; see {@link #isValidBasicUnescaped(char)}.
+     * All other characters may appear unescaped.
+     */
+    private static final String[] BASIC_ESCAPES = new String[0x80];
+    static {
+        for (char c=0; c < 0x80; c++) {
+            if (!isValidBasicUnescaped(c)) BASIC_ESCAPES[c] = basicEscape(c);
+        }
+    }
+
     //
 
     @Override
     public abstract @NotNull Stream<String> stream();
 
+    @Override
+    public abstract @NotNull String get(int index) throws IndexOutOfBoundsException;
+
     @Override
     public @NotNull Iterator<String> iterator() {
-        return this.stream().iterator();
+        return new Iter(this);
     }
 
     @Override
     public int hashCode() {
-        int h = 0;
-        Iterator<String> iter = this.iterator();
-        if (iter.hasNext()) {
-            String next;
-            while (true) {
-                next = iter.next();
-                for (int i = 0; i < next.length(); i++) {
-                    h = 31 * h + ((int) next.charAt(i));
-                }
-                boolean cont = iter.hasNext();
-                if (!cont) break;
-                h = 31 * h + ((int) '.');
-            }
-        }
-        return h;
+        return computeHash(this);
     }
 
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) return true;
         if (!(obj instanceof TomlKey)) return false;
 
         TomlKey other = (TomlKey) obj;
         int len = this.size();
         if (len != other.size()) return false;
+        if (this.hashCode() != other.hashCode()) return false;
 
-        Iterator<String> a = this.iterator();
-        Iterator<String> b = other.iterator();
         for (int i=0; i < len; i++) {
-            if (!a.next().equals(b.next())) {
+            if (!this.get(i).equals(other.get(i))) {
                 return false;
             }
         }
@@ -115,39 +116,86 @@ abstract class AbstractTomlKey extends AbstractCollection<String> implements Tom
 
     @Override
     public @NotNull String toString() {
-        StringJoiner sj = new StringJoiner(".");
-        for (String part : this) sj.add(this.encodePart(part));
-        return sj.toString();
+        final int len = this.size();
+        if (len == 0) return "";
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.encodePart(this.get(0)));
+        for (int i=1; i < len; i++) {
+            sb.append('.').append(this.encodePart(this.get(i)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Computes the hash of a key as specified by {@link #hashCode()};
+     * equivalent to the hash of the parts joined by {@code .} characters.
+     */
+    static int computeHash(@NotNull TomlKey key) {
+        final int len = key.size();
+        int h = 0;
+        String next;
+        for (int i=0; i < len; i++) {
+            if (i != 0) h = 31 * h + ((int) '.');
+            next = key.get(i);
+            for (int z=0; z < next.length(); z++) {
+                h = 31 * h + ((int) next.charAt(z));
+            }
+        }
+        return h;
     }
 
     protected @NotNull CharSequence encodePart(@NotNull CharSequence part) {
         final int len = part.length();
         if (len == 0) return "\"\"";
 
-        StringBuilder sb = null;
-        boolean encoding = false;
-        char c;
+        int i = 0;
+        while (isValidBare(part.charAt(i))) {
+            if (++i == len) return part;
+        }
 
-        for (int i=0; i < len; i++) {
+        final String[] escapes = BASIC_ESCAPES;
+        StringBuilder sb = new StringBuilder(len + 8);
+        sb.append('\"').append(part, 0, i);
+
+        int start = i;
+        char c;
+        for (; i < len; i++) {
             c = part.charAt(i);
-            if (!encoding) {
-                if (isValidBare(c)) continue;
-                encoding = true;
-                sb = new StringBuilder((len * 5) / 3);
-                sb.append('\"').append(part.subSequence(0, i));
-            }
-            if (isValidBasicUnescaped(c)) {
-                sb.append(c);
-            } else {
-                sb.append(basicEscape(c));
-            }
+            if (c >= 0x80 || escapes[c] == null) continue;
+            sb.append(part, start, i).append(escapes[c]);
+            start = i + 1;
+        }
+
+        return sb.append(part, start, len).append('\"');
+    }
+
+    //
+
+    private static final class Iter implements Iterator<String> {
+
+        private final TomlKey key;
+        private final int len;
+        private int head;
+
+        Iter(@NotNull TomlKey key) {
+            this.key = key;
+            this.len = key.size();
+            this.head = 0;
         }
 
-        if (encoding) {
-            return sb.append('\"');
-        } else {
-            return part;
+        //
+
+        @Override
+        public boolean hasNext() {
+            return this.head < this.len;
+        }
+
+        @Override
+        public @NotNull String next() {
+            if (this.head >= this.len) throw new NoSuchElementException();
+            return this.key.get(this.head++);
         }
+
     }
 
 }
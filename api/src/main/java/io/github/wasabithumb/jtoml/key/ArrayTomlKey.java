@@ -199,13 +199,22 @@ final class ArrayTomlKey extends AbstractTomlKey implements RandomAccess {
     //
 
     private final String[] data;
+    private int hash;
+    private String str;
 
     ArrayTomlKey(@NotNull String @NotNull [] data) {
         this.data = data;
+        this.hash = 0;
+        this.str = null;
     }
 
     //
 
+    /** Exposes the backing array; must not be modified */
+    @NotNull String @NotNull [] parts() {
+        return this.data;
+    }
+
     @Override
     public int size() {
         return this.data.length;
@@ -221,6 +230,36 @@ final class ArrayTomlKey extends AbstractTomlKey implements RandomAccess {
         return Arrays.stream(this.data);
     }
 
+    @Override
+    public int hashCode() {
+        int h = this.hash;
+        if (h == 0) {
+            h = computeHash(this);
+            this.hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof ArrayTomlKey) {
+            ArrayTomlKey other = (ArrayTomlKey) obj;
+            return this.hashCode() == other.hashCode() && Arrays.equals(this.data, other.data);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        String s = this.str;
+        if (s == null) {
+            s = super.toString();
+            this.str = s;
+        }
+        return s;
+    }
+
     //
 
     private static final class LinkedInt {
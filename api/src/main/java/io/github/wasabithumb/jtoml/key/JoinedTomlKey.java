@@ -19,10 +19,11 @@ package io.github.wasabithumb.jtoml.key;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 @ApiStatus.Internal
-final class JoinedTomlKey extends AbstractTomlKey {
+final class JoinedTomlKey extends AbstractTomlKey implements RandomAccess {
 
     public static @NotNull TomlKey join(@NotNull TomlKey first, @NotNull TomlKey @NotNull ... additional) {
         if (additional.length == 0) return first;
@@ -60,11 +61,23 @@ final class JoinedTomlKey extends AbstractTomlKey {
     //
 
     private final TomlKey[] sub;
+    private final int[] offsets;
     private final int totalSize;
+    private String str;
 
     private JoinedTomlKey(@NotNull TomlKey @NotNull [] sub, int totalSize) {
+        final int count = sub.length;
+        int[] offsets = new int[count];
+        int head = 0;
+        for (int i=0; i < count; i++) {
+            offsets[i] = head;
+            head += sub[i].size();
+        }
+
         this.sub = sub;
+        this.offsets = offsets;
         this.totalSize = totalSize;
+        this.str = null;
     }
 
     //
@@ -74,6 +87,26 @@ final class JoinedTomlKey extends AbstractTomlKey {
         return this.totalSize;
     }
 
+    @Override
+    public @NotNull String get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= this.totalSize)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.totalSize);
+
+        // Find the last sub-key whose offset is <= index, skipping empty sub-keys
+        int lo = 0;
+        int hi = this.offsets.length - 1;
+        int mid;
+        while (lo < hi) {
+            mid = (lo + hi + 1) >>> 1;
+            if (this.offsets[mid] <= index) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return this.sub[lo].get(index - this.offsets[lo]);
+    }
+
     @Override
     public @NotNull Stream<String> stream() {
         Stream<String> ret = this.sub[0].stream();
@@ -83,4 +116,19 @@ final class JoinedTomlKey extends AbstractTomlKey {
         return ret;
     }
 
+    @Override
+    public @NotNull String toString() {
+        String s = this.str;
+        if (s != null) return s;
+
+        // Reuse the encoded text of each sub-key, which is typically cached
+        StringBuilder sb = new StringBuilder();
+        for (TomlKey next : this.sub) {
+            if (next.isEmpty()) continue;
+            if (sb.length() != 0) sb.append('.');
+            sb.append(next);
+        }
+        return this.str = sb.toString();
+    }
+
 }
@@ -19,10 +19,12 @@ package io.github.wasabithumb.jtoml.key;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 @ApiStatus.Internal
-final class SlicedTomlKey extends AbstractTomlKey {
+final class SlicedTomlKey extends AbstractTomlKey implements RandomAccess {
 
     public static @NotNull SlicedTomlKey of(
             @NotNull TomlKey source,
@@ -49,11 +51,13 @@ final class SlicedTomlKey extends AbstractTomlKey {
     private final TomlKey source;
     private final int offset;
     private final int length;
+    private String str;
 
     private SlicedTomlKey(@NotNull TomlKey source, int offset, int length) {
         this.source = source;
         this.offset = offset;
         this.length = length;
+        this.str = null;
     }
 
     //
@@ -72,9 +76,22 @@ final class SlicedTomlKey extends AbstractTomlKey {
 
     @Override
     public @NotNull Stream<String> stream() {
+        if (this.source instanceof ArrayTomlKey) {
+            return Arrays.stream(((ArrayTomlKey) this.source).parts(), this.offset, this.offset + this.length);
+        }
         return this.source.stream()
                 .skip(this.offset)
                 .limit(this.length);
     }
 
+    @Override
+    public @NotNull String toString() {
+        String s = this.str;
+        if (s == null) {
+            s = super.toString();
+            this.str = s;
+        }
+        return s;
+    }
+
 }
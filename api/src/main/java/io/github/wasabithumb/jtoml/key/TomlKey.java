@@ -113,8 +113,8 @@ public interface TomlKey extends Collection<String>, Comparable<TomlKey> {
     int size();
 
     /**
-     * Gets the Nth part of this key. Depending on the key implementation,
-     * this may be less efficient than {@link #stream()}/{@link #iterator()}.
+     * Gets the Nth part of this key. Keys created by this library support
+     * efficient random access, so this is generally preferable to {@link #stream()}.
      */
     default @NotNull String get(int index) throws IndexOutOfBoundsException {
         final int size = this.size();
@@ -134,6 +134,17 @@ public interface TomlKey extends Collection<String>, Comparable<TomlKey> {
 
     @NotNull Stream<String> stream();
 
+    /**
+     * Returns a canonical representation of this key. For any two keys {@code a} and {@code b},
+     * {@code a.intern() == b.intern()} is true if and only if {@code a.equals(b)} is true.
+     * Interned keys cache their hash code and string form, making them well suited for use as
+     * long-lived map keys.
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default @NotNull TomlKey intern() {
+        return TomlKeyPool.intern(this);
+    }
+
     @Contract("_, _ -> new")
     default @NotNull TomlKey slice(int fromIndex, int toIndex) {
         return SlicedTomlKey.of(this, fromIndex, toIndex - fromIndex);
@@ -170,12 +181,9 @@ public interface TomlKey extends Collection<String>, Comparable<TomlKey> {
             lc = 0;
         }
 
-        Iterator<String> mi = this.iterator();
-        Iterator<String> oi = o.iterator();
         int pc;
-
         for (int i=0; i < sl; i++) {
-            pc = mi.next().compareTo(oi.next());
+            pc = this.get(i).compareTo(o.get(i));
             if (pc != 0) return pc;
         }
 
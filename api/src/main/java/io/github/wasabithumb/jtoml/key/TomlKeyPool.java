@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.key;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonical pool backing {@link TomlKey#intern()}.
+ * Pooled keys are only weakly reachable from the pool.
+ */
+@ApiStatus.Internal
+final class TomlKeyPool {
+
+    private static final Map<ArrayTomlKey, WeakReference<ArrayTomlKey>> POOL = new WeakHashMap<>();
+
+    static @NotNull ArrayTomlKey intern(@NotNull TomlKey key) {
+        ArrayTomlKey flat;
+        if (key instanceof ArrayTomlKey) {
+            flat = (ArrayTomlKey) key;
+        } else {
+            final int len = key.size();
+            String[] parts = new String[len];
+            for (int i=0; i < len; i++) parts[i] = key.get(i);
+            flat = new ArrayTomlKey(parts);
+        }
+
+        synchronized (POOL) {
+            WeakReference<ArrayTomlKey> ref = POOL.get(flat);
+            ArrayTomlKey ret;
+            if (ref != null && (ret = ref.get()) != null) return ret;
+            POOL.put(flat, new WeakReference<>(flat));
+        }
+        return flat;
+    }
+
+    //
+
+    private TomlKeyPool() { }
+
+}
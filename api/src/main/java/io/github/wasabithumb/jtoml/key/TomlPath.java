@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.key;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A pre-parsed, immutable TOML key intended to be reused for repeated lookups.
+ * Unlike {@link TomlKey#parse(CharSequence)}, parsing is only performed once when the path is
+ * {@link #compile(CharSequence) compiled}. Tables may additionally cache the resolution of a path,
+ * so a path should be stored (for instance in a {@code static final} field) rather than
+ * compiled on every access.
+ * <h4>Example</h4>
+ * <pre>{@code
+ * static final TomlPath TIMEOUT = TomlPath.compile("server.http.timeout");
+ * // ...
+ * long timeout = table.getLong(TIMEOUT, 30L);
+ * }</pre>
+ * @see #compile(CharSequence)
+ * @see #of(TomlKey)
+ */
+@ApiStatus.AvailableSince("1.6.0")
+public final class TomlPath {
+
+    /**
+     * Compiles a path from its string representation.
+     * The syntax is identical to that accepted by {@link TomlKey#parse(CharSequence)}.
+     * @throws IllegalArgumentException Path is not a valid TOML key
+     */
+    @Contract("_ -> new")
+    public static @NotNull TomlPath compile(@NotNull CharSequence path) throws IllegalArgumentException {
+        ArrayTomlKey key;
+        try {
+            key = ArrayTomlKey.parse(path);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Failed to compile TOML path (" + path + ")", e);
+        }
+        return new TomlPath(key.parts(), key);
+    }
+
+    /**
+     * Creates a path with the same parts as the given key
+     * @throws IllegalArgumentException Key has no parts
+     */
+    @Contract("_ -> new")
+    public static @NotNull TomlPath of(@NotNull TomlKey key) throws IllegalArgumentException {
+        final int len = key.size();
+        if (len == 0) throw new IllegalArgumentException("Cannot create path from empty (zero part) key");
+        String[] parts = new String[len];
+        int i = 0;
+        for (String part : key) parts[i++] = part;
+        return new TomlPath(parts, null);
+    }
+
+    //
+
+    private final String[] parts;
+    private final int hash;
+    private TomlKey key;
+
+    private TomlPath(@NotNull String @NotNull [] parts, TomlKey key) {
+        this.parts = parts;
+        this.hash = Arrays.hashCode(parts);
+        this.key = key;
+    }
+
+    //
+
+    /**
+     * Provides the number of parts in this path.
+     * This is always at least 1.
+     */
+    public int size() {
+        return this.parts.length;
+    }
+
+    /**
+     * Gets the Nth part of this path
+     * @throws IndexOutOfBoundsException Index is less than 0 or not less than {@link #size()}
+     */
+    public @NotNull String get(int index) throws IndexOutOfBoundsException {
+        return this.parts[index];
+    }
+
+    /**
+     * Provides a {@link TomlKey} with the same parts as this path
+     */
+    public @NotNull TomlKey toKey() {
+        TomlKey ret = this.key;
+        if (ret == null) {
+            ret = new ArrayTomlKey(this.parts);
+            this.key = ret;
+        }
+        return ret;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof TomlPath)) return false;
+        TomlPath other = (TomlPath) obj;
+        return this.hash == other.hash && Arrays.equals(this.parts, other.parts);
+    }
+
+    /**
+     * Serializes this path into a TOML-compatible form,
+     * as in {@link TomlKey#toString()}
+     */
+    @Override
+    public @NotNull String toString() {
+        return this.toKey().toString();
+    }
+
+}
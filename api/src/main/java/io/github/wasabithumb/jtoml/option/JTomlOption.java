@@ -200,6 +200,18 @@ public interface JTomlOption<T> {
             StandardKeyConvention.LITERAL
     );
 
+    /**
+     * If true, large documents are rendered on the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, with separate
+     * tables and runs of array-of-tables elements written concurrently. The output is
+     * identical to that of a sequential write.
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    Bool PARALLEL_WRITE = of(
+            "PARALLEL_WRITE",
+            false
+    );
+
     //
 
     /**
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value;
+
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ *     Computes {@link TomlValue#fingerprint() content fingerprints}. Fingerprints are built
+ *     bottom-up like a Merkle tree, so containers may cache them.
+ * </p>
+ * <p>
+ *     Mutable containers which cache their fingerprint implement {@link Observable}, and register
+ *     the containers which hold them as {@link Holder holders}. A modification clears the cached
+ *     fingerprint and notifies the holders, which do the same; propagation stops at the first container
+ *     whose fingerprint is not cached, since everything above it is necessarily not cached either.
+ * </p>
+ */
+@ApiStatus.Internal
+public final class TomlFingerprints {
+
+    private static final long SEED_PRIMITIVE = 0x5DE7C5A1D6F2B4A3L;
+    private static final long SEED_ARRAY = 0x3C6EF372FE94F82BL;
+    private static final long SEED_TABLE = 0xA54FF53A5F1D36F1L;
+
+    //
+
+    /** Computes the fingerprint of a primitive, consistent with {@link Object#equals(Object)} */
+    public static long ofPrimitive(@NotNull TomlPrimitive primitive) {
+        long h = mix(SEED_PRIMITIVE, primitive.type().ordinal());
+        Serializable value = primitive.value();
+        if (value instanceof Long) {
+            return mix(h, (Long) value);
+        } else if (value instanceof Double) {
+            return mix(h, Double.doubleToLongBits((Double) value));
+        } else if (value instanceof Boolean) {
+            return mix(h, ((Boolean) value) ? 1L : 0L);
+        } else if (value instanceof CharSequence) {
+            return mix(h, ofString((CharSequence) value));
+        } else {
+            // Date & time types have a canonical string form
+            return mix(h, ofString(value.toString()));
+        }
+    }
+
+    /** Computes the fingerprint of an array from the fingerprints of its elements */
+    public static long ofArray(@NotNull Iterable<? extends TomlValue> elements) {
+        long h = SEED_ARRAY;
+        int count = 0;
+        for (TomlValue element : elements) {
+            h = mix(h, element.fingerprint());
+            count++;
+        }
+        return mix(h, count);
+    }
+
+    /** Begins the fingerprint of a table; see {@link #tableEntry(long, String, long)} */
+    public static long tableStart() {
+        return SEED_TABLE;
+    }
+
+    /** Adds an entry to the fingerprint of a table. Entries must be added in label order. */
+    public static long tableEntry(long h, @NotNull String label, long value) {
+        return mix(mix(h, ofString(label)), value);
+    }
+
+    /** Completes the fingerprint of a table */
+    public static long tableEnd(long h, int count) {
+        return mix(h, count);
+    }
+
+    public static long ofString(@NotNull CharSequence s) {
+        final int len = s.length();
+        long h = 0xCBF29CE484222325L;
+        for (int i=0; i < len; i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return fmix(h ^ len);
+    }
+
+    private static long mix(long h, long x) {
+        return fmix(h ^ (fmix(x) + 0x9E3779B97F4A7C15L + (h << 6) + (h >>> 2)));
+    }
+
+    /** MurmurHash3 finalizer */
+    private static long fmix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    //
+
+    /**
+     * Registers the given holder with the given value. Tables which delegate to another table
+     * are registered through their delegate.
+     * @return False if modifications to the value cannot be observed, in which case the holder
+     * must not cache its fingerprint.
+     */
+    public static boolean attach(@NotNull Holder holder, @NotNull TomlValue value) {
+        if (value.isPrimitive()) return true;
+        if (value.isTable()) value = value.asTable().unwrap();
+        if (!(value instanceof Observable)) return false;
+        Observable observable = (Observable) value;
+        observable.addHolder(holder);
+        return observable.isTracked();
+    }
+
+    /** Unregisters the given holder from the given value */
+    public static void detach(@NotNull Holder holder, @NotNull TomlValue value) {
+        if (value.isPrimitive()) return;
+        if (value.isTable()) value = value.asTable().unwrap();
+        if (value instanceof Observable) ((Observable) value).removeHolder(holder);
+    }
+
+    //
+
+    private TomlFingerprints() { }
+
+    //
+
+    /**
+     * A container which caches its fingerprint and must be notified
+     * when the content of a value it holds changes.
+     */
+    @ApiStatus.Internal
+    public interface Holder {
+
+        /** Called when the content of a held value has changed */
+        void contentModified();
+
+        /**
+         * Called when a held value has come to hold content whose modifications cannot
+         * be observed. The holder must stop caching its fingerprint.
+         */
+        void contentUntracked();
+
+    }
+
+    /**
+     * A value whose modifications can be observed by {@link Holder holders}.
+     * Immutable values implement this without retaining their holders.
+     */
+    @ApiStatus.Internal
+    public interface Observable {
+
+        void addHolder(@NotNull Holder holder);
+
+        void removeHolder(@NotNull Holder holder);
+
+        /** False if this value holds content whose modifications cannot be observed */
+        boolean isTracked();
+
+    }
+
+}
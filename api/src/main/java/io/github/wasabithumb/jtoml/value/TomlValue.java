@@ -19,6 +19,7 @@ package io.github.wasabithumb.jtoml.value;
 import io.github.wasabithumb.jtoml.comment.Comments;
 import io.github.wasabithumb.jtoml.value.array.TomlArray;
 import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
 import io.github.wasabithumb.jtoml.value.table.TomlTable;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
@@ -52,6 +53,26 @@ public interface TomlValue {
         }
     }
 
+    /**
+     * Returns an immutable deep copy of the provided value. Tables become
+     * {@link ImmutableTomlTable immutable tables}, and arrays and primitives become
+     * immutable as specified by {@link TomlArray#immutableCopyOf(Iterable)} and
+     * {@link TomlPrimitive#immutableCopyOf(TomlPrimitive)}. Values which are already immutable
+     * are returned as-is, so this is cheap for values obtained from an immutable table.
+     * @see TomlTable#freeze()
+     */
+    @Contract("_ -> !null")
+    @ApiStatus.AvailableSince("1.6.0")
+    static @NotNull TomlValue immutableCopyOf(@NotNull TomlValue other) {
+        if (other.isTable()) {
+            return ImmutableTomlTable.copyOf(other.asTable());
+        } else if (other.isArray()) {
+            return TomlArray.immutableCopyOf(other.asArray());
+        } else {
+            return TomlPrimitive.immutableCopyOf(other.asPrimitive());
+        }
+    }
+
     //
 
     /**
@@ -80,6 +101,25 @@ public interface TomlValue {
     @Contract("_ -> this")
     @NotNull TomlValue flags(int flags);
 
+    /**
+     * <p>
+     *     Provides a 64-bit fingerprint of the content of this value. Values with equal content
+     *     always have equal fingerprints; values with different content have different fingerprints
+     *     with overwhelming probability. Comments, flags and creation times are not part of the content.
+     * </p>
+     * <p>
+     *     Tables and arrays cache their fingerprint, and modifications clear the cached fingerprints
+     *     of every container above them; comparing the fingerprints of unmodified values is therefore
+     *     constant time.
+     * </p>
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default long fingerprint() {
+        if (this.isPrimitive()) return TomlFingerprints.ofPrimitive(this.asPrimitive());
+        if (this.isArray()) return TomlFingerprints.ofArray(this.asArray());
+        return this.asTable().fingerprint();
+    }
+
     /**
      * Accesses the comments stored on this value
      */
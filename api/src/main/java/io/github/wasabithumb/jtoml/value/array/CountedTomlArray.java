@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.array;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * An array which keeps count of the kinds of its elements as they are added and
+ * removed, so that writers can tell an array of tables or an array of primitives
+ * apart without scanning it.
+ */
+@ApiStatus.Internal
+public interface CountedTomlArray extends TomlArray {
+
+    /** Number of elements which are tables */
+    int tableCount();
+
+    /** Number of elements which are primitives */
+    int primitiveCount();
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.array;
+
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.value.TomlFingerprints;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * An array whose elements (and their descendants) are immutable.
+ * @see TomlArray#immutableCopyOf(Iterable)
+ */
+@ApiStatus.Internal
+final class ImmutableTomlArray implements CountedTomlArray, TomlFingerprints.Observable {
+
+    static @NotNull ImmutableTomlArray copyOf(@NotNull Iterable<? extends TomlValue> src) {
+        if (src instanceof ImmutableTomlArray) return (ImmutableTomlArray) src;
+
+        TomlValue[] elements;
+        if (src instanceof TomlArray) {
+            TomlArray other = (TomlArray) src;
+            final int len = other.size();
+            elements = new TomlValue[len];
+            for (int i=0; i < len; i++) elements[i] = TomlValue.immutableCopyOf(other.get(i));
+            return new ImmutableTomlArray(
+                    other.creationTime(),
+                    Comments.immutableCopyOf(other.comments()),
+                    (byte) other.flags(),
+                    elements
+            );
+        }
+
+        TomlArray tmp = TomlArray.create();
+        for (TomlValue tv : src) tmp.add(tv);
+        elements = new TomlValue[tmp.size()];
+        for (int i=0; i < elements.length; i++) elements[i] = TomlValue.immutableCopyOf(tmp.get(i));
+        return new ImmutableTomlArray(System.nanoTime(), Comments.immutableCopyOf(Comments.empty()), (byte) 0, elements);
+    }
+
+    //
+
+    private final long creationTime;
+    private final Comments comments;
+    private final byte flags;
+    private final TomlValue[] elements;
+    private final int tableCount;
+    private final int primitiveCount;
+    private volatile long fingerprint;
+
+    private ImmutableTomlArray(
+            long creationTime,
+            @NotNull Comments comments,
+            byte flags,
+            @NotNull TomlValue @NotNull [] elements
+    ) {
+        this.creationTime = creationTime;
+        this.comments = comments;
+        this.flags = flags;
+        this.elements = elements;
+
+        int tableCount = 0;
+        int primitiveCount = 0;
+        for (TomlValue element : elements) {
+            if (element.isTable()) {
+                tableCount++;
+            } else if (element.isPrimitive()) {
+                primitiveCount++;
+            }
+        }
+        this.tableCount = tableCount;
+        this.primitiveCount = primitiveCount;
+    }
+
+    //
+
+    @Override
+    public long creationTime() {
+        return this.creationTime;
+    }
+
+    @Override
+    public int flags() {
+        return this.flags & 0xFF;
+    }
+
+    @Override
+    public @NotNull TomlArray flags(int flags) {
+        throw new UnsupportedOperationException("Array is immutable");
+    }
+
+    @Override
+    public @NotNull Comments comments() {
+        return this.comments;
+    }
+
+    @Override
+    public int size() {
+        return this.elements.length;
+    }
+
+    @Override
+    public @NotNull TomlValue get(int index) throws IndexOutOfBoundsException {
+        return this.elements[index];
+    }
+
+    @Override
+    public void add(TomlValue value) {
+        throw new UnsupportedOperationException("Array is immutable");
+    }
+
+    @Override
+    public @NotNull TomlValue remove(int index) throws IndexOutOfBoundsException {
+        throw new UnsupportedOperationException("Array is immutable");
+    }
+
+    @Override
+    public @NotNull TomlValue set(int index, TomlValue value) throws IndexOutOfBoundsException {
+        throw new UnsupportedOperationException("Array is immutable");
+    }
+
+    @Override
+    public @NotNull Iterator<TomlValue> iterator() {
+        return Collections.unmodifiableList(Arrays.asList(this.elements)).iterator();
+    }
+
+    /** @implNote Zero is used to indicate that the fingerprint has not yet been computed */
+    @Override
+    public long fingerprint() {
+        long fingerprint = this.fingerprint;
+        if (fingerprint == 0L) this.fingerprint = fingerprint = TomlFingerprints.ofArray(Arrays.asList(this.elements));
+        return fingerprint;
+    }
+
+    @Override
+    public void addHolder(@NotNull TomlFingerprints.Holder holder) { }
+
+    @Override
+    public void removeHolder(@NotNull TomlFingerprints.Holder holder) { }
+
+    @Override
+    public boolean isTracked() {
+        return true;
+    }
+
+    @Override
+    public int tableCount() {
+        return this.tableCount;
+    }
+
+    @Override
+    public int primitiveCount() {
+        return this.primitiveCount;
+    }
+
+    @Override
+    public @NotNull TomlValue @NotNull [] toArray() {
+        return this.elements.clone();
+    }
+
+    @Override
+    public @NotNull String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i=0; i < this.elements.length; i++) {
+            if (i != 0) sb.append(", ");
+            sb.append(this.elements[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+}
@@ -55,6 +55,18 @@ public interface TomlArray extends Iterable<TomlValue>, RandomAccess, TomlValue
         return TomlArrayImpl.copyOf(array);
     }
 
+    /**
+     * Provides an immutable deep copy of the provided array. Elements are
+     * copied as specified by {@link TomlValue#immutableCopyOf(TomlValue)}, and attempts to
+     * modify the returned array will raise {@link UnsupportedOperationException}.
+     * If the provided array is already immutable, it is returned as-is.
+     */
+    @Contract("_ -> !null")
+    @ApiStatus.AvailableSince("1.6.0")
+    static @NotNull TomlArray immutableCopyOf(@NotNull Iterable<? extends TomlValue> array) {
+        return ImmutableTomlArray.copyOf(array);
+    }
+
     //
 
     /**
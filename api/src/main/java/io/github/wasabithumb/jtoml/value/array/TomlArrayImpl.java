@@ -17,24 +17,22 @@
 package io.github.wasabithumb.jtoml.value.array;
 
 import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.value.TomlFingerprints;
 import io.github.wasabithumb.jtoml.value.TomlValue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.List;
+import java.util.*;
 
 @ApiStatus.Internal
-final class TomlArrayImpl implements TomlArray {
+final class TomlArrayImpl implements CountedTomlArray, TomlFingerprints.Holder, TomlFingerprints.Observable {
 
     static @NotNull TomlArrayImpl copyOf(@NotNull Iterable<? extends TomlValue> src) {
         TomlArrayImpl ret;
 
         if (src instanceof TomlArray) {
-            TomlArrayImpl other = (TomlArrayImpl) src;
-            ret = new TomlArrayImpl(other.backing.size(), Comments.copyOf(other.comments));
+            TomlArray other = (TomlArray) src;
+            ret = new TomlArrayImpl(other.size(), Comments.copyOf(other.comments()));
         } else if (src instanceof Collection<?>) {
             ret = new TomlArrayImpl(((Collection<?>) src).size());
         } else {
@@ -42,7 +40,10 @@ final class TomlArrayImpl implements TomlArray {
         }
 
         for (TomlValue tv : src) {
-            ret.backing.add(TomlValue.copyOf(tv));
+            TomlValue copy = TomlValue.copyOf(tv);
+            ret.attach(copy);
+            ret.count(copy, 1);
+            ret.backing.add(copy);
         }
 
         return ret;
@@ -53,13 +54,25 @@ final class TomlArrayImpl implements TomlArray {
     private final long creationTime;
     private final List<TomlValue> backing;
     private final Comments comments;
+    private int tableCount;
+    private int primitiveCount;
     private transient byte flags;
+    private transient Set<TomlFingerprints.Holder> holders;
+    private transient long fingerprint;
+    private transient boolean fingerprinted;
+    private transient boolean untracked;
 
     private TomlArrayImpl(int initialCapacity, @NotNull Comments comments) {
         this.creationTime = System.nanoTime();
         this.backing = new ArrayList<>(initialCapacity);
         this.comments = comments;
+        this.tableCount = 0;
+        this.primitiveCount = 0;
         this.flags = 0;
+        this.holders = null;
+        this.fingerprint = 0L;
+        this.fingerprinted = false;
+        this.untracked = false;
     }
 
     TomlArrayImpl(int initialCapacity) {
@@ -107,24 +120,111 @@ final class TomlArrayImpl implements TomlArray {
     public void add(TomlValue value) {
         if (value == null) throw new NullPointerException("Cannot add null to TomlArray");
         this.backing.add(value);
+        this.attach(value);
+        this.count(value, 1);
+        this.contentModified();
     }
 
     @Override
     public @NotNull TomlValue remove(int index) throws IndexOutOfBoundsException {
-        return this.backing.remove(index);
+        TomlValue old = this.backing.remove(index);
+        TomlFingerprints.detach(this, old);
+        this.count(old, -1);
+        this.contentModified();
+        return old;
     }
 
     @Override
     public @NotNull TomlValue set(int index, TomlValue value) throws IndexOutOfBoundsException {
         if (value == null) throw new NullPointerException("Cannot insert null into TomlArray");
-        return this.backing.set(index, value);
+        TomlValue old = this.backing.set(index, value);
+        TomlFingerprints.detach(this, old);
+        this.count(old, -1);
+        this.attach(value);
+        this.count(value, 1);
+        this.contentModified();
+        return old;
     }
 
     @Override
     public @NotNull Iterator<TomlValue> iterator() {
-        return this.backing.iterator();
+        return new Iter(this.backing.iterator());
     }
 
+    @Override
+    public long fingerprint() {
+        if (this.fingerprinted) return this.fingerprint;
+        long fingerprint = TomlFingerprints.ofArray(this.backing);
+        if (!this.untracked) {
+            this.fingerprint = fingerprint;
+            this.fingerprinted = true;
+        }
+        return fingerprint;
+    }
+
+    @Override
+    public int tableCount() {
+        return this.tableCount;
+    }
+
+    @Override
+    public int primitiveCount() {
+        return this.primitiveCount;
+    }
+
+    private void count(@NotNull TomlValue value, int delta) {
+        if (value.isTable()) {
+            this.tableCount += delta;
+        } else if (value.isPrimitive()) {
+            this.primitiveCount += delta;
+        }
+    }
+
+    private void attach(@NotNull TomlValue value) {
+        if (!TomlFingerprints.attach(this, value)) this.contentUntracked();
+    }
+
+    // START Fingerprint Super
+
+    @Override
+    public void contentModified() {
+        if (!this.fingerprinted) return;
+        this.fingerprinted = false;
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders == null) return;
+        for (TomlFingerprints.Holder holder : holders) holder.contentModified();
+    }
+
+    @Override
+    public void contentUntracked() {
+        if (this.untracked) return;
+        this.untracked = true;
+        this.fingerprinted = false;
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders == null) return;
+        for (TomlFingerprints.Holder holder : holders) holder.contentUntracked();
+    }
+
+    @Override
+    public void addHolder(@NotNull TomlFingerprints.Holder holder) {
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders == null) this.holders = holders = Collections.newSetFromMap(new WeakHashMap<>());
+        holders.add(holder);
+    }
+
+    @Override
+    public void removeHolder(@NotNull TomlFingerprints.Holder holder) {
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders != null) holders.remove(holder);
+    }
+
+    @Override
+    public boolean isTracked() {
+        return !this.untracked;
+    }
+
+    // END Fingerprint Super
+
     @Override
     public @NotNull String toString() {
         StringBuilder sb = new StringBuilder("[");
@@ -135,4 +235,38 @@ final class TomlArrayImpl implements TomlArray {
         sb.append("]");
         return sb.toString();
     }
+
+    //
+
+    /** Reports removals made through the iterator */
+    private final class Iter implements Iterator<TomlValue> {
+
+        private final Iterator<TomlValue> backing;
+        private TomlValue last;
+
+        Iter(@NotNull Iterator<TomlValue> backing) {
+            this.backing = backing;
+            this.last = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.backing.hasNext();
+        }
+
+        @Override
+        public TomlValue next() {
+            return this.last = this.backing.next();
+        }
+
+        @Override
+        public void remove() {
+            this.backing.remove();
+            TomlFingerprints.detach(TomlArrayImpl.this, this.last);
+            TomlArrayImpl.this.count(this.last, -1);
+            TomlArrayImpl.this.contentModified();
+        }
+
+    }
+
 }
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.primitive;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * Formats doubles as the shortest decimal which uniquely identifies them, using
+ * the Schubfach algorithm described by Raffaello Giulietti in
+ * <a href="https://drive.google.com/file/d/1gp5xv4CAa78SVgCeWfGqqI4FfYYYuNFb">
+ * The Schubfach way to render doubles</a>. Output is always a valid TOML float;
+ * magnitudes from {@code 1e-7} up to {@code 1e21} are written in plain notation
+ * with at least one fractional digit, and all others in exponent notation.
+ */
+@ApiStatus.Internal
+final class FloatFormat {
+
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long T_MASK = C_MIN - 1L;
+    private static final int BQ_MASK = 0x7FF;
+    private static final int C_TINY = 3;
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long MASK_63 = 0x7FFFFFFFFFFFFFFFL;
+
+    /** Most significant decimal exponent written in plain notation */
+    private static final int PLAIN_MAX = 20;
+    /** Least significant decimal exponent written in plain notation */
+    private static final int PLAIN_MIN = -7;
+
+    private FloatFormat() { }
+
+    //
+
+    static @NotNull String format(double v) {
+        final long bits = Double.doubleToRawLongBits(v);
+        final long t = bits & T_MASK;
+        final int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+
+        if (bq == BQ_MASK) {
+            if (t != 0L) return "nan";
+            return bits < 0L ? "-inf" : "inf";
+        }
+
+        final boolean negative = bits < 0L;
+        if (bq != 0) {
+            // Normal value
+            final int mq = -Q_MIN + 1 - bq;
+            final long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                // Integers are exact
+                long f = c >> mq;
+                if (f << mq == c) return toChars(negative, f, 0);
+            }
+            return toDecimal(negative, -mq, c, 0);
+        }
+        if (t != 0L) {
+            // Subnormal value
+            return t < C_TINY ?
+                    toDecimal(negative, Q_MIN, 10L * t, -1) :
+                    toDecimal(negative, Q_MIN, t, 0);
+        }
+        return negative ? "-0.0" : "0.0";
+    }
+
+    private static @NotNull String toDecimal(boolean negative, int q, long c, int dk) {
+        final int out = (int) c & 1;
+        final long cb = c << 2;
+        final long cbr = cb + 2L;
+        final long cbl;
+        final int k;
+
+        if (c != C_MIN || q == Q_MIN) {
+            // Regular spacing
+            cbl = cb - 2L;
+            k = flog10pow2(q);
+        } else {
+            // Irregular spacing
+            cbl = cb - 1L;
+            k = flog10threeQuartersPow2(q);
+        }
+        final int h = q + flog2pow10(-k) + 2;
+
+        final int gi = (k - K_MIN) << 1;
+        final long g1 = Tables.G[gi];
+        final long g0 = Tables.G[gi + 1];
+
+        final long vb = rop(g1, g0, cb << h);
+        final long vbl = rop(g1, g0, cbl << h);
+        final long vbr = rop(g1, g0, cbr << h);
+
+        final long s = vb >> 2;
+        if (s >= 100L) {
+            // Try a candidate with one less digit
+            long sp10 = 10L * multiplyHigh(s, 115292150460684698L << 4);
+            long tp10 = sp10 + 10L;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) return toChars(negative, upin ? sp10 : tp10, k);
+        }
+
+        final long t = s + 1L;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win) return toChars(negative, uin ? s : t, k + dk);
+
+        // Both candidates are in range; pick the closest, or the even one on a tie
+        final long cmp = vb - ((s + t) << 1);
+        return toChars(negative, (cmp < 0L || (cmp == 0L && (s & 1L) == 0L)) ? s : t, k + dk);
+    }
+
+    /**
+     * Computes {@code round_to_odd(cp * g * 2^-127)} where {@code g = g1 * 2^63 + g0}
+     */
+    private static long rop(long g1, long g0, long cp) {
+        final long x1 = multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+    }
+
+    /**
+     * Renders {@code f * 10^e}
+     */
+    private static @NotNull String toChars(boolean negative, long f, int e) {
+        while (f % 10L == 0L && f != 0L) {
+            f /= 10L;
+            e++;
+        }
+
+        int n = 1;
+        for (long r = f / 10L; r != 0L; r /= 10L) n++;
+
+        // Exponent of the most significant digit
+        final int exp = n + e - 1;
+        final boolean plain = PLAIN_MIN <= exp && exp <= PLAIN_MAX;
+        char[] buf = new char[length(negative, n, exp, plain)];
+        int pos = 0;
+        if (negative) buf[pos++] = '-';
+
+        if (plain) {
+            if (exp < 0) {
+                buf[pos++] = '0';
+                buf[pos++] = '.';
+                for (int i = -1; i > exp; i--) buf[pos++] = '0';
+                pos = putDigits(buf, pos, f, n, n);
+            } else if (n <= exp + 1) {
+                pos = putDigits(buf, pos, f, n, n);
+                for (int i = n; i <= exp; i++) buf[pos++] = '0';
+                buf[pos++] = '.';
+                buf[pos++] = '0';
+            } else {
+                pos = putDigits(buf, pos, f, n, exp + 1);
+            }
+        } else {
+            pos = putDigits(buf, pos, f, n, 1);
+            buf[pos++] = 'e';
+            int x = exp;
+            if (x < 0) {
+                buf[pos++] = '-';
+                x = -x;
+            }
+            if (x >= 100) buf[pos++] = (char) ('0' + (x / 100));
+            if (x >= 10) buf[pos++] = (char) ('0' + ((x / 10) % 10));
+            buf[pos++] = (char) ('0' + (x % 10));
+        }
+
+        return new String(buf);
+    }
+
+    /**
+     * Computes the number of chars written by {@link #toChars(boolean, long, int)} for
+     * {@code n} significant digits with the most significant at decimal exponent {@code exp}
+     */
+    private static int length(boolean negative, int n, int exp, boolean plain) {
+        int len = negative ? 1 : 0;
+        if (plain) {
+            if (exp < 0) {
+                // 0.000ddd
+                len += 1 - exp + n;
+            } else if (n <= exp + 1) {
+                // ddd000.0
+                len += exp + 3;
+            } else {
+                // ddd.ddd
+                len += n + 1;
+            }
+        } else {
+            // d.ddde-xxx
+            len += (n == 1 ? 1 : n + 1) + 1;
+            int x = exp;
+            if (x < 0) {
+                len++;
+                x = -x;
+            }
+            len += x >= 100 ? 3 : (x >= 10 ? 2 : 1);
+        }
+        return len;
+    }
+
+    /**
+     * Writes the {@code n} digits of {@code f} at {@code pos}, with a decimal point after
+     * the first {@code point} digits if {@code point < n}. Returns the new position.
+     */
+    private static int putDigits(char[] buf, int pos, long f, int n, int point) {
+        final int end = point < n ? pos + n + 1 : pos + n;
+        int i = end;
+        for (int d = n; d > 0; d--) {
+            if (d == point && point < n) buf[--i] = '.';
+            buf[--i] = (char) ('0' + (int) (f % 10L));
+            f /= 10L;
+        }
+        return end;
+    }
+
+    //
+
+    /** Computes {@code floor(e * log10(2))} */
+    private static int flog10pow2(int e) {
+        return (int) ((e * 661971961083L) >> 41);
+    }
+
+    /** Computes {@code floor(e * log10(2) + log10(3/4))} */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) ((e * 661971961083L - 274743187321L) >> 41);
+    }
+
+    /** Computes {@code floor(e * log2(10))} */
+    private static int flog2pow10(int e) {
+        return (int) ((e * 913124641741L) >> 38);
+    }
+
+    /** Upper 64 bits of the 128-bit product of two signed longs */
+    private static long multiplyHigh(long x, long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        final long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    //
+
+    /**
+     * Holds the 126-bit approximations of {@code 10^-k} for each {@code k} in
+     * {@code [K_MIN, K_MAX]}, as pairs of the upper 63 and lower 63 bits. Each is
+     * {@code floor(10^-k * 2^-r) + 1} where {@code r = flog2pow10(-k) - 125}.
+     */
+    private static final class Tables {
+
+        static final long[] G;
+        static {
+            final int count = K_MAX - K_MIN + 1;
+            final BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+            long[] g = new long[count << 1];
+
+            int e;
+            int shift;
+            BigInteger beta;
+            for (int i = 0; i < count; i++) {
+                e = -(K_MIN + i);
+                shift = 125 - flog2pow10(e);
+                if (e >= 0) {
+                    beta = BigInteger.TEN.pow(e);
+                    beta = shift >= 0 ? beta.shiftLeft(shift) : beta.shiftRight(-shift);
+                } else {
+                    beta = BigInteger.ONE.shiftLeft(shift).divide(BigInteger.TEN.pow(-e));
+                }
+                beta = beta.add(BigInteger.ONE);
+                g[i << 1] = beta.shiftRight(63).longValue();
+                g[(i << 1) + 1] = beta.and(mask).longValue();
+            }
+            G = g;
+        }
+
+    }
+
+}
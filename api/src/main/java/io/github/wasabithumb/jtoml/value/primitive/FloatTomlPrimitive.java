@@ -20,8 +20,6 @@ import io.github.wasabithumb.jtoml.comment.Comments;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
-import java.text.NumberFormat;
-import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,20 +29,8 @@ final class FloatTomlPrimitive extends AbstractTomlPrimitive<Double> {
     private static final Pattern PARSE_PATTERN =
             Pattern.compile("^([-+]?(?:inf|nan))|([-+]?)([1-9]\\d*)(?:\\.(\\d+))?(?:e([-+]?\\d+))?$");
 
-    private static final ThreadLocal<NumberFormat> NUMBER_FORMAT = ThreadLocal.withInitial(() -> {
-        NumberFormat df = NumberFormat.getInstance(Locale.ROOT);
-        df.setMaximumFractionDigits(15);
-        df.setMinimumFractionDigits(1);
-        df.setGroupingUsed(false);
-        return df;
-    });
-
     private static @NotNull String autoChars(double value) {
-        if (value == Double.POSITIVE_INFINITY) return "inf";
-        if (value == Double.NEGATIVE_INFINITY) return "-inf";
-        if (Double.isNaN(value)) return "nan";
-        if (Double.doubleToLongBits(value) == -9223372036854775808L) return "-0.0";
-        return NUMBER_FORMAT.get().format(value);
+        return FloatFormat.format(value);
     }
 
     static @NotNull FloatTomlPrimitive parse(@NotNull String string) throws IllegalArgumentException {
@@ -64,34 +50,8 @@ final class FloatTomlPrimitive extends AbstractTomlPrimitive<Double> {
             }
         }
 
-        boolean negative = false;
-        String signText = m.group(2);
-        if (signText != null && !signText.isEmpty()) {
-            negative = signText.charAt(0) == '-';
-        }
-
-        long intPart = Long.parseLong(m.group(3));
-        double frac = 0d;
-        String fracText = m.group(4);
-        if (fracText != null && !fracText.isEmpty()) {
-            frac = Double.parseDouble("0." + fracText);
-        }
-
-        long exp = 0L;
-        String expText = m.group(5);
-        if (expText != null && !expText.isEmpty()) {
-            exp = Long.parseLong(expText);
-        }
-
-        double ret;
-        if (exp != 0L) {
-            double scale = Math.pow(10, exp);
-            ret = (scale * intPart) + (scale * frac);
-        } else {
-            ret = ((double) intPart) + frac;
-        }
-        if (negative) ret = -ret;
-        return new FloatTomlPrimitive(ret, string);
+        // The pattern admits only what Double#parseDouble also accepts
+        return new FloatTomlPrimitive(Double.parseDouble(string), string);
     }
 
     //
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.primitive;
+
+import io.github.wasabithumb.jtoml.comment.Comments;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A primitive which shares the (immutable) value of another primitive,
+ * but has immutable comments and flags of its own.
+ * @see TomlPrimitive#immutableCopyOf(TomlPrimitive)
+ */
+@ApiStatus.Internal
+final class ImmutableTomlPrimitive extends AbstractTomlPrimitive<Serializable> {
+
+    static @NotNull ImmutableTomlPrimitive copyOf(@NotNull TomlPrimitive other) {
+        if (other instanceof ImmutableTomlPrimitive) return (ImmutableTomlPrimitive) other;
+        return new ImmutableTomlPrimitive((AbstractTomlPrimitive<?>) other);
+    }
+
+    //
+
+    private final AbstractTomlPrimitive<?> source;
+
+    private ImmutableTomlPrimitive(@NotNull AbstractTomlPrimitive<?> source) {
+        super(Comments.immutableCopyOf(source.comments()));
+        this.source = source;
+        this.flags = (byte) source.flags();
+    }
+
+    //
+
+    @Override
+    public long creationTime() {
+        return this.source.creationTime();
+    }
+
+    @Override
+    public @NotNull TomlPrimitive flags(int flags) {
+        throw new UnsupportedOperationException("Primitive is immutable");
+    }
+
+    @Override
+    public @NotNull TomlPrimitiveType type() {
+        return this.source.type();
+    }
+
+    @Override
+    public @NotNull Serializable value() {
+        return this.source.value();
+    }
+
+    @Override
+    @NotNull ZoneOffset temporalOffset() throws UnsupportedOperationException {
+        return this.source.temporalOffset();
+    }
+
+    @Override
+    public @NotNull String asString() {
+        return this.source.asString();
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return this.source.asBoolean();
+    }
+
+    @Override
+    public long asLong() {
+        return this.source.asLong();
+    }
+
+    @Override
+    public double asDouble() {
+        return this.source.asDouble();
+    }
+
+    @Override
+    public @NotNull Instant asInstant() {
+        return this.source.asInstant();
+    }
+
+    @Override
+    public @NotNull OffsetDateTime asOffsetDateTime() {
+        return this.source.asOffsetDateTime();
+    }
+
+    @Override
+    public @NotNull LocalDateTime asLocalDateTime() {
+        return this.source.asLocalDateTime();
+    }
+
+    @Override
+    public @NotNull LocalDate asLocalDate() {
+        return this.source.asLocalDate();
+    }
+
+    @Override
+    public @NotNull LocalTime asLocalTime() {
+        return this.source.asLocalTime();
+    }
+
+}
@@ -230,6 +230,18 @@ public interface TomlPrimitive extends TomlValue {
         }
     }
 
+    /**
+     * Provides a primitive with the same value as the provided primitive,
+     * and an {@link Comments#immutableCopyOf(Comments) immutable copy} of its comments.
+     * The flags of the returned primitive cannot be changed.
+     * If the provided primitive is already immutable, it is returned as-is.
+     */
+    @Contract("_ -> !null")
+    @ApiStatus.AvailableSince("1.6.0")
+    static @NotNull TomlPrimitive immutableCopyOf(@NotNull TomlPrimitive other) {
+        return ImmutableTomlPrimitive.copyOf(other);
+    }
+
     /**
      * Parses a float string into a
      * {@link TomlPrimitive} with type {@link TomlPrimitiveType#FLOAT FLOAT}.
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.*;
+
+import java.util.Set;
+
+/**
+ * Base for read-only tables whose entries are resolved on demand from some
+ * other representation, such as a binary snapshot. Subclasses expose a single
+ * level of sorted entries; lookups, key views, cursors and fingerprints are
+ * derived from it. The content of a view must never change.
+ */
+@ApiStatus.Internal
+public abstract class AbstractTomlTableView implements TomlTable, TomlTableLevel {
+
+    @Contract("-> fail")
+    private static UnsupportedOperationException readOnly() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Table is read-only");
+    }
+
+    //
+
+    private volatile long fingerprint = 0L;
+
+    protected AbstractTomlTableView() { }
+
+    //
+
+    /** Number of entries at this level */
+    @Override
+    public abstract int levelSize();
+
+    /** Label of the entry at the given index; labels are sorted as by {@link String#compareTo(String)} */
+    @Override
+    public abstract @NotNull String levelLabel(int index);
+
+    /** Value of the entry at the given index */
+    @Override
+    public abstract @NotNull TomlValue levelValue(int index);
+
+    /**
+     * Finds the index of the entry with the given label, with the same return convention as
+     * {@link java.util.Arrays#binarySearch(Object[], Object) Arrays#binarySearch}.
+     * Subclasses may override this to avoid materializing labels.
+     */
+    protected int levelIndexOf(@NotNull String label) {
+        int lo = 0;
+        int hi = this.levelSize() - 1;
+        int mid;
+        int cmp;
+        while (lo <= hi) {
+            mid = (lo + hi) >>> 1;
+            cmp = this.levelLabel(mid).compareTo(label);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    @Override
+    public final @Nullable TomlTableLevel levelChild(int index) {
+        TomlValue value = this.levelValue(index);
+        return value.isTable() ? TomlTableImpl.levelOf(value.asTable()) : null;
+    }
+
+    @Override
+    public final int levelModCount() {
+        return 0;
+    }
+
+    @Override
+    public final long levelFingerprint() {
+        long ret = this.fingerprint;
+        if (ret == 0L) this.fingerprint = ret = TomlTableLevel.super.levelFingerprint();
+        return ret;
+    }
+
+    @Override
+    public final boolean levelFingerprinted() {
+        return this.fingerprint != 0L;
+    }
+
+    //
+
+    @Override
+    public int flags() {
+        return 0;
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public final @NotNull TomlTable flags(int flags) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    @Contract("-> fail")
+    public final void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Set<TomlKey> keys(boolean deep) {
+        return new TomlKeySet(this, deep);
+    }
+
+    @Override
+    public boolean contains(@NotNull TomlKey key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public @Nullable TomlValue get(@NotNull TomlKey key) {
+        final int len = key.size();
+        if (len == 0) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
+
+        AbstractTomlTableView head = this;
+        int idx;
+        TomlValue next;
+        for (int i=0; i < (len - 1); i++) {
+            idx = head.levelIndexOf(key.get(i));
+            if (idx < 0) return null;
+            next = head.levelValue(idx);
+            if (!next.isTable()) return null;
+            if (!(next instanceof AbstractTomlTableView)) return next.asTable().get(key.slice(i + 1, len));
+            head = (AbstractTomlTableView) next;
+        }
+
+        idx = head.levelIndexOf(key.get(len - 1));
+        return idx < 0 ? null : head.levelValue(idx);
+    }
+
+    @Override
+    @Contract("_, _ -> fail")
+    public final @Nullable TomlValue put(@NotNull TomlKey key, @NotNull TomlValue value) {
+        throw readOnly();
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public final @Nullable TomlValue remove(@NotNull TomlKey key) {
+        throw readOnly();
+    }
+
+}
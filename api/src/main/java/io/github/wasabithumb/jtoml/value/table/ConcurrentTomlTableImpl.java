@@ -0,0 +1,355 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe table. Each level is a {@link ConcurrentSkipListMap}, so reads never lock and writes
+ * are CAS-based per level. Entry counts are propagated to ancestors atomically; see {@link Branch}.
+ */
+@ApiStatus.Internal
+final class ConcurrentTomlTableImpl implements TomlTable {
+
+    @Contract("null -> null; !null -> !null")
+    private static TomlValue wrap(Object node) {
+        if (node == null) return null;
+        if (node instanceof Branch) return ((Branch) node).view();
+        return (TomlValue) node;
+    }
+
+    //
+
+    private final Branch branch;
+
+    private ConcurrentTomlTableImpl(@NotNull Branch branch) {
+        this.branch = branch;
+    }
+
+    ConcurrentTomlTableImpl() {
+        this(new Branch(null, System.nanoTime(), Comments.empty()));
+    }
+
+    //
+
+    /** Provides a weakly consistent traversal level for this table */
+    @NotNull TomlTableLevel level() {
+        return new Level(this.branch);
+    }
+
+    @Override
+    public long creationTime() {
+        return this.branch.creationTime;
+    }
+
+    @Override
+    public int flags() {
+        return this.branch.flags & 0xFF;
+    }
+
+    @Override
+    public @NotNull TomlTable flags(int flags) {
+        this.branch.flags = (byte) flags;
+        return this;
+    }
+
+    @Override
+    public @NotNull Comments comments() {
+        return this.branch.comments;
+    }
+
+    @Override
+    public int size() {
+        return this.branch.count();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.branch.count() == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (String label : this.branch.map.keySet()) this.branch.remove(label);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Set<TomlKey> keys(boolean deep) {
+        return new TomlKeySet(this, deep);
+    }
+
+    @Override
+    public boolean contains(@NotNull TomlKey key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public @Nullable TomlValue get(@NotNull TomlKey key) {
+        final int len = checkKey(key);
+        Branch head = this.branch;
+        Object node;
+        for (int i=0; i < (len - 1); i++) {
+            node = head.map.get(key.get(i));
+            if (!(node instanceof Branch)) return null;
+            head = (Branch) node;
+        }
+        return wrap(head.map.get(key.get(len - 1)));
+    }
+
+    @Override
+    public @Nullable TomlValue put(@NotNull TomlKey key, @NotNull TomlValue value) {
+        final int len = checkKey(key);
+        Branch head = this.branch;
+        for (int i=0; i < (len - 1); i++) head = head.descend(key.get(i));
+        return wrap(head.put(key.get(len - 1), value));
+    }
+
+    @Override
+    public @Nullable TomlValue remove(@NotNull TomlKey key) {
+        final int len = checkKey(key);
+        Branch head = this.branch;
+        Object node;
+        for (int i=0; i < (len - 1); i++) {
+            node = head.map.get(key.get(i));
+            if (!(node instanceof Branch)) return null;
+            head = (Branch) node;
+        }
+        return wrap(head.remove(key.get(len - 1)));
+    }
+
+    private static int checkKey(TomlKey key) {
+        if (key == null) throw new NullPointerException("Key may not be null");
+        final int len = key.size();
+        if (len == 0) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
+        return len;
+    }
+
+    //
+
+    /**
+     * One level of a concurrent table. The entry count of the subtree is held in {@link #state}
+     * as {@code (count << 1) | detached}. Updates add to the state of each ancestor in turn, stopping
+     * at the first branch which has been detached from its parent. Detaching a branch atomically sets
+     * its flag and subtracts the count observed at that moment from its ancestors, so concurrent
+     * updates are counted exactly once regardless of how they interleave with the detach.
+     */
+    private static final class Branch {
+
+        static @NotNull Branch copyOf(@Nullable Branch parent, @NotNull TomlTable source) {
+            Branch ret = new Branch(parent, source.creationTime(), Comments.copyOf(source.comments()));
+            ret.flags = (byte) source.flags();
+
+            TomlTableLevel level = TomlTableImpl.levelOf(source);
+            final int len = level.levelSize();
+            long count = 0L;
+            TomlValue value;
+            for (int i=0; i < len; i++) {
+                value = level.levelValue(i);
+                if (value.isTable()) {
+                    Branch child = copyOf(ret, value.asTable());
+                    ret.map.put(level.levelLabel(i), child);
+                    count += child.count();
+                } else {
+                    ret.map.put(level.levelLabel(i), value);
+                    count++;
+                }
+            }
+            ret.state.set(count << 1);
+            return ret;
+        }
+
+        //
+
+        final Branch parent;
+        final long creationTime;
+        final Comments comments;
+        final ConcurrentNavigableMap<String, Object> map;
+        final AtomicLong state;
+        volatile byte flags;
+        private volatile ConcurrentTomlTableImpl view;
+
+        Branch(@Nullable Branch parent, long creationTime, @NotNull Comments comments) {
+            this.parent = parent;
+            this.creationTime = creationTime;
+            this.comments = comments;
+            this.map = new ConcurrentSkipListMap<>();
+            this.state = new AtomicLong(0L);
+            this.flags = 0;
+            this.view = null;
+        }
+
+        //
+
+        @NotNull ConcurrentTomlTableImpl view() {
+            ConcurrentTomlTableImpl ret = this.view;
+            if (ret == null) {
+                ret = new ConcurrentTomlTableImpl(this);
+                this.view = ret;
+            }
+            return ret;
+        }
+
+        int count() {
+            long count = this.state.get() >> 1;
+            return (int) Math.max(0L, Math.min(Integer.MAX_VALUE, count));
+        }
+
+        void modify(long delta) {
+            if (delta == 0L) return;
+            Branch head = this;
+            while (head != null) {
+                long prev = head.state.getAndAdd(delta << 1);
+                if ((prev & 1L) != 0L) break;
+                head = head.parent;
+            }
+        }
+
+        void detach() {
+            long prev;
+            do {
+                prev = this.state.get();
+                if ((prev & 1L) != 0L) return;
+            } while (!this.state.compareAndSet(prev, prev | 1L));
+            if (this.parent != null) this.parent.modify(-(prev >> 1));
+        }
+
+        /** Gets or creates the branch mapped to the given label, replacing any leaf */
+        @NotNull Branch descend(@NotNull String label) {
+            Object node;
+            Branch created;
+            while (true) {
+                node = this.map.get(label);
+                if (node instanceof Branch) return (Branch) node;
+                created = new Branch(this, System.nanoTime(), Comments.empty());
+                if (node == null) {
+                    node = this.map.putIfAbsent(label, created);
+                    if (node == null) return created;
+                    if (node instanceof Branch) return (Branch) node;
+                } else if (this.map.replace(label, node, created)) {
+                    this.modify(-1L);
+                    return created;
+                }
+            }
+        }
+
+        @Nullable Object put(@NotNull String label, @NotNull TomlValue value) {
+            Object node;
+            long delta;
+            if (value.isTable()) {
+                Branch child = copyOf(this, value.asTable());
+                delta = child.state.get() >> 1;
+                node = child;
+            } else {
+                delta = 1L;
+                node = value;
+            }
+
+            Object prev = this.map.put(label, node);
+            if (prev instanceof Branch) {
+                ((Branch) prev).detach();
+            } else if (prev != null) {
+                delta--;
+            }
+            this.modify(delta);
+            return prev;
+        }
+
+        @Nullable Object remove(@NotNull String label) {
+            Object prev = this.map.remove(label);
+            if (prev instanceof Branch) {
+                ((Branch) prev).detach();
+            } else if (prev != null) {
+                this.modify(-1L);
+            }
+            return prev;
+        }
+
+    }
+
+    /** Weakly consistent snapshot of a single branch */
+    private static final class Level implements TomlTableLevel {
+
+        private final String[] labels;
+        private final Object[] nodes;
+
+        Level(@NotNull Branch branch) {
+            final int len = branch.map.size();
+            String[] labels = new String[len];
+            Object[] nodes = new Object[len];
+            int head = 0;
+            for (Map.Entry<String, Object> entry : branch.map.entrySet()) {
+                if (head == len) {
+                    // Grew since size was computed
+                    labels = grow(labels);
+                    nodes = grow(nodes);
+                }
+                labels[head] = entry.getKey();
+                nodes[head++] = entry.getValue();
+            }
+            this.labels = head == labels.length ? labels : shrink(labels, head);
+            this.nodes = head == nodes.length ? nodes : shrink(nodes, head);
+        }
+
+        private static <T> @NotNull T @NotNull [] grow(@NotNull T @NotNull [] array) {
+            return Arrays.copyOf(array, Math.max(8, array.length << 1));
+        }
+
+        private static <T> @NotNull T @NotNull [] shrink(@NotNull T @NotNull [] array, int len) {
+            return Arrays.copyOf(array, len);
+        }
+
+        //
+
+        @Override
+        public int levelSize() {
+            return this.labels.length;
+        }
+
+        @Override
+        public @NotNull String levelLabel(int index) {
+            return this.labels[index];
+        }
+
+        @Override
+        public @NotNull TomlValue levelValue(int index) {
+            return wrap(this.nodes[index]);
+        }
+
+        @Override
+        public @Nullable TomlTableLevel levelChild(int index) {
+            Object node = this.nodes[index];
+            return (node instanceof Branch) ? new Level((Branch) node) : null;
+        }
+
+        @Override
+        public int levelModCount() {
+            return 0;
+        }
+
+    }
+
+}
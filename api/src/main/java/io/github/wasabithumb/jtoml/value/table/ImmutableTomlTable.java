@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ *     A persistent, immutable {@link TomlTable}. Immutable tables are safe to share between
+ *     threads without synchronization. Methods which would modify the table raise
+ *     {@link UnsupportedOperationException}; instead, {@link #with(TomlKey, TomlValue)} and
+ *     {@link #without(TomlKey)} produce new versions of the table.
+ * </p>
+ * <p>
+ *     New versions share all subtrees which are not on the path to the modified key, so
+ *     creating a version costs time proportional to the depth of the key (and the width of
+ *     each table along it), not the size of the table.
+ * </p>
+ * <p>
+ *     All values reachable from an immutable table are immutable as well, as specified by
+ *     {@link TomlValue#immutableCopyOf(TomlValue)}.
+ * </p>
+ * @see TomlTable#freeze()
+ * @see #empty()
+ */
+@ApiStatus.NonExtendable
+@ApiStatus.AvailableSince("1.6.0")
+public interface ImmutableTomlTable extends TomlTable {
+
+    /**
+     * Provides an empty immutable table
+     */
+    @Contract("-> !null")
+    static @NotNull ImmutableTomlTable empty() {
+        return ImmutableTomlTableImpl.empty();
+    }
+
+    /**
+     * Provides an immutable deep copy of the given table.
+     * If the given table is already immutable, it is returned as-is.
+     * @see TomlTable#freeze()
+     */
+    @Contract("_ -> !null")
+    static @NotNull ImmutableTomlTable copyOf(@NotNull TomlTable other) {
+        return ImmutableTomlTableImpl.copyOf(other);
+    }
+
+    //
+
+    /**
+     * Produces a version of this table where the given key is mapped to the given value.
+     * Intermediate tables are created as necessary, as in {@link #put(TomlKey, TomlValue)}.
+     * The value is copied as specified by {@link TomlValue#immutableCopyOf(TomlValue)}.
+     */
+    @Contract("_, _ -> !null")
+    @NotNull ImmutableTomlTable with(@NotNull TomlKey key, @NotNull TomlValue value);
+
+    /**
+     * Produces a version of this table where the given key is mapped to the given value.
+     * The key is parsed as specified by {@link TomlKey#parse(CharSequence)}.
+     * @see #with(TomlKey, TomlValue)
+     */
+    @Contract("_, _ -> !null")
+    default @NotNull ImmutableTomlTable with(@NotNull CharSequence key, @NotNull TomlValue value) {
+        return this.with(TomlKey.parse(key), value);
+    }
+
+    /**
+     * Produces a version of this table where the given key has no mapping.
+     * If the key has no mapping in this table, this table is returned.
+     */
+    @Contract("_ -> !null")
+    @NotNull ImmutableTomlTable without(@NotNull TomlKey key);
+
+    /**
+     * Produces a version of this table where the given key has no mapping.
+     * The key is parsed as specified by {@link TomlKey#parse(CharSequence)}.
+     * @see #without(TomlKey)
+     */
+    @Contract("_ -> !null")
+    default @NotNull ImmutableTomlTable without(@NotNull CharSequence key) {
+        return this.without(TomlKey.parse(key));
+    }
+
+    /**
+     * Returns this table, which is already immutable
+     */
+    @Override
+    @Contract("-> this")
+    default @NotNull ImmutableTomlTable freeze() {
+        return this;
+    }
+
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.key.TomlPath;
+import io.github.wasabithumb.jtoml.value.TomlFingerprints;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Persistent table backed by sorted arrays. Updates copy the arrays along the
+ * path to the modified key and share everything else.
+ */
+@ApiStatus.Internal
+final class ImmutableTomlTableImpl implements ImmutableTomlTable, TomlTableLevel, TomlFingerprints.Observable {
+
+    private static final String[] NO_LABELS = new String[0];
+    private static final TomlValue[] NO_VALUES = new TomlValue[0];
+    private static final ImmutableTomlTableImpl EMPTY = create();
+
+    static @NotNull ImmutableTomlTableImpl empty() {
+        return EMPTY;
+    }
+
+    private static @NotNull ImmutableTomlTableImpl create() {
+        return new ImmutableTomlTableImpl(
+                System.nanoTime(),
+                Comments.immutableCopyOf(Comments.empty()),
+                (byte) 0,
+                NO_LABELS,
+                NO_VALUES,
+                0
+        );
+    }
+
+    static @NotNull ImmutableTomlTableImpl copyOf(@NotNull TomlTable table) {
+        if (table instanceof ImmutableTomlTableImpl) return (ImmutableTomlTableImpl) table;
+
+        TomlTableLevel level = TomlTableImpl.levelOf(table);
+        final int len = level.levelSize();
+        String[] labels = new String[len];
+        TomlValue[] values = new TomlValue[len];
+        int entryCount = 0;
+
+        TomlValue value;
+        for (int i=0; i < len; i++) {
+            value = TomlValue.immutableCopyOf(level.levelValue(i));
+            labels[i] = level.levelLabel(i);
+            values[i] = value;
+            entryCount += entryCount(value);
+        }
+
+        return new ImmutableTomlTableImpl(
+                table.creationTime(),
+                Comments.immutableCopyOf(table.comments()),
+                (byte) table.flags(),
+                labels,
+                values,
+                entryCount
+        );
+    }
+
+    private static int entryCount(@NotNull TomlValue value) {
+        return value.isTable() ? value.asTable().size() : 1;
+    }
+
+    @Contract("-> fail")
+    private static UnsupportedOperationException immutable() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Table is immutable");
+    }
+
+    //
+
+    private final long creationTime;
+    private final Comments comments;
+    private final byte flags;
+    private final String[] labels;
+    private final TomlValue[] values;
+    private final int entryCount;
+    private volatile long fingerprint;
+
+    private ImmutableTomlTableImpl(
+            long creationTime,
+            @NotNull Comments comments,
+            byte flags,
+            @NotNull String @NotNull [] labels,
+            @NotNull TomlValue @NotNull [] values,
+            int entryCount
+    ) {
+        this.creationTime = creationTime;
+        this.comments = comments;
+        this.flags = flags;
+        this.labels = labels;
+        this.values = values;
+        this.entryCount = entryCount;
+    }
+
+    //
+
+    @Override
+    public long creationTime() {
+        return this.creationTime;
+    }
+
+    @Override
+    public int flags() {
+        return this.flags & 0xFF;
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public @NotNull TomlTable flags(int flags) {
+        throw immutable();
+    }
+
+    @Override
+    public @NotNull Comments comments() {
+        return this.comments;
+    }
+
+    @Override
+    public int size() {
+        return this.entryCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.entryCount == 0;
+    }
+
+    @Override
+    @Contract("-> fail")
+    public void clear() {
+        throw immutable();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Set<TomlKey> keys(boolean deep) {
+        return new TomlKeySet(this, deep);
+    }
+
+    @Override
+    public boolean contains(@NotNull TomlKey key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public @Nullable TomlValue get(@NotNull TomlKey key) {
+        final int len = key.size();
+        if (len == 0) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
+
+        ImmutableTomlTableImpl head = this;
+        TomlValue next;
+        for (int i=0; i < (len - 1); i++) {
+            next = head.getLocal(key.get(i));
+            if (!(next instanceof ImmutableTomlTableImpl)) return null;
+            head = (ImmutableTomlTableImpl) next;
+        }
+        return head.getLocal(key.get(len - 1));
+    }
+
+    @Override
+    public boolean contains(@NotNull TomlPath path) {
+        return this.get(path) != null;
+    }
+
+    @Override
+    public @Nullable TomlValue get(@NotNull TomlPath path) {
+        final int len = path.size();
+        ImmutableTomlTableImpl head = this;
+        TomlValue next;
+        for (int i=0; i < (len - 1); i++) {
+            next = head.getLocal(path.get(i));
+            if (!(next instanceof ImmutableTomlTableImpl)) return null;
+            head = (ImmutableTomlTableImpl) next;
+        }
+        return head.getLocal(path.get(len - 1));
+    }
+
+    private @Nullable TomlValue getLocal(@NotNull String label) {
+        int idx = this.indexOf(label);
+        return idx < 0 ? null : this.values[idx];
+    }
+
+    @Override
+    @Contract("_, _ -> fail")
+    public @Nullable TomlValue put(@NotNull TomlKey key, @NotNull TomlValue value) {
+        throw immutable();
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public @Nullable TomlValue remove(@NotNull TomlKey key) {
+        throw immutable();
+    }
+
+    @Override
+    public @NotNull ImmutableTomlTable with(@NotNull TomlKey key, @NotNull TomlValue value) {
+        if (key.isEmpty()) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
+        return this.with(key, 0, TomlValue.immutableCopyOf(value));
+    }
+
+    private @NotNull ImmutableTomlTableImpl with(@NotNull TomlKey key, int depth, @NotNull TomlValue value) {
+        final String label = key.get(depth);
+        final int idx = this.indexOf(label);
+
+        if (depth != key.size() - 1) {
+            TomlValue existing = idx < 0 ? null : this.values[idx];
+            ImmutableTomlTableImpl child = (existing instanceof ImmutableTomlTableImpl) ?
+                    (ImmutableTomlTableImpl) existing :
+                    create();
+            value = child.with(key, depth + 1, value);
+        }
+
+        if (idx >= 0) {
+            TomlValue old = this.values[idx];
+            if (old == value) return this;
+            TomlValue[] values = this.values.clone();
+            values[idx] = value;
+            return this.derive(this.labels, values, this.entryCount - entryCount(old) + entryCount(value));
+        }
+
+        final int ins = -(idx + 1);
+        final int len = this.labels.length;
+        String[] labels = new String[len + 1];
+        TomlValue[] values = new TomlValue[len + 1];
+        System.arraycopy(this.labels, 0, labels, 0, ins);
+        System.arraycopy(this.values, 0, values, 0, ins);
+        labels[ins] = label;
+        values[ins] = value;
+        System.arraycopy(this.labels, ins, labels, ins + 1, len - ins);
+        System.arraycopy(this.values, ins, values, ins + 1, len - ins);
+        return this.derive(labels, values, this.entryCount + entryCount(value));
+    }
+
+    @Override
+    public @NotNull ImmutableTomlTable without(@NotNull TomlKey key) {
+        if (key.isEmpty()) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
+        return this.without(key, 0);
+    }
+
+    private @NotNull ImmutableTomlTableImpl without(@NotNull TomlKey key, int depth) {
+        final int idx = this.indexOf(key.get(depth));
+        if (idx < 0) return this;
+        final TomlValue old = this.values[idx];
+
+        if (depth != key.size() - 1) {
+            if (!(old instanceof ImmutableTomlTableImpl)) return this;
+            ImmutableTomlTableImpl child = ((ImmutableTomlTableImpl) old).without(key, depth + 1);
+            if (child == old) return this;
+            TomlValue[] values = this.values.clone();
+            values[idx] = child;
+            return this.derive(this.labels, values, this.entryCount - old.asTable().size() + child.entryCount);
+        }
+
+        final int len = this.labels.length;
+        String[] labels = new String[len - 1];
+        TomlValue[] values = new TomlValue[len - 1];
+        System.arraycopy(this.labels, 0, labels, 0, idx);
+        System.arraycopy(this.values, 0, values, 0, idx);
+        System.arraycopy(this.labels, idx + 1, labels, idx, len - idx - 1);
+        System.arraycopy(this.values, idx + 1, values, idx, len - idx - 1);
+        return this.derive(labels, values, this.entryCount - entryCount(old));
+    }
+
+    /** Creates a new version of this table with the same metadata */
+    private @NotNull ImmutableTomlTableImpl derive(
+            @NotNull String @NotNull [] labels,
+            @NotNull TomlValue @NotNull [] values,
+            int entryCount
+    ) {
+        return new ImmutableTomlTableImpl(
+                this.creationTime,
+                this.comments,
+                this.flags,
+                labels,
+                values,
+                entryCount
+        );
+    }
+
+    /** Provides the labels of this level, in order */
+    @NotNull @Unmodifiable List<String> levelLabels() {
+        return Collections.unmodifiableList(Arrays.asList(this.labels));
+    }
+
+    /** Binary search over the sorted labels, with the same return convention as {@link Arrays#binarySearch} */
+    int indexOf(@NotNull String label) {
+        int lo = 0;
+        int hi = this.labels.length - 1;
+        int mid;
+        int cmp;
+        while (lo <= hi) {
+            mid = (lo + hi) >>> 1;
+            cmp = this.labels[mid].compareTo(label);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    // START Level Super
+
+    @Override
+    public int levelSize() {
+        return this.labels.length;
+    }
+
+    @Override
+    public @NotNull String levelLabel(int index) {
+        return this.labels[index];
+    }
+
+    @Override
+    public @NotNull TomlValue levelValue(int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public @Nullable TomlTableLevel levelChild(int index) {
+        TomlValue value = this.values[index];
+        return (value instanceof ImmutableTomlTableImpl) ? (ImmutableTomlTableImpl) value : null;
+    }
+
+    @Override
+    public int levelModCount() {
+        return 0;
+    }
+
+    /** @implNote Zero is used to indicate that the fingerprint has not yet been computed */
+    @Override
+    public long levelFingerprint() {
+        long fingerprint = this.fingerprint;
+        if (fingerprint == 0L) this.fingerprint = fingerprint = TomlTableLevel.super.levelFingerprint();
+        return fingerprint;
+    }
+
+    @Override
+    public boolean levelFingerprinted() {
+        return this.fingerprint != 0L;
+    }
+
+    // END Level Super
+
+    // START Fingerprint Super
+
+    @Override
+    public void addHolder(@NotNull TomlFingerprints.Holder holder) { }
+
+    @Override
+    public void removeHolder(@NotNull TomlFingerprints.Holder holder) { }
+
+    @Override
+    public boolean isTracked() {
+        return true;
+    }
+
+    // END Fingerprint Super
+
+}
@@ -0,0 +1,429 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Read-only view which resolves entries against an ordered stack of tables.
+ * Every sub-table of the view is a view of the same stack, rooted at a deeper path.
+ * Resolutions are memoized per path and discarded whenever a layer is modified.
+ * The memo is replaced atomically along with the layer stamps it was made against,
+ * so the view may be read by several threads at once.
+ */
+@ApiStatus.Internal
+final class OverlayTomlTableImpl implements TomlTable, TomlTableLevel {
+
+    private static final String[] NO_LABELS = new String[0];
+    private static final TomlKey ROOT = TomlKey.literal();
+
+    static @NotNull OverlayTomlTableImpl of(@NotNull TomlTable base, @NotNull TomlTable @NotNull ... overrides) {
+        TomlTable[] layers = new TomlTable[overrides.length + 1];
+        layers[0] = base;
+        System.arraycopy(overrides, 0, layers, 1, overrides.length);
+        for (int i=0; i < layers.length; i++) {
+            TomlTable layer = layers[i];
+            if (layer == null) throw new NullPointerException("Layer " + i + " is null");
+            layers[i] = layer.unwrap();
+        }
+        return new State(layers).root;
+    }
+
+    @Contract("-> fail")
+    private static UnsupportedOperationException readOnly() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Overlay is read-only");
+    }
+
+    //
+
+    private final State state;
+    private final TomlKey path;
+
+    private OverlayTomlTableImpl(@NotNull State state, @NotNull TomlKey path) {
+        this.state = state;
+        this.path = path;
+    }
+
+    //
+
+    /** Provides the resolved node for this view, or null if the path no longer holds a table */
+    private @Nullable Node node() {
+        Node node = this.state.node(this.path);
+        return (node == null || node.stack == null) ? null : node;
+    }
+
+    private @NotNull String @NotNull [] labels() {
+        Node node = this.node();
+        return node == null ? NO_LABELS : node.labels();
+    }
+
+    private @NotNull TomlKey child(@NotNull TomlKey key) {
+        return this.path.isEmpty() ? key : TomlKey.join(this.path, key);
+    }
+
+    @Override
+    public long creationTime() {
+        this.state.validate(false);
+        Node node = this.node();
+        return node == null ? 0L : node.stack[0].creationTime();
+    }
+
+    @Override
+    public int flags() {
+        this.state.validate(false);
+        Node node = this.node();
+        return node == null ? 0 : node.stack[node.stack.length - 1].flags();
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public @NotNull TomlTable flags(int flags) {
+        throw readOnly();
+    }
+
+    /** Provides the comments of the highest layer which has any */
+    @Override
+    public @NotNull Comments comments() {
+        this.state.validate(false);
+        Node node = this.node();
+        if (node != null) {
+            Comments comments;
+            for (int i=(node.stack.length - 1); i >= 0; i--) {
+                comments = node.stack[i].comments();
+                if (comments.count() != 0) return Comments.immutableCopyOf(comments);
+            }
+        }
+        return Comments.immutableCopyOf(Comments.empty());
+    }
+
+    @Override
+    public int size() {
+        this.state.validate(false);
+        Node node = this.node();
+        return node == null ? 0 : node.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    @Contract("-> fail")
+    public void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Set<TomlKey> keys(boolean deep) {
+        this.state.validate(false);
+        return new TomlKeySet(this, deep);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Set<Map.Entry<TomlKey, TomlValue>> entries(boolean deep) {
+        this.state.validate(false);
+        return TomlTable.super.entries(deep);
+    }
+
+    @Override
+    public void walk(@NotNull TomlVisitor visitor) {
+        this.state.validate(false);
+        TomlTable.super.walk(visitor);
+    }
+
+    @Override
+    public @NotNull TomlCursor cursor() {
+        this.state.validate(false);
+        return TomlTable.super.cursor();
+    }
+
+    @Override
+    public @NotNull ImmutableTomlTable freeze() {
+        this.state.validate(false);
+        return TomlTable.super.freeze();
+    }
+
+    @Override
+    public boolean contains(@NotNull TomlKey key) {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public @Nullable TomlValue get(@NotNull TomlKey key) {
+        if (key.isEmpty()) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
+        this.state.validate(false);
+        Node node = this.state.node(this.child(key));
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    @Contract("_, _ -> fail")
+    public @Nullable TomlValue put(@NotNull TomlKey key, @NotNull TomlValue value) {
+        throw readOnly();
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public @Nullable TomlValue remove(@NotNull TomlKey key) {
+        throw readOnly();
+    }
+
+    // START Level Super
+
+    @Override
+    public int levelSize() {
+        this.state.validate(true);
+        return this.labels().length;
+    }
+
+    @Override
+    public @NotNull String levelLabel(int index) {
+        return this.labels()[index];
+    }
+
+    @Override
+    public @NotNull TomlValue levelValue(int index) {
+        Node node = this.state.node(this.child(TomlKey.literal(this.labels()[index])));
+        if (node == null) throw new ConcurrentModificationException();
+        return node.value;
+    }
+
+    @Override
+    public @Nullable TomlTableLevel levelChild(int index) {
+        TomlValue value = this.levelValue(index);
+        return (value instanceof OverlayTomlTableImpl) ? (OverlayTomlTableImpl) value : null;
+    }
+
+    @Override
+    public int levelModCount() {
+        return this.state.stamp();
+    }
+
+    // END Level Super
+
+    //
+
+    private static final class State {
+
+        /** Reports whether modifications to the given layer can be detected by {@link #stampOf(TomlTable)} */
+        private static boolean isTracked(@NotNull TomlTable layer) {
+            if (layer instanceof TomlTableImpl || layer instanceof ImmutableTomlTableImpl) return true;
+            return (layer instanceof OverlayTomlTableImpl) && ((OverlayTomlTableImpl) layer).state.tracked;
+        }
+
+        /** Provides a value which changes whenever the given (tracked) layer is modified */
+        private static int stampOf(@NotNull TomlTable layer) {
+            if (layer instanceof TomlTableImpl) return ((TomlTableImpl) layer).root().modCount();
+            if (layer instanceof OverlayTomlTableImpl) return ((OverlayTomlTableImpl) layer).state.stamp();
+            return 0;
+        }
+
+        //
+
+        private final TomlTable[] layers;
+        private final boolean tracked;
+        private final AtomicReference<Memo> memo;
+        final OverlayTomlTableImpl root;
+
+        State(@NotNull TomlTable @NotNull [] layers) {
+            boolean tracked = true;
+            for (TomlTable layer : layers) {
+                if (isTracked(layer)) continue;
+                tracked = false;
+                break;
+            }
+
+            this.layers = layers;
+            this.tracked = tracked;
+            this.root = new OverlayTomlTableImpl(this, ROOT);
+            this.memo = new AtomicReference<>(this.createMemo());
+        }
+
+        //
+
+        /** Combines the stamps of each layer, or returns 0 if the layers are not tracked */
+        int stamp() {
+            if (!this.tracked) return 0;
+            int h = 7;
+            for (TomlTable layer : this.layers) h = 31 * h + stampOf(layer);
+            return h;
+        }
+
+        /**
+         * Discards memoized resolutions if any layer has been modified since they were made.
+         * If modifications cannot be detected, memoized resolutions are discarded
+         * unless {@code trackedOnly} is set.
+         */
+        void validate(boolean trackedOnly) {
+            final Memo memo = this.memo.get();
+            if (this.tracked) {
+                if (memo.isCurrent(this.layers)) return;
+            } else if (trackedOnly) {
+                return;
+            }
+
+            // If another thread has already replaced the memo, its replacement is at least as recent
+            this.memo.compareAndSet(memo, this.createMemo());
+        }
+
+        private @NotNull Memo createMemo() {
+            int[] stamps = null;
+            if (this.tracked) {
+                stamps = new int[this.layers.length];
+                for (int i=0; i < stamps.length; i++) stamps[i] = stampOf(this.layers[i]);
+            }
+            Memo ret = new Memo(stamps);
+            ret.nodes.put(ROOT, new Node(this, ROOT, this.layers, this.root));
+            return ret;
+        }
+
+        /** Resolves the given path, or returns null if it does not exist in any layer */
+        @Nullable Node node(@NotNull TomlKey path) {
+            return this.node(this.memo.get(), path);
+        }
+
+        private @Nullable Node node(@NotNull Memo memo, @NotNull TomlKey path) {
+            Node node = memo.nodes.get(path);
+            if (node != null) return node;
+
+            final int len = path.size();
+            Node parent = this.node(memo, path.slice(0, len - 1));
+            if (parent == null || parent.stack == null) return null;
+
+            node = this.resolve(path, parent.stack, TomlKey.literal(path.get(len - 1)));
+            if (node == null) return null;
+
+            // Concurrent resolutions of the same path agree on a single node
+            Node existing = memo.nodes.putIfAbsent(path, node);
+            return existing == null ? node : existing;
+        }
+
+        private @Nullable Node resolve(@NotNull TomlKey path, @NotNull TomlTable @NotNull [] stack, @NotNull TomlKey label) {
+            TomlTable[] tables = new TomlTable[stack.length];
+            int count = 0;
+
+            TomlValue value;
+            for (int i=(stack.length - 1); i >= 0; i--) {
+                value = stack[i].get(label);
+                if (value == null) continue;
+                if (!value.isTable()) {
+                    // Shadows all tables beneath it
+                    if (count == 0) return new Node(this, path, null, value);
+                    break;
+                }
+                tables[count++] = value.asTable().unwrap();
+            }
+            if (count == 0) return null;
+
+            // Restore lowest-to-highest order
+            TomlTable[] ordered = new TomlTable[count];
+            for (int i=0; i < count; i++) ordered[i] = tables[count - 1 - i];
+            return new Node(this, path, ordered, new OverlayTomlTableImpl(this, path));
+        }
+
+    }
+
+    /** Resolved nodes, along with the layer stamps they were resolved against */
+    private static final class Memo {
+
+        private final int[] stamps;
+        final ConcurrentMap<TomlKey, Node> nodes;
+
+        Memo(int @Nullable [] stamps) {
+            this.stamps = stamps;
+            this.nodes = new ConcurrentHashMap<>();
+        }
+
+        //
+
+        boolean isCurrent(@NotNull TomlTable @NotNull [] layers) {
+            final int[] stamps = this.stamps;
+            if (stamps == null) return false;
+            for (int i=0; i < stamps.length; i++) {
+                if (State.stampOf(layers[i]) != stamps[i]) return false;
+            }
+            return true;
+        }
+
+    }
+
+    private static final class Node {
+
+        private final State state;
+        private final TomlKey path;
+        final TomlTable[] stack;
+        final TomlValue value;
+        private volatile String[] labels;
+        private volatile int size;
+
+        Node(
+                @NotNull State state,
+                @NotNull TomlKey path,
+                @NotNull TomlTable @Nullable [] stack,
+                @NotNull TomlValue value
+        ) {
+            this.state = state;
+            this.path = path;
+            this.stack = stack;
+            this.value = value;
+            this.labels = null;
+            this.size = -1;
+        }
+
+        /** The union of the labels in each layer, in sorted order */
+        @NotNull String @NotNull [] labels() {
+            String[] ret = this.labels;
+            if (ret != null) return ret;
+
+            Set<String> set = new TreeSet<>();
+            TomlTableLevel level;
+            for (TomlTable table : this.stack) {
+                level = TomlTableImpl.levelOf(table);
+                for (int i=0; i < level.levelSize(); i++) set.add(level.levelLabel(i));
+            }
+            ret = set.toArray(NO_LABELS);
+            return this.labels = ret;
+        }
+
+        int size() {
+            int ret = this.size;
+            if (ret != -1) return ret;
+
+            ret = 0;
+            Node child;
+            for (String label : this.labels()) {
+                child = this.state.node(this.path.isEmpty() ?
+                        TomlKey.literal(label) :
+                        TomlKey.join(this.path, TomlKey.literal(label)));
+                if (child == null) continue;
+                ret += (child.stack == null) ? 1 : child.size();
+            }
+            return this.size = ret;
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * A reusable, forward-only cursor over the values of a table hierarchy
+ * in lexicographical order. Tables are traversed but not reported, matching
+ * the semantics of {@link TomlTable#keys()}.
+ * <h4>Example</h4>
+ * <pre>{@code
+ * TomlCursor cursor = table.cursor();
+ * while (cursor.next()) {
+ *     System.out.println(cursor.parent() + " -> " + cursor.label() + " = " + cursor.value());
+ * }
+ * }</pre>
+ * The behavior of a cursor is undefined if the underlying table is modified while it is in use,
+ * though implementations may make a best-effort attempt to throw
+ * {@link java.util.ConcurrentModificationException}.
+ * @see TomlTable#cursor()
+ */
+@ApiStatus.AvailableSince("1.6.0")
+@ApiStatus.NonExtendable
+public interface TomlCursor {
+
+    /**
+     * Advances the cursor to the next value.
+     * @return True if the cursor now points to a value, false if traversal is complete
+     */
+    boolean next();
+
+    /**
+     * Returns the cursor to its initial state, so that the
+     * next call to {@link #next()} reports the first value.
+     */
+    void reset();
+
+    /**
+     * Provides the number of parts in the path of the table containing the current value.
+     * Values in the top-level table have a depth of 0.
+     */
+    int depth();
+
+    /**
+     * Provides the path of the table containing the current value.
+     * The returned list is a view of a buffer owned by the cursor,
+     * and is only valid until the next call to {@link #next()}.
+     */
+    @NotNull @Unmodifiable List<String> parent();
+
+    /**
+     * Provides the label of the current value within its parent table
+     * @throws IllegalStateException Cursor does not point to a value
+     */
+    @NotNull String label() throws IllegalStateException;
+
+    /**
+     * Provides the current value
+     * @throws IllegalStateException Cursor does not point to a value
+     */
+    @NotNull TomlValue value() throws IllegalStateException;
+
+    /**
+     * Creates the full key of the current value.
+     * Unlike the other accessors, this allocates a new key on each call.
+     * @throws IllegalStateException Cursor does not point to a value
+     */
+    @Contract("-> new")
+    @NotNull TomlKey key() throws IllegalStateException;
+
+}
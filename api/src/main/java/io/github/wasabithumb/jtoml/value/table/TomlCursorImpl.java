@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+@ApiStatus.Internal
+final class TomlCursorImpl implements TomlCursor {
+
+    private final TomlTableLevel root;
+    private final TomlPathBuffer path;
+    private TomlTableLevel[] levels;
+    private int[] indices;
+    private int depth;
+    private int modCount;
+    private boolean valid;
+
+    TomlCursorImpl(@NotNull TomlTableLevel root) {
+        this.root = root;
+        this.path = new TomlPathBuffer();
+        this.levels = new TomlTableLevel[8];
+        this.indices = new int[8];
+        this.reset();
+    }
+
+    //
+
+    @Override
+    public boolean next() {
+        if (this.depth < 0) return false;
+        if (this.root.levelModCount() != this.modCount)
+            throw new ConcurrentModificationException();
+
+        TomlTableLevel level = this.levels[this.depth];
+        int index = this.indices[this.depth];
+        TomlTableLevel child;
+
+        while (true) {
+            if (this.valid) index++;
+            this.valid = true;
+
+            if (index >= level.levelSize()) {
+                // ascend
+                this.levels[this.depth] = null;
+                if (this.depth == 0) {
+                    this.depth = -1;
+                    this.valid = false;
+                    return false;
+                }
+                this.depth--;
+                this.path.pop();
+                level = this.levels[this.depth];
+                index = this.indices[this.depth];
+                continue;
+            }
+
+            child = level.levelChild(index);
+            if (child == null) {
+                this.indices[this.depth] = index;
+                return true;
+            }
+
+            // descend
+            this.indices[this.depth] = index;
+            this.path.push(level.levelLabel(index));
+            this.push(child);
+            level = child;
+            index = 0;
+            this.valid = false;
+        }
+    }
+
+    private void push(@NotNull TomlTableLevel level) {
+        int next = this.depth + 1;
+        if (next == this.levels.length) {
+            TomlTableLevel[] nl = new TomlTableLevel[next << 1];
+            System.arraycopy(this.levels, 0, nl, 0, next);
+            int[] ni = new int[next << 1];
+            System.arraycopy(this.indices, 0, ni, 0, next);
+            this.levels = nl;
+            this.indices = ni;
+        }
+        this.levels[next] = level;
+        this.indices[next] = 0;
+        this.depth = next;
+    }
+
+    @Override
+    public void reset() {
+        for (int i=0; i <= this.depth; i++) this.levels[i] = null;
+        this.path.reset();
+        this.levels[0] = this.root;
+        this.indices[0] = 0;
+        this.depth = 0;
+        this.modCount = this.root.levelModCount();
+        this.valid = false;
+    }
+
+    @Override
+    public int depth() {
+        return this.path.size();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<String> parent() {
+        return this.path;
+    }
+
+    @Override
+    public @NotNull String label() throws IllegalStateException {
+        this.checkValid();
+        return this.levels[this.depth].levelLabel(this.indices[this.depth]);
+    }
+
+    @Override
+    public @NotNull TomlValue value() throws IllegalStateException {
+        this.checkValid();
+        return this.levels[this.depth].levelValue(this.indices[this.depth]);
+    }
+
+    @Override
+    public @NotNull TomlKey key() throws IllegalStateException {
+        return this.path.toKey(this.label());
+    }
+
+    private void checkValid() throws IllegalStateException {
+        if (this.depth < 0 || !this.valid)
+            throw new IllegalStateException("Cursor does not point to a value");
+    }
+
+    //
+
+    /** Depth-first traversal backing {@link TomlTable#walk(TomlVisitor)} */
+    static void walk(@NotNull TomlTableLevel root, @NotNull TomlVisitor visitor) {
+        walk(root, visitor, new TomlPathBuffer());
+    }
+
+    private static void walk(
+            @NotNull TomlTableLevel level,
+            @NotNull TomlVisitor visitor,
+            @NotNull TomlPathBuffer path
+    ) {
+        final int len = level.levelSize();
+        String label;
+        TomlTableLevel child;
+        TomlTable table;
+
+        for (int i=0; i < len; i++) {
+            label = level.levelLabel(i);
+            child = level.levelChild(i);
+            if (child == null) {
+                visitor.visitValue(path, label, level.levelValue(i));
+                continue;
+            }
+            table = level.levelValue(i).asTable();
+            if (!visitor.enterTable(path, label, table)) continue;
+            path.push(label);
+            walk(child, visitor, path);
+            path.pop();
+            visitor.exitTable(path, label, table);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.*;
+
+import java.util.List;
+
+/**
+ * <p>
+ *     The differences between two tables, reported per value in lexicographical order of
+ *     their keys. Keys follow the semantics of {@link TomlTable#keys()}: tables are not
+ *     reported themselves, so a table which is added reports each of the values within it.
+ *     Arrays are compared by content and reported as a single value. Comments and flags are
+ *     not compared.
+ * </p>
+ * <h4>Example</h4>
+ * <pre>{@code
+ * TomlDiff diff = TomlDiff.between(previous, current);
+ * for (TomlDiff.Entry entry : diff.entries()) {
+ *     System.out.println(entry.type() + " " + entry.key());
+ * }
+ * }</pre>
+ */
+@ApiStatus.AvailableSince("1.6.0")
+@ApiStatus.NonExtendable
+public interface TomlDiff {
+
+    /**
+     * Computes the differences between two tables. Both tables are traversed together
+     * level by level, and subtrees which are shared by both tables or whose cached
+     * {@link TomlValue#fingerprint() fingerprints} match are skipped.
+     * @param a The original table
+     * @param b The updated table
+     */
+    @Contract("_, _ -> new")
+    static @NotNull TomlDiff between(@NotNull TomlTable a, @NotNull TomlTable b) {
+        return TomlDiffImpl.between(a, b);
+    }
+
+    //
+
+    /** True if the tables hold the same values */
+    boolean isEmpty();
+
+    /** All differences, in lexicographical order of their keys */
+    @NotNull @Unmodifiable List<Entry> entries();
+
+    /** Values which exist only in the updated table */
+    @NotNull @Unmodifiable List<Entry> added();
+
+    /** Values which exist only in the original table */
+    @NotNull @Unmodifiable List<Entry> removed();
+
+    /** Values which exist in both tables, but differ */
+    @NotNull @Unmodifiable List<Entry> changed();
+
+    //
+
+    /**
+     * A single difference between two tables
+     */
+    @ApiStatus.NonExtendable
+    interface Entry {
+
+        @NotNull Type type();
+
+        @NotNull TomlKey key();
+
+        /** The value in the original table, or null if the type is {@link Type#ADDED} */
+        @Nullable TomlValue oldValue();
+
+        /** The value in the updated table, or null if the type is {@link Type#REMOVED} */
+        @Nullable TomlValue newValue();
+
+    }
+
+    /**
+     * The kind of a {@link Entry difference}
+     */
+    enum Type {
+        ADDED,
+        REMOVED,
+        CHANGED
+    }
+
+}
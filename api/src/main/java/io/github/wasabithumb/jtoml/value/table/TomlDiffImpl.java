@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * Computes differences by merge-joining the sorted levels of both tables,
+ * rather than looking up each key of one table in the other.
+ */
+@ApiStatus.Internal
+final class TomlDiffImpl implements TomlDiff {
+
+    static @NotNull TomlDiffImpl between(@NotNull TomlTable a, @NotNull TomlTable b) {
+        TomlDiffImpl ret = new TomlDiffImpl();
+        ret.diff(TomlTableImpl.levelOf(a), TomlTableImpl.levelOf(b), new TomlPathBuffer());
+        return ret;
+    }
+
+    /** Deep comparison of values, ignoring comments and flags */
+    static boolean valuesEqual(@NotNull TomlValue a, @NotNull TomlValue b) {
+        if (a == b) return true;
+        if (a.isPrimitive()) {
+            return b.isPrimitive() && a.asPrimitive().equals(b.asPrimitive());
+        } else if (a.isArray()) {
+            if (!b.isArray()) return false;
+            TomlArray aa = a.asArray();
+            TomlArray ba = b.asArray();
+            final int len = aa.size();
+            if (ba.size() != len) return false;
+            for (int i=0; i < len; i++) {
+                if (!valuesEqual(aa.get(i), ba.get(i))) return false;
+            }
+            return true;
+        } else {
+            return b.isTable() && levelsEqual(
+                    TomlTableImpl.levelOf(a.asTable()),
+                    TomlTableImpl.levelOf(b.asTable())
+            );
+        }
+    }
+
+    private static boolean levelsEqual(@NotNull TomlTableLevel a, @NotNull TomlTableLevel b) {
+        if (a == b) return true;
+        final int len = a.levelSize();
+        if (b.levelSize() != len) return false;
+
+        TomlTableLevel ca;
+        TomlTableLevel cb;
+        for (int i=0; i < len; i++) {
+            if (!a.levelLabel(i).equals(b.levelLabel(i))) return false;
+            ca = a.levelChild(i);
+            cb = b.levelChild(i);
+            if (ca != null || cb != null) {
+                if (ca == null || cb == null || !levelsEqual(ca, cb)) return false;
+            } else if (!valuesEqual(a.levelValue(i), b.levelValue(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //
+
+    private final List<Entry> entries;
+    private final List<Entry> added;
+    private final List<Entry> removed;
+    private final List<Entry> changed;
+
+    private TomlDiffImpl() {
+        this.entries = new ArrayList<>();
+        this.added = new ArrayList<>();
+        this.removed = new ArrayList<>();
+        this.changed = new ArrayList<>();
+    }
+
+    //
+
+    private void diff(@NotNull TomlTableLevel a, @NotNull TomlTableLevel b, @NotNull TomlPathBuffer path) {
+        // Shared subtree, or subtrees whose content is known to be equal
+        if (a == b) return;
+        if (a.levelFingerprinted() && b.levelFingerprinted() && a.levelFingerprint() == b.levelFingerprint()) return;
+
+        final int na = a.levelSize();
+        final int nb = b.levelSize();
+        int i = 0;
+        int j = 0;
+        int cmp;
+
+        while (i < na || j < nb) {
+            if (i == na) {
+                cmp = 1;
+            } else if (j == nb) {
+                cmp = -1;
+            } else {
+                cmp = a.levelLabel(i).compareTo(b.levelLabel(j));
+            }
+
+            if (cmp < 0) {
+                this.report(Type.REMOVED, a, i, path);
+                i++;
+            } else if (cmp > 0) {
+                this.report(Type.ADDED, b, j, path);
+                j++;
+            } else {
+                this.diffEntry(a, i++, b, j++, path);
+            }
+        }
+    }
+
+    private void diffEntry(
+            @NotNull TomlTableLevel a, int ia,
+            @NotNull TomlTableLevel b, int ib,
+            @NotNull TomlPathBuffer path
+    ) {
+        final TomlTableLevel ca = a.levelChild(ia);
+        final TomlTableLevel cb = b.levelChild(ib);
+        final String label = a.levelLabel(ia);
+
+        if (ca != null && cb != null) {
+            path.push(label);
+            this.diff(ca, cb, path);
+            path.pop();
+        } else if (ca != null || cb != null) {
+            // Table replaced by a value, or vice versa
+            this.report(Type.REMOVED, a, ia, path);
+            this.report(Type.ADDED, b, ib, path);
+        } else {
+            TomlValue va = a.levelValue(ia);
+            TomlValue vb = b.levelValue(ib);
+            if (!valuesEqual(va, vb)) this.add(new EntryImpl(Type.CHANGED, path.toKey(label), va, vb));
+        }
+    }
+
+    /** Reports the entry at the given index as added or removed, along with every value beneath it */
+    private void report(@NotNull Type type, @NotNull TomlTableLevel level, int index, @NotNull TomlPathBuffer path) {
+        final String label = level.levelLabel(index);
+        final TomlTableLevel child = level.levelChild(index);
+        if (child == null) {
+            TomlValue value = level.levelValue(index);
+            TomlKey key = path.toKey(label);
+            this.add(type == Type.ADDED ?
+                    new EntryImpl(type, key, null, value) :
+                    new EntryImpl(type, key, value, null));
+            return;
+        }
+
+        path.push(label);
+        final int len = child.levelSize();
+        for (int i=0; i < len; i++) this.report(type, child, i, path);
+        path.pop();
+    }
+
+    private void add(@NotNull EntryImpl entry) {
+        this.entries.add(entry);
+        switch (entry.type) {
+            case ADDED:
+                this.added.add(entry);
+                break;
+            case REMOVED:
+                this.removed.add(entry);
+                break;
+            case CHANGED:
+                this.changed.add(entry);
+                break;
+        }
+    }
+
+    //
+
+    @Override
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<Entry> entries() {
+        return Collections.unmodifiableList(this.entries);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<Entry> added() {
+        return Collections.unmodifiableList(this.added);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<Entry> removed() {
+        return Collections.unmodifiableList(this.removed);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<Entry> changed() {
+        return Collections.unmodifiableList(this.changed);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "TomlDiff" + this.entries;
+    }
+
+    //
+
+    private static final class EntryImpl implements Entry {
+
+        private final Type type;
+        private final TomlKey key;
+        private final TomlValue oldValue;
+        private final TomlValue newValue;
+
+        EntryImpl(@NotNull Type type, @NotNull TomlKey key, @Nullable TomlValue oldValue, @Nullable TomlValue newValue) {
+            this.type = type;
+            this.key = key;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        //
+
+        @Override
+        public @NotNull Type type() {
+            return this.type;
+        }
+
+        @Override
+        public @NotNull TomlKey key() {
+            return this.key;
+        }
+
+        @Override
+        public @Nullable TomlValue oldValue() {
+            return this.oldValue;
+        }
+
+        @Override
+        public @Nullable TomlValue newValue() {
+            return this.newValue;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return this.type + " " + this.key;
+        }
+
+    }
+
+}
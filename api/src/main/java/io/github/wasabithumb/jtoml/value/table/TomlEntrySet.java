@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Entry view backing {@link TomlTable#entries(boolean)}.
+ * Entries are produced directly from the traversal levels of the table,
+ * so no per-entry lookup is required.
+ */
+@ApiStatus.Internal
+final class TomlEntrySet extends AbstractSet<Map.Entry<TomlKey, TomlValue>> {
+
+    private final TomlTable table;
+    private final boolean deep;
+
+    TomlEntrySet(@NotNull TomlTable table, boolean deep) {
+        this.table = table;
+        this.deep = deep;
+    }
+
+    //
+
+    @Override
+    public int size() {
+        return this.deep ?
+                this.table.size() :
+                this.table.keys(false).size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.deep ?
+                this.table.isEmpty() :
+                this.table.keys(false).isEmpty();
+    }
+
+    @Override
+    public @NotNull Iterator<Map.Entry<TomlKey, TomlValue>> iterator() {
+        return this.deep ?
+                new DeepIter(this.table.cursor()) :
+                new ShallowIter(TomlTableImpl.levelOf(this.table));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Map.Entry)) return false;
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+        if (!(entry.getKey() instanceof TomlKey)) return false;
+
+        TomlKey key = (TomlKey) entry.getKey();
+        if (!this.deep && key.size() != 1) return false;
+
+        TomlValue value = this.table.get(key);
+        if (value == null) return false;
+        if (this.deep && value.isTable()) return false;
+        return value.equals(entry.getValue());
+    }
+
+    //
+
+    private static final class ShallowIter implements Iterator<Map.Entry<TomlKey, TomlValue>> {
+
+        private final TomlTableLevel level;
+        private final int modCount;
+        private int head;
+
+        ShallowIter(@NotNull TomlTableLevel level) {
+            this.level = level;
+            this.modCount = level.levelModCount();
+            this.head = 0;
+        }
+
+        //
+
+        @Override
+        public boolean hasNext() {
+            return this.head < this.level.levelSize();
+        }
+
+        @Override
+        public @NotNull Map.Entry<TomlKey, TomlValue> next() {
+            if (this.level.levelModCount() != this.modCount) throw new ConcurrentModificationException();
+            if (this.head >= this.level.levelSize()) throw new NoSuchElementException();
+            int index = this.head++;
+            return new AbstractMap.SimpleImmutableEntry<>(
+                    TomlKey.literal(this.level.levelLabel(index)),
+                    this.level.levelValue(index)
+            );
+        }
+
+    }
+
+    private static final class DeepIter implements Iterator<Map.Entry<TomlKey, TomlValue>> {
+
+        private final TomlCursor cursor;
+        private byte state;
+
+        DeepIter(@NotNull TomlCursor cursor) {
+            this.cursor = cursor;
+            this.state = 0; // 0 = unknown, 1 = has next, 2 = exhausted
+        }
+
+        //
+
+        @Override
+        public boolean hasNext() {
+            if (this.state == 0) this.state = this.cursor.next() ? (byte) 1 : (byte) 2;
+            return this.state == 1;
+        }
+
+        @Override
+        public @NotNull Map.Entry<TomlKey, TomlValue> next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            this.state = 0;
+            return new AbstractMap.SimpleImmutableEntry<>(
+                    this.cursor.key(),
+                    this.cursor.value()
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Key view for tables which expose a {@link TomlTableLevel},
+ * reporting keys in the same order as {@link TomlCursor}.
+ */
+@ApiStatus.Internal
+final class TomlKeySet extends AbstractSet<TomlKey> {
+
+    private final TomlTable table;
+    private final boolean deep;
+
+    TomlKeySet(@NotNull TomlTable table, boolean deep) {
+        this.table = table;
+        this.deep = deep;
+    }
+
+    //
+
+    @Override
+    public int size() {
+        return this.deep ?
+                this.table.size() :
+                TomlTableImpl.levelOf(this.table).levelSize();
+    }
+
+    @Override
+    public @NotNull Iterator<TomlKey> iterator() {
+        return this.deep ?
+                new DeepIter(this.table.cursor()) :
+                new ShallowIter(TomlTableImpl.levelOf(this.table));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof TomlKey)) return false;
+        TomlKey key = (TomlKey) o;
+        if (this.deep) {
+            if (key.isEmpty()) return false;
+            TomlValue value = this.table.get(key);
+            return value != null && !value.isTable();
+        } else {
+            return key.size() == 1 && this.table.contains(key);
+        }
+    }
+
+    //
+
+    private static final class ShallowIter implements Iterator<TomlKey> {
+
+        private final TomlTableLevel level;
+        private int head;
+
+        ShallowIter(@NotNull TomlTableLevel level) {
+            this.level = level;
+            this.head = 0;
+        }
+
+        //
+
+        @Override
+        public boolean hasNext() {
+            return this.head < this.level.levelSize();
+        }
+
+        @Override
+        public @NotNull TomlKey next() {
+            if (this.head >= this.level.levelSize()) throw new NoSuchElementException();
+            return TomlKey.literal(this.level.levelLabel(this.head++));
+        }
+
+    }
+
+    private static final class DeepIter implements Iterator<TomlKey> {
+
+        private final TomlCursor cursor;
+        private byte state;
+
+        DeepIter(@NotNull TomlCursor cursor) {
+            this.cursor = cursor;
+            this.state = 0; // 0 = unknown, 1 = has next, 2 = exhausted
+        }
+
+        //
+
+        @Override
+        public boolean hasNext() {
+            if (this.state == 0) this.state = this.cursor.next() ? (byte) 1 : (byte) 2;
+            return this.state == 1;
+        }
+
+        @Override
+        public @NotNull TomlKey next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            this.state = 0;
+            return this.cursor.key();
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Reusable, growable stack of key parts.
+ * Exposed to consumers as a read-only {@link java.util.List} view.
+ */
+@ApiStatus.Internal
+final class TomlPathBuffer extends AbstractList<String> implements RandomAccess {
+
+    private String[] data;
+    private int len;
+
+    TomlPathBuffer() {
+        this.data = new String[8];
+        this.len = 0;
+    }
+
+    //
+
+    void push(@NotNull String part) {
+        if (this.len == this.data.length) {
+            String[] cpy = new String[this.len << 1];
+            System.arraycopy(this.data, 0, cpy, 0, this.len);
+            this.data = cpy;
+        }
+        this.data[this.len++] = part;
+    }
+
+    void pop() {
+        this.data[--this.len] = null;
+    }
+
+    void reset() {
+        while (this.len > 0) this.pop();
+    }
+
+    /** Creates a key consisting of the parts in this buffer followed by the given label */
+    @NotNull TomlKey toKey(@NotNull String label) {
+        String[] parts = new String[this.len + 1];
+        System.arraycopy(this.data, 0, parts, 0, this.len);
+        parts[this.len] = label;
+        return TomlKey.literal(parts);
+    }
+
+    //
+
+    @Override
+    public int size() {
+        return this.len;
+    }
+
+    @Override
+    public @NotNull String get(int index) {
+        if (index < 0 || index >= this.len)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.len);
+        return this.data[index];
+    }
+
+}
@@ -17,6 +17,7 @@
 package io.github.wasabithumb.jtoml.value.table;
 
 import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.key.TomlPath;
 import io.github.wasabithumb.jtoml.value.TomlValue;
 import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
 import org.jetbrains.annotations.*;
@@ -41,13 +42,60 @@ public interface TomlTable extends TomlValue {
         return new TomlTableImpl();
     }
 
+    /**
+     * <p>
+     *     Creates an empty thread-safe table. Reads never block, and writes to different
+     *     keys proceed concurrently. As in {@link java.util.concurrent.ConcurrentHashMap}, iteration
+     *     (of {@link #keys()}, {@link #entries()}, {@link #cursor()} etc.) is weakly consistent
+     *     and never throws {@link java.util.ConcurrentModificationException}.
+     * </p>
+     * <p>
+     *     Unlike {@link #create()}, tables which are put into a concurrent table are copied rather
+     *     than aliased; use the table returned by {@link #get(TomlKey)} to modify a sub-table in place.
+     *     Comments and flags are not synchronized.
+     * </p>
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @Contract("-> new")
+    static @NotNull TomlTable concurrent() {
+        return new ConcurrentTomlTableImpl();
+    }
+
+    /**
+     * <p>
+     *     Creates a read-only view which layers the given tables over {@code base}. Later tables take
+     *     precedence over earlier ones: sub-tables which appear in several layers are merged, while any
+     *     other value shadows the values beneath it. For instance, layering {@code [a] x = 2} over
+     *     {@code [a] x = 1 y = 1} yields {@code [a] x = 2 y = 1}.
+     * </p>
+     * <p>
+     *     The view is live and copies nothing; modifications to any layer are visible through it.
+     *     Resolved paths are memoized until a layer is modified. The view itself cannot be modified,
+     *     but values other than tables are returned as they appear in their layer. The view may be read
+     *     from several threads at once, provided that no layer is modified while it is being read.
+     * </p>
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @Contract("_, _ -> new")
+    static @NotNull TomlTable overlay(@NotNull TomlTable base, @NotNull TomlTable @NotNull ... overrides) {
+        return OverlayTomlTableImpl.of(base, overrides);
+    }
+
     /**
      * Creates a new table which contains a
-     * deep copy of the given table
+     * deep copy of the given table.
+     * <p>
+     *     If the source is {@link #freeze() frozen}, the copy is made in constant time: it shares the
+     *     snapshot, serves reads from it and only copies the levels along the path to a modified key,
+     *     so the memory held by the copy scales with the portion that actually diverges. Arrays and
+     *     primitives are copied when first obtained, since they may be modified in place; a copied primitive
+     *     shares its value with the snapshot. Comment arrays are shared in all cases until either side
+     *     modifies them.
+     * </p>
      */
     @Contract("_ -> new")
     static @NotNull TomlTable copyOf(@NotNull TomlTable other) {
-        return TomlTableImpl.copyOf((TomlTableImpl) other);
+        return TomlTableImpl.copyOf(other);
     }
 
     //
@@ -92,6 +140,53 @@ public interface TomlTable extends TomlValue {
         return this.keys(true);
     }
 
+    /**
+     * Reports the entries in this table in lexicographical order, as in {@link #keys(boolean)}.
+     * Iterating the entries is considerably cheaper than iterating the keys and calling
+     * {@link #get(TomlKey)} for each.
+     * @param deep If true, children will be traversed and only entries which are not tables are reported
+     *             (as in {@link #entries()}). Otherwise only the top-level entries are reported,
+     *             each having a key with a length of 1.
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default @NotNull @Unmodifiable Set<Map.Entry<TomlKey, TomlValue>> entries(boolean deep) {
+        return new TomlEntrySet(this, deep);
+    }
+
+    /**
+     * Reports the entries present in this table recursively in lexicographical order.
+     * Entries which are tables are not included.
+     * @see #entries(boolean)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default @NotNull @Unmodifiable Set<Map.Entry<TomlKey, TomlValue>> entries() {
+        return this.entries(true);
+    }
+
+    /**
+     * Visits every entry of this table recursively in lexicographical order,
+     * reporting each entry by parent path and label rather than by {@link TomlKey}.
+     * This is considerably cheaper than iterating {@link #keys()} and calling {@link #get(TomlKey)}.
+     * @see TomlVisitor
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default void walk(@NotNull TomlVisitor visitor) {
+        TomlCursorImpl.walk(TomlTableImpl.levelOf(this), visitor);
+    }
+
+    /**
+     * Creates a cursor over the values of this table recursively in lexicographical order.
+     * The same keys are reported as by {@link #keys()}, though by parent path and label
+     * rather than by {@link TomlKey}. A cursor may be {@link TomlCursor#reset() reset}
+     * and reused.
+     * @see TomlCursor
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @Contract("-> new")
+    default @NotNull TomlCursor cursor() {
+        return new TomlCursorImpl(TomlTableImpl.levelOf(this));
+    }
+
     /**
      * Returns true if the given key has a mapping within this table.
      * This will return true for keys mapped to tables, including empty tables.
@@ -124,6 +219,83 @@ public interface TomlTable extends TomlValue {
         return this.get(TomlKey.parse(key));
     }
 
+    /**
+     * Returns true if the given path has a mapping within this table.
+     * This will return true for paths mapped to tables, including empty tables.
+     * Implementations may cache the resolution of the path, so this is
+     * preferable to {@link #contains(CharSequence)} for repeated lookups.
+     * @see #contains(TomlKey)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default boolean contains(@NotNull TomlPath path) {
+        return this.contains(path.toKey());
+    }
+
+    /**
+     * Gets the value mapped to the given path, or null
+     * if no entry exists. Implementations may cache the resolution of the path,
+     * so this is preferable to {@link #get(CharSequence)} for repeated lookups.
+     * @see #get(TomlKey)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default @Nullable TomlValue get(@NotNull TomlPath path) {
+        return this.get(path.toKey());
+    }
+
+    /**
+     * Gets the string mapped to the given path, or the provided default value if
+     * no entry exists or the entry is not a string.
+     * @see #get(TomlPath)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @Contract("_, !null -> !null")
+    default String getString(@NotNull TomlPath path, String def) {
+        TomlValue value = this.get(path);
+        if (value == null || !value.isPrimitive()) return def;
+        TomlPrimitive primitive = value.asPrimitive();
+        return primitive.isString() ? primitive.asString() : def;
+    }
+
+    /**
+     * Gets the boolean mapped to the given path, or the provided default value if
+     * no entry exists or the entry is not a boolean.
+     * @see #get(TomlPath)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default boolean getBoolean(@NotNull TomlPath path, boolean def) {
+        TomlValue value = this.get(path);
+        if (value == null || !value.isPrimitive()) return def;
+        TomlPrimitive primitive = value.asPrimitive();
+        return primitive.isBoolean() ? primitive.asBoolean() : def;
+    }
+
+    /**
+     * Gets the integer mapped to the given path, or the provided default value if
+     * no entry exists or the entry is not an integer.
+     * @see #get(TomlPath)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default long getLong(@NotNull TomlPath path, long def) {
+        TomlValue value = this.get(path);
+        if (value == null || !value.isPrimitive()) return def;
+        TomlPrimitive primitive = value.asPrimitive();
+        return primitive.isInteger() ? primitive.asLong() : def;
+    }
+
+    /**
+     * Gets the number mapped to the given path, or the provided default value if
+     * no entry exists or the entry is neither a float nor an integer.
+     * @see #get(TomlPath)
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    default double getDouble(@NotNull TomlPath path, double def) {
+        TomlValue value = this.get(path);
+        if (value == null || !value.isPrimitive()) return def;
+        TomlPrimitive primitive = value.asPrimitive();
+        if (primitive.isFloat() || primitive.isInteger()) return primitive.asDouble();
+        return def;
+    }
+
     /**
      * Updates the value mapped to the given key, creating a
      * new entry if one does not exist.
@@ -302,15 +474,43 @@ public interface TomlTable extends TomlValue {
         return this.remove(TomlKey.parse(key));
     }
 
+    /**
+     * Provides an immutable snapshot of this table. The snapshot is a deep copy and is not
+     * affected by later modifications to this table. Snapshots may be safely shared between threads,
+     * and new versions may be derived cheaply with {@link ImmutableTomlTable#with(TomlKey, TomlValue)}.
+     * @see ImmutableTomlTable
+     */
+    @ApiStatus.AvailableSince("1.6.0")
+    @Contract("-> !null")
+    default @NotNull ImmutableTomlTable freeze() {
+        return ImmutableTomlTable.copyOf(this);
+    }
+
+    @Override
+    @ApiStatus.AvailableSince("1.6.0")
+    default long fingerprint() {
+        return TomlTableImpl.levelOf(this).levelFingerprint();
+    }
+
+    /**
+     * Provides the table which holds the entries of this table. Tables which delegate
+     * to another table return the delegate, all others return themselves.
+     */
+    @ApiStatus.Internal
+    @ApiStatus.AvailableSince("1.6.0")
+    @Contract(pure = true)
+    default @NotNull TomlTable unwrap() {
+        return this;
+    }
+
     /**
      * Creates a new map which contains a flattened view of this
      * table. The resulting table is ordered arbitrarily.
      */
     @Contract("-> new")
     default @NotNull Map<TomlKey, TomlValue> toMap() {
-        Set<TomlKey> keys = this.keys();
-        Map<TomlKey, TomlValue> map = new HashMap<>(keys.size());
-        for (TomlKey key : keys) map.put(key, this.get(key));
+        Map<TomlKey, TomlValue> map = new HashMap<>(this.size());
+        for (Map.Entry<TomlKey, TomlValue> entry : this.entries()) map.put(entry.getKey(), entry.getValue());
         return map;
     }
 
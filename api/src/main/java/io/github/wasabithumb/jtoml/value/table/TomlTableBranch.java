@@ -16,6 +16,7 @@
 
 package io.github.wasabithumb.jtoml.value.table;
 
+import io.github.wasabithumb.jtoml.value.TomlFingerprints;
 import io.github.wasabithumb.jtoml.value.TomlValue;
 import io.github.wasabithumb.jtoml.value.array.TomlArray;
 import org.jetbrains.annotations.*;
@@ -23,15 +24,57 @@ import org.jetbrains.annotations.*;
 import java.util.*;
 
 @ApiStatus.Internal
-final class TomlTableBranch implements TomlTableNode {
+final class TomlTableBranch implements TomlTableNode, TomlTableLevel, TomlFingerprints.Holder, TomlFingerprints.Observable {
 
     @Contract("_ -> new")
     public static @NotNull TomlTableBranch copyOf(@NotNull TomlTableBranch branch) {
         return copyOf(branch, null);
     }
 
+    /**
+     * Creates a branch which mirrors the given immutable table. Since the source can never change,
+     * reads are served from it directly. A level is only copied once it is modified, so a copy holds
+     * the path to each modification and the values it has handed out, and nothing else.
+     */
+    @Contract("_ -> new")
+    static @NotNull TomlTableBranch lazy(@NotNull ImmutableTomlTableImpl source) {
+        TomlTableBranch ret = new TomlTableBranch(0);
+        ret.source = source;
+        ret.entryCount = source.size();
+        return ret;
+    }
+
     @Contract("_, _ -> new")
     private static @NotNull TomlTableBranch copyOf(@NotNull TomlTableBranch branch, @Nullable TomlTableBranch parent) {
+        if (branch.source != null) {
+            TomlTableBranch ret = lazy(branch.source);
+            ret.entryCount = branch.entryCount;
+
+            // Values handed out by the source branch may have been modified since
+            TomlTableNode[] shared = branch.sharedNodes();
+            if (shared != null) {
+                ret.shared = new TomlTableNode[shared.length];
+                TomlTableNode next;
+                for (int i=0; i < shared.length; i++) {
+                    next = shared[i];
+                    if (next == null) continue;
+                    if (next.isBranch()) {
+                        next = copyOf(next.asBranch(), ret);
+                    } else {
+                        next = new TomlTableLeaf(TomlValue.copyOf(next.asLeaf().value()));
+                        ret.attach(next);
+                    }
+                    ret.shared[i] = next;
+                }
+            }
+
+            if (parent != null) {
+                ret.parents.add(parent);
+                if (ret.untracked) parent.contentUntracked();
+            }
+            return ret;
+        }
+
         TomlTableBranch ret = new TomlTableBranch(branch.capacity);
         ret.len = branch.len;
         ret.entryCount = branch.entryCount;
@@ -45,12 +88,15 @@ final class TomlTableBranch implements TomlTableNode {
             } else {
                 TomlValue tv = next.asLeaf().value();
                 next = new TomlTableLeaf(TomlValue.copyOf(tv));
+                ret.attach(next);
             }
             ret.nodes[i] = next;
         }
 
-        if (parent != null)
+        if (parent != null) {
             ret.parents.add(parent);
+            if (ret.untracked) parent.contentUntracked();
+        }
 
         return ret;
     }
@@ -63,6 +109,13 @@ final class TomlTableBranch implements TomlTableNode {
     private String[] labels;
     private TomlTableNode[] nodes;
     private int entryCount;
+    private int modCount;
+    private ImmutableTomlTableImpl source;
+    private TomlTableNode[] shared;
+    private Set<TomlFingerprints.Holder> holders;
+    private long fingerprint;
+    private boolean fingerprinted;
+    private boolean untracked;
     TomlValue attachedValue;
 
     private TomlTableBranch(int capacity) {
@@ -72,6 +125,13 @@ final class TomlTableBranch implements TomlTableNode {
         this.labels = new String[capacity];
         this.nodes = new TomlTableNode[capacity];
         this.entryCount = 0;
+        this.modCount = 0;
+        this.source = null;
+        this.shared = null;
+        this.holders = null;
+        this.fingerprint = 0L;
+        this.fingerprinted = false;
+        this.untracked = false;
         this.attachedValue = null;
     }
 
@@ -83,62 +143,55 @@ final class TomlTableBranch implements TomlTableNode {
 
     /** @implNote This is a shallow listing */
     public @NotNull @Unmodifiable List<String> keys() {
+        ImmutableTomlTableImpl src = this.source;
+        if (src != null) return src.levelLabels();
         return Collections.unmodifiableList(Arrays.asList(this.labels).subList(0, this.len));
     }
 
     /** @implNote This is a shallow count */
     public int keyCount() {
-        return this.len;
+        ImmutableTomlTableImpl src = this.source;
+        return src != null ? src.levelSize() : this.len;
     }
 
     public void clear() {
+        this.source = null;
+        this.shared = null;
         this.len = 0;
         if (this.capacity > 8) this.resize(8);
         this.modifyEntryCount(-this.entryCount);
     }
 
     public @Nullable TomlTableNode get(@NotNull String label) {
-        TomlTableNode next;
-        int cmp;
-        for (int i=0; i < this.len; i++) {
-            next = this.nodes[i];
-            cmp = label.compareTo(this.labels[i]);
-            if (cmp < 0) {
-                break;
-            } else if (cmp == 0) {
-                return next;
-            }
+        ImmutableTomlTableImpl src = this.source;
+        if (src != null) {
+            int idx = src.indexOf(label);
+            return idx < 0 ? null : this.sharedNode(src, idx);
         }
-        return null;
+        int idx = this.indexOf(label);
+        return idx < 0 ? null : this.nodes[idx];
     }
 
     public @Nullable TomlTableNode put(@NotNull String label, @NotNull TomlTableNode node) {
-        int idx = this.len;
-        boolean shift = false;
-
+        this.inflate();
         if (node.isBranch())
             node.asBranch().addParent(this);
-
-        TomlTableNode next;
-        int cmp;
-        for (int i=0; i < this.len; i++) {
-            next = this.nodes[i];
-            cmp = label.compareTo(this.labels[i]);
-            if (cmp == 0) {
-                // clobber
-                this.nodes[i] = node;
-                this.modifyEntryCount(node.entryCount() - next.entryCount());
-                return next;
-            } else if (cmp < 0) {
-                // insert
-                idx = i;
-                shift = true;
-                break;
-            }
+        this.attach(node);
+
+        int idx = this.indexOf(label);
+        if (idx >= 0) {
+            // clobber
+            TomlTableNode old = this.nodes[idx];
+            this.detach(old);
+            this.nodes[idx] = node;
+            this.modifyEntryCount(node.entryCount() - old.entryCount());
+            return old;
         }
 
+        // insert
+        idx = -(idx + 1);
         this.ensureSpace();
-        if (shift) {
+        if (idx < this.len) {
             System.arraycopy(this.nodes, idx, this.nodes, idx + 1, this.len - idx);
             System.arraycopy(this.labels, idx, this.labels, idx + 1, this.len - idx);
         }
@@ -150,33 +203,139 @@ final class TomlTableBranch implements TomlTableNode {
     }
 
     public @Nullable TomlTableNode remove(@NotNull String label) {
-        TomlTableNode next;
+        this.inflate();
+        int idx = this.indexOf(label);
+        if (idx < 0) return null;
+
+        TomlTableNode old = this.nodes[idx];
+        if (old.isBranch())
+            old.asBranch().removeParent(this);
+        this.detach(old);
+        this.len--;
+        this.modifyEntryCount(-old.entryCount());
+        System.arraycopy(this.nodes, idx + 1, this.nodes, idx, this.len - idx);
+        System.arraycopy(this.labels, idx + 1, this.labels, idx, this.len - idx);
+        this.nodes[this.len] = null;
+        this.labels[this.len] = null;
+        this.tryShrink();
+        return old;
+    }
+
+    /**
+     * Provides a counter which changes whenever this branch or any of its descendants
+     * is structurally modified. Used to validate cached resolutions.
+     */
+    public int modCount() {
+        return this.modCount;
+    }
+
+    /** Binary search over the sorted labels, with the same return convention as {@link Arrays#binarySearch} */
+    private int indexOf(@NotNull String label) {
+        int lo = 0;
+        int hi = this.len - 1;
+        int mid;
         int cmp;
-        for (int i=0; i < this.len; i++) {
-            next = this.nodes[i];
-            cmp = label.compareTo(this.labels[i]);
-            if (cmp != 0) {
-                if (cmp > 0) break;
-                continue;
+        while (lo <= hi) {
+            mid = (lo + hi) >>> 1;
+            cmp = this.labels[mid].compareTo(label);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
             }
-            if (next.isBranch())
-                next.asBranch().removeParent(this);
-            this.len--;
-            this.modifyEntryCount(-next.entryCount());
-            System.arraycopy(this.nodes, i + 1, this.nodes, i, this.len - i);
-            System.arraycopy(this.labels, i + 1, this.labels, i, this.len - i);
-            this.tryShrink();
-            return next;
         }
-        return null;
+        return -(lo + 1);
+    }
+
+    /**
+     * Provides the node for the entry at the given index of the source, while this level is
+     * still backed by it. Values may be modified by whoever receives them, so each is mirrored
+     * once and remembered: tables by a lazy branch, and arrays and primitives by a copy. A copied
+     * primitive shares the value and comment array of the source until its comments are modified.
+     */
+    private @NotNull TomlTableNode sharedNode(@NotNull ImmutableTomlTableImpl src, int index) {
+        TomlValue value = src.levelValue(index);
+        TomlTableNode node;
+        synchronized (this) {
+            TomlTableNode[] shared = this.shared;
+            if (shared == null) this.shared = shared = new TomlTableNode[src.levelSize()];
+
+            node = shared[index];
+            if (node != null) return node;
+
+            if (value.isTable()) {
+                TomlTableBranch child = TomlTableImpl.copyOf(value.asTable()).root();
+                child.parents.add(this);
+                node = child;
+            } else {
+                node = new TomlTableLeaf(TomlValue.copyOf(value));
+                this.attach(node);
+            }
+            shared[index] = node;
+        }
+
+        // A cached fingerprint taken from the source does not observe the new node
+        this.contentModified();
+        return node;
+    }
+
+    private synchronized TomlTableNode @Nullable [] sharedNodes() {
+        return this.shared;
+    }
+
+    /** Copies this level out of the immutable source, if it is still backed by one, prior to a modification */
+    private void inflate() {
+        ImmutableTomlTableImpl src = this.source;
+        if (src == null) return;
+
+        final int len = src.levelSize();
+        int capacity = 8;
+        while (capacity < len) capacity <<= 1;
+        String[] labels = new String[capacity];
+        TomlTableNode[] nodes = new TomlTableNode[capacity];
+        for (int i=0; i < len; i++) {
+            labels[i] = src.levelLabel(i);
+            nodes[i] = this.sharedNode(src, i);
+        }
+
+        this.capacity = capacity;
+        this.labels = labels;
+        this.nodes = nodes;
+        this.len = len;
+        this.source = null;
+        this.shared = null;
     }
 
     private void modifyEntryCount(int mod) {
         this.entryCount += mod;
+        this.modCount++;
+        this.fingerprinted = false;
+        this.notifyHolders();
         for (TomlTableBranch parent : this.parents)
             parent.modifyEntryCount(mod);
     }
 
+    /** Registers this branch with the value of the given node, if it is a leaf */
+    private void attach(@NotNull TomlTableNode node) {
+        if (node.isBranch()) {
+            if (node.asBranch().untracked) this.contentUntracked();
+        } else if (!TomlFingerprints.attach(this, node.asLeaf().value())) {
+            this.contentUntracked();
+        }
+    }
+
+    private void detach(@NotNull TomlTableNode node) {
+        if (node.isLeaf()) TomlFingerprints.detach(this, node.asLeaf().value());
+    }
+
+    private void notifyHolders() {
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders == null) return;
+        for (TomlFingerprints.Holder holder : holders) holder.contentModified();
+    }
+
     private boolean isInHierarchy(@NotNull TomlTableBranch subject) {
         if (this.equals(subject)) return true;
         for (TomlTableBranch parent : this.parents) {
@@ -189,6 +348,7 @@ final class TomlTableBranch implements TomlTableNode {
         if (parent.isInHierarchy(this))
             throw new IllegalStateException("Attempt to create circular table relationship");
         this.parents.add(parent);
+        if (this.untracked) parent.contentUntracked();
     }
 
     private void removeParent(@NotNull TomlTableBranch parent) {
@@ -209,7 +369,7 @@ final class TomlTableBranch implements TomlTableNode {
 
     private void ensureSpace() {
         if (this.len < this.capacity) return;
-        this.resize(this.capacity << 1);
+        this.resize(Math.max(8, this.capacity << 1));
     }
 
     private void tryShrink() {
@@ -218,6 +378,139 @@ final class TomlTableBranch implements TomlTableNode {
         this.resize(tc);
     }
 
+    // START Level Super
+
+    @Override
+    public int levelSize() {
+        ImmutableTomlTableImpl src = this.source;
+        return src != null ? src.levelSize() : this.len;
+    }
+
+    @Override
+    public @NotNull String levelLabel(int index) {
+        ImmutableTomlTableImpl src = this.source;
+        return src != null ? src.levelLabel(index) : this.labels[index];
+    }
+
+    @Override
+    public @NotNull TomlValue levelValue(int index) {
+        ImmutableTomlTableImpl src = this.source;
+        if (src != null) return TomlTableImpl.wrap(this.sharedNode(src, index));
+        return TomlTableImpl.wrap(this.nodes[index]);
+    }
+
+    @Override
+    public @Nullable TomlTableLevel levelChild(int index) {
+        ImmutableTomlTableImpl src = this.source;
+        if (src != null) {
+            // Tables which have not been handed out are identical to the source
+            TomlTableNode[] shared = this.sharedNodes();
+            TomlTableNode node = shared == null ? null : shared[index];
+            if (node == null) return src.levelChild(index);
+            return node.isBranch() ? node.asBranch() : null;
+        }
+        TomlTableNode node = this.nodes[index];
+        return node.isBranch() ? node.asBranch() : null;
+    }
+
+    @Override
+    public int levelModCount() {
+        return this.modCount;
+    }
+
+    @Override
+    public long levelFingerprint() {
+        if (this.fingerprinted) return this.fingerprint;
+
+        long fingerprint;
+        ImmutableTomlTableImpl src = this.source;
+        TomlTableNode[] shared = this.sharedNodes();
+        if (src != null && shared == null) {
+            // Nothing has been handed out, so the content is identical to the source
+            fingerprint = src.levelFingerprint();
+        } else if (src != null) {
+            fingerprint = this.sharedFingerprint(src, shared);
+            if (this.untracked) return fingerprint;
+        } else {
+            fingerprint = TomlTableLevel.super.levelFingerprint();
+            if (this.untracked) return fingerprint;
+        }
+        this.fingerprint = fingerprint;
+        this.fingerprinted = true;
+        return fingerprint;
+    }
+
+    @Override
+    public boolean levelFingerprinted() {
+        return this.fingerprinted;
+    }
+
+    /** Computes the fingerprint of a level which is still backed by its source, without handing out any values */
+    private long sharedFingerprint(@NotNull ImmutableTomlTableImpl src, TomlTableNode @NotNull [] shared) {
+        final int len = src.levelSize();
+        long h = TomlFingerprints.tableStart();
+        TomlTableNode node;
+        TomlTableLevel child;
+        long entry;
+        for (int i=0; i < len; i++) {
+            node = shared[i];
+            if (node == null) {
+                child = src.levelChild(i);
+                entry = child == null ? src.levelValue(i).fingerprint() : child.levelFingerprint();
+            } else if (node.isBranch()) {
+                entry = node.asBranch().levelFingerprint();
+            } else {
+                entry = node.asLeaf().value().fingerprint();
+            }
+            h = TomlFingerprints.tableEntry(h, src.levelLabel(i), entry);
+        }
+        return TomlFingerprints.tableEnd(h, len);
+    }
+
+    // END Level Super
+
+    // START Fingerprint Super
+
+    @Override
+    public void contentModified() {
+        if (!this.fingerprinted) return;
+        this.fingerprinted = false;
+        this.notifyHolders();
+        for (TomlTableBranch parent : this.parents) parent.contentModified();
+    }
+
+    @Override
+    public void contentUntracked() {
+        if (this.untracked) return;
+        this.untracked = true;
+        this.fingerprinted = false;
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders != null) {
+            for (TomlFingerprints.Holder holder : holders) holder.contentUntracked();
+        }
+        for (TomlTableBranch parent : this.parents) parent.contentUntracked();
+    }
+
+    @Override
+    public void addHolder(@NotNull TomlFingerprints.Holder holder) {
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders == null) this.holders = holders = Collections.newSetFromMap(new WeakHashMap<>());
+        holders.add(holder);
+    }
+
+    @Override
+    public void removeHolder(@NotNull TomlFingerprints.Holder holder) {
+        Set<TomlFingerprints.Holder> holders = this.holders;
+        if (holders != null) holders.remove(holder);
+    }
+
+    @Override
+    public boolean isTracked() {
+        return !this.untracked;
+    }
+
+    // END Fingerprint Super
+
     // START Node Super
 
     @Override
@@ -18,19 +18,53 @@ package io.github.wasabithumb.jtoml.value.table;
 
 import io.github.wasabithumb.jtoml.comment.Comments;
 import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.key.TomlPath;
+import io.github.wasabithumb.jtoml.value.TomlFingerprints;
 import io.github.wasabithumb.jtoml.value.TomlValue;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
 
 @ApiStatus.Internal
-final class TomlTableImpl implements TomlTable {
+final class TomlTableImpl implements TomlTable, TomlFingerprints.Observable {
+
+    /**
+     * Provides the traversal level for the given table,
+     * operating directly on the branch structure if possible.
+     */
+    static @NotNull TomlTableLevel levelOf(@NotNull TomlTable table) {
+        table = table.unwrap();
+        if (table instanceof TomlTableImpl) return ((TomlTableImpl) table).root;
+        if (table instanceof TomlTableLevel) return (TomlTableLevel) table;
+        if (table instanceof ConcurrentTomlTableImpl) return ((ConcurrentTomlTableImpl) table).level();
+        return TomlTableLevel.snapshot(table);
+    }
 
-    static @NotNull TomlTableImpl copyOf(@NotNull TomlTableImpl table) {
-        return new TomlTableImpl(
-                TomlTableBranch.copyOf(table.root),
-                Comments.copyOf(table.comments)
-        );
+    static @NotNull TomlTableImpl copyOf(@NotNull TomlTable table) {
+        if (table instanceof ImmutableTomlTableImpl) {
+            // The source cannot change, so levels are copied on first access
+            TomlTableImpl ret = new TomlTableImpl(
+                    TomlTableBranch.lazy((ImmutableTomlTableImpl) table),
+                    Comments.copyOf(table.comments())
+            );
+            ret.root.attachedValue = ret;
+            return ret;
+        }
+        if (table instanceof TomlTableImpl) {
+            TomlTableImpl qual = (TomlTableImpl) table;
+            return new TomlTableImpl(
+                    TomlTableBranch.copyOf(qual.root),
+                    Comments.copyOf(qual.comments)
+            );
+        }
+
+        TomlTableImpl ret = new TomlTableImpl(new TomlTableBranch(), Comments.copyOf(table.comments()));
+        TomlTableLevel level = levelOf(table);
+        final int len = level.levelSize();
+        for (int i=0; i < len; i++) {
+            ret.put(TomlKey.literal(level.levelLabel(i)), TomlValue.copyOf(level.levelValue(i)));
+        }
+        return ret;
     }
 
     //
@@ -39,12 +73,14 @@ final class TomlTableImpl implements TomlTable {
     private final TomlTableBranch root;
     private final Comments comments;
     private transient byte flags;
+    private transient CachedPath[] pathCache;
 
     private TomlTableImpl(@NotNull TomlTableBranch root, @NotNull Comments comments) {
         this.creationTime = System.nanoTime();
         this.root = root;
         this.comments = comments;
         this.flags = 0;
+        this.pathCache = null;
     }
 
     private TomlTableImpl(@NotNull TomlTableBranch root) {
@@ -55,6 +91,10 @@ final class TomlTableImpl implements TomlTable {
         this(new TomlTableBranch());
     }
 
+    @NotNull TomlTableBranch root() {
+        return this.root;
+    }
+
     //
     
     @Override
@@ -112,7 +152,17 @@ final class TomlTableImpl implements TomlTable {
         Resolution r = this.resolve(key, false);
         if (r == null) return null;
         TomlTableNode node = r.branch.get(r.label);
-        return this.wrapNode(node);
+        return wrap(node);
+    }
+
+    @Override
+    public boolean contains(@NotNull TomlPath path) {
+        return this.lookup(path) != null;
+    }
+
+    @Override
+    public @Nullable TomlValue get(@NotNull TomlPath path) {
+        return wrap(this.lookup(path));
     }
 
     @Override
@@ -120,14 +170,22 @@ final class TomlTableImpl implements TomlTable {
         Resolution r = this.resolve(key, true);
         TomlTableNode old;
         if (value.isTable()) {
-            TomlTableImpl tbl = (TomlTableImpl) value.asTable();
-            tbl.root.attachedValue = value;
+            TomlTable table = value.asTable();
+            TomlTableImpl tbl;
+            if (table instanceof TomlTableImpl) {
+                tbl = (TomlTableImpl) table;
+                tbl.root.attachedValue = value;
+            } else {
+                // Other implementations cannot be aliased, so their content is copied
+                tbl = copyOf(table);
+                tbl.root.attachedValue = tbl;
+            }
             old = r.branch.put(r.label, tbl.root);
         } else {
             TomlTableLeaf leaf = new TomlTableLeaf(value);
             old = r.branch.put(r.label, leaf);
         }
-        return this.wrapNode(old);
+        return wrap(old);
     }
 
     @Override
@@ -135,11 +193,31 @@ final class TomlTableImpl implements TomlTable {
         Resolution r = this.resolve(key, false);
         if (r == null) return null;
         TomlTableNode node = r.branch.remove(r.label);
-        return this.wrapNode(node);
+        return wrap(node);
+    }
+
+    @Override
+    public long fingerprint() {
+        return this.root.levelFingerprint();
+    }
+
+    @Override
+    public void addHolder(@NotNull TomlFingerprints.Holder holder) {
+        this.root.addHolder(holder);
+    }
+
+    @Override
+    public void removeHolder(@NotNull TomlFingerprints.Holder holder) {
+        this.root.removeHolder(holder);
+    }
+
+    @Override
+    public boolean isTracked() {
+        return this.root.isTracked();
     }
 
     @Contract("null -> null; !null -> !null")
-    private TomlValue wrapNode(TomlTableNode node) {
+    static TomlValue wrap(TomlTableNode node) {
         if (node == null) return null;
         if (node.isLeaf()) {
             return node.asLeaf().value();
@@ -158,31 +236,97 @@ final class TomlTableImpl implements TomlTable {
     private @Nullable Resolution resolve(TomlKey key, boolean create) {
         if (key == null) throw new NullPointerException("Key may not be null");
 
-        Iterator<String> iter = key.iterator();
-        if (!iter.hasNext()) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
+        final int len = key.size();
+        if (len == 0) throw new IllegalArgumentException("Cannot use empty (zero part) key in TomlTable");
 
         TomlTableBranch head = this.root;
-        String label = iter.next();
-
-        while (iter.hasNext()) {
-            TomlTableNode node = head.get(label);
-            if (node != null && node.isBranch()) {
-                head = node.asBranch();
-            } else if (create) {
-                TomlTableBranch branch = new TomlTableBranch();
-                head.put(label, branch);
-                head = branch;
-            } else {
-                return null;
+        String label;
+
+        if (key instanceof RandomAccess) {
+            for (int i=0; i < (len - 1); i++) {
+                head = descend(head, key.get(i), create);
+                if (head == null) return null;
             }
+            label = key.get(len - 1);
+        } else {
+            Iterator<String> iter = key.iterator();
             label = iter.next();
+            while (iter.hasNext()) {
+                head = descend(head, label, create);
+                if (head == null) return null;
+                label = iter.next();
+            }
         }
 
         return new Resolution(head, label);
     }
 
+    /**
+     * Resolves the node mapped to the given path, consulting a small direct-mapped cache
+     * which is invalidated whenever this table (or any descendant) is structurally modified.
+     */
+    private @Nullable TomlTableNode lookup(@NotNull TomlPath path) {
+        final int modCount = this.root.modCount();
+        CachedPath[] cache = this.pathCache;
+        if (cache == null) {
+            cache = new CachedPath[PATH_CACHE_SIZE];
+            this.pathCache = cache;
+        }
+
+        final int slot = path.hashCode() & (PATH_CACHE_SIZE - 1);
+        CachedPath cached = cache[slot];
+        if (cached != null && cached.modCount == modCount && cached.path.equals(path))
+            return cached.node;
+
+        TomlTableNode node = null;
+        TomlTableBranch head = this.root;
+        final int len = path.size();
+        for (int i=0; i < (len - 1); i++) {
+            head = descend(head, path.get(i), false);
+            if (head == null) break;
+        }
+        if (head != null) node = head.get(path.get(len - 1));
+
+        cache[slot] = new CachedPath(path, node, modCount);
+        return node;
+    }
+
+    @Contract("_, _, true -> !null")
+    private static @Nullable TomlTableBranch descend(
+            @NotNull TomlTableBranch head,
+            @NotNull String label,
+            boolean create
+    ) {
+        TomlTableNode node = head.get(label);
+        if (node != null && node.isBranch()) return node.asBranch();
+        if (!create) return null;
+        TomlTableBranch branch = new TomlTableBranch();
+        head.put(label, branch);
+        return branch;
+    }
+
     //
 
+    private static final int PATH_CACHE_SIZE = 8;
+
+    private static final class CachedPath {
+
+        final TomlPath path;
+        final TomlTableNode node;
+        final int modCount;
+
+        CachedPath(
+                @NotNull TomlPath path,
+                @Nullable TomlTableNode node,
+                int modCount
+        ) {
+            this.path = path;
+            this.node = node;
+            this.modCount = modCount;
+        }
+
+    }
+
     private static final class Resolution {
 
         final TomlTableBranch branch;
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlFingerprints;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * One level of a table hierarchy, viewed as a sorted sequence of entries.
+ * Used by {@link TomlCursor} and {@link TomlTable#walk(TomlVisitor)}.
+ */
+@ApiStatus.Internal
+interface TomlTableLevel {
+
+    /**
+     * Captures the shallow entries of an arbitrary table, sorted by label
+     * as with every other level. Child tables are captured lazily.
+     */
+    static @NotNull TomlTableLevel snapshot(@NotNull TomlTable table) {
+        SortedMap<String, TomlValue> sorted = new TreeMap<>();
+        TomlValue value;
+        for (TomlKey key : table.keys(false)) {
+            value = table.get(key);
+            if (value == null) continue;
+            sorted.put(key.get(0), value);
+        }
+
+        final int len = sorted.size();
+        String[] labels = new String[len];
+        TomlValue[] values = new TomlValue[len];
+        int i = 0;
+        for (Map.Entry<String, TomlValue> entry : sorted.entrySet()) {
+            labels[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        return new Snapshot(labels, values, len);
+    }
+
+    //
+
+    int levelSize();
+
+    @NotNull String levelLabel(int index);
+
+    @NotNull TomlValue levelValue(int index);
+
+    /** Provides the level for the entry at the given index, or null if the entry is not a table */
+    @Nullable TomlTableLevel levelChild(int index);
+
+    /** A value which changes when the level is structurally modified */
+    int levelModCount();
+
+    /** Computes the content fingerprint of this level; see {@link TomlValue#fingerprint()} */
+    default long levelFingerprint() {
+        final int len = this.levelSize();
+        long h = TomlFingerprints.tableStart();
+        TomlTableLevel child;
+        for (int i=0; i < len; i++) {
+            child = this.levelChild(i);
+            h = TomlFingerprints.tableEntry(
+                    h,
+                    this.levelLabel(i),
+                    child == null ? this.levelValue(i).fingerprint() : child.levelFingerprint()
+            );
+        }
+        return TomlFingerprints.tableEnd(h, len);
+    }
+
+    /** True if {@link #levelFingerprint()} is currently cached, and therefore cheap to obtain */
+    default boolean levelFingerprinted() {
+        return false;
+    }
+
+    //
+
+    final class Snapshot implements TomlTableLevel {
+
+        private final String[] labels;
+        private final TomlValue[] values;
+        private final int len;
+
+        Snapshot(@NotNull String @NotNull [] labels, @NotNull TomlValue @NotNull [] values, int len) {
+            this.labels = labels;
+            this.values = values;
+            this.len = len;
+        }
+
+        //
+
+        @Override
+        public int levelSize() {
+            return this.len;
+        }
+
+        @Override
+        public @NotNull String levelLabel(int index) {
+            return this.labels[index];
+        }
+
+        @Override
+        public @NotNull TomlValue levelValue(int index) {
+            return this.values[index];
+        }
+
+        @Override
+        public @Nullable TomlTableLevel levelChild(int index) {
+            TomlValue value = this.values[index];
+            return value.isTable() ? TomlTableImpl.levelOf(value.asTable()) : null;
+        }
+
+        @Override
+        public int levelModCount() {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.value.table;
+
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * Receives the entries of a table hierarchy in lexicographical order.
+ * Each entry is reported as the path of its parent table, its label within
+ * that table and its value, without allocating a {@link io.github.wasabithumb.jtoml.key.TomlKey}.
+ * <p>
+ * The {@code parent} list is a view of a buffer which is reused throughout the walk;
+ * it must not be retained beyond the callback which received it.
+ * @see TomlTable#walk(TomlVisitor)
+ */
+@ApiStatus.AvailableSince("1.6.0")
+@FunctionalInterface
+public interface TomlVisitor {
+
+    /**
+     * Called when a table is encountered, before any of its entries are visited.
+     * @return True if the entries of the table should be visited
+     */
+    default boolean enterTable(
+            @NotNull @Unmodifiable List<String> parent,
+            @NotNull String label,
+            @NotNull TomlTable table
+    ) {
+        return true;
+    }
+
+    /**
+     * Called after all entries of a table have been visited.
+     * Not called if {@link #enterTable(List, String, TomlTable)} returned false.
+     */
+    default void exitTable(
+            @NotNull @Unmodifiable List<String> parent,
+            @NotNull String label,
+            @NotNull TomlTable table
+    ) { }
+
+    /**
+     * Called for each value which is not a table.
+     * Arrays (including arrays of tables) are reported as values and are not descended into.
+     */
+    void visitValue(
+            @NotNull @Unmodifiable List<String> parent,
+            @NotNull String label,
+            @NotNull TomlValue value
+    );
+
+}
@@ -18,13 +18,18 @@ package io.github.wasabithumb.jtoml.document;
 
 import io.github.wasabithumb.jtoml.comment.Comments;
 import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.key.TomlPath;
 import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlCursor;
 import io.github.wasabithumb.jtoml.value.table.TomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlVisitor;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.Map;
 import java.util.Set;
 
 @ApiStatus.Internal
@@ -94,6 +99,21 @@ public final class TomlDocumentImpl implements TomlDocument {
         return this.backing.keys(deep);
     }
 
+    @Override
+    public @NotNull @Unmodifiable Set<Map.Entry<TomlKey, TomlValue>> entries(boolean deep) {
+        return this.backing.entries(deep);
+    }
+
+    @Override
+    public void walk(@NotNull TomlVisitor visitor) {
+        this.backing.walk(visitor);
+    }
+
+    @Override
+    public @NotNull TomlCursor cursor() {
+        return this.backing.cursor();
+    }
+
     @Override
     public boolean contains(@NotNull TomlKey key) {
         return this.backing.contains(key);
@@ -104,6 +124,16 @@ public final class TomlDocumentImpl implements TomlDocument {
         return this.backing.get(key);
     }
 
+    @Override
+    public boolean contains(@NotNull TomlPath path) {
+        return this.backing.contains(path);
+    }
+
+    @Override
+    public @Nullable TomlValue get(@NotNull TomlPath path) {
+        return this.backing.get(path);
+    }
+
     @Override
     public @Nullable TomlValue put(@NotNull TomlKey key, @NotNull TomlValue value) {
         return this.backing.put(key, value);
@@ -114,6 +144,16 @@ public final class TomlDocumentImpl implements TomlDocument {
         return this.backing.remove(key);
     }
 
+    @Override
+    public @NotNull ImmutableTomlTable freeze() {
+        return this.backing.freeze();
+    }
+
+    @Override
+    public @NotNull TomlTable unwrap() {
+        return this.backing.unwrap();
+    }
+
     // END Super
 
 }
@@ -484,19 +484,22 @@ public class ExpressionReader implements Closeable {
             }
         }
 
+        // Digits are collected without underscores and converted in one step at the
+        // end, so that the result is the correctly rounded value of the literal
+        StringBuilder buf = new StringBuilder(len);
+        if (negative) buf.append('-');
+
         // Read integer part
-        long ip;
         c = str.charAt(head++);
         boolean leadsWithZero;
         if (c == '0') {
             leadsWithZero = true;
-            ip = 0;
         } else {
             if (c < '1' || c > '9')
                 this.in.raise("Invalid integer part");
             leadsWithZero = false;
-            ip = (c - '0');
         }
+        buf.append(c);
         while (head < len) {
             c = str.charAt(head);
             if (c == '_') {
@@ -508,28 +511,21 @@ public class ExpressionReader implements Closeable {
             if (c < '0' || c > '9') break;
             if (leadsWithZero) this.in.raise("Illegal leading zero in float");
             head++;
-            try {
-                ip = Math.multiplyExact(ip, 10L);
-                ip = Math.addExact(ip, (c - '0'));
-            } catch (ArithmeticException e) {
-                this.in.raise("Integer part is too large", e);
-            }
+            buf.append(c);
         }
 
         if (head >= len) this.in.raise("Expected decimal point or exponent");
-        double frac = 0d;
         long exp = 0;
         boolean none = true;
         c = str.charAt(head++);
 
         // Read fractional part
         if (c == '.') {
-            StringBuilder buf = new StringBuilder("0.");
             none = false;
             if (head >= len) this.in.raise("Expected digits after decimal point");
             c = str.charAt(head++);
             if (c < '0' || c > '9') this.in.raise("Invalid fractional part");
-            buf.append(c);
+            buf.append('.').append(c);
             while (head < len) {
                 c = str.charAt(head++);
                 if (c == '_') {
@@ -540,7 +536,6 @@ public class ExpressionReader implements Closeable {
                 if (c < '0' || c > '9') break;
                 buf.append(c);
             }
-            frac = Double.parseDouble(buf.toString());
         }
 
         // Read exponent
@@ -582,15 +577,8 @@ public class ExpressionReader implements Closeable {
             this.in.raise("Unprocessable characters in float");
         }
 
-        double d;
-        if (exp != 0) {
-            double scale = Math.pow(10, exp);
-            d = (scale * ip) + (scale * frac);
-        } else {
-            d = ((double) ip) + frac;
-        }
-        if (negative) d = -d;
-        return UnsafePrimitives.createFloat(d, str.toString());
+        if (exp != 0) buf.append('e').append(exp);
+        return UnsafePrimitives.createFloat(Double.parseDouble(buf.toString()), str.toString());
     }
 
     private @NotNull TomlPrimitive parseDateTime(@NotNull CharSequence str) throws TomlException, DateTimeException {
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io;
+
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.io.target.StringCharTarget;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Writes the body of a root table by splitting it into sections (the entries
+ * preceding each table's subtables, and runs of array-of-tables elements) which are
+ * rendered into separate buffers on a {@link ForkJoinPool}. Buffers are passed to the
+ * parent {@link TableWriter} strictly in order, and only a bounded number are
+ * outstanding at any time.
+ */
+final class ParallelTableWriter {
+
+    /** Approximate cost of an array-of-tables element, relative to a single key-value */
+    private static final int ELEMENT_WEIGHT = 8;
+    /** Bodies lighter than this are written sequentially */
+    private static final int MIN_PARALLEL_WEIGHT = 4096;
+    private static final int MIN_TASK_WEIGHT = 512;
+    private static final int MAX_TASK_WEIGHT = 65536;
+    /** Number of tasks to aim for per thread, so that uneven tasks balance out */
+    private static final int TASKS_PER_THREAD = 8;
+
+    //
+
+    private final TableWriter parent;
+    private final WriterPlan plan;
+    private final ForkJoinPool pool;
+    private final List<Section> sections;
+    private long totalWeight;
+
+    ParallelTableWriter(@NotNull TableWriter parent, @NotNull ForkJoinPool pool) {
+        this.parent = parent;
+        this.plan = parent.plan;
+        this.pool = pool;
+        this.sections = new ArrayList<>();
+        this.totalWeight = 0L;
+    }
+
+    //
+
+    void write(@NotNull TomlTable table) throws TomlException {
+        this.split(table, false);
+
+        final int parallelism = this.pool.getParallelism();
+        if (parallelism < 2 || this.totalWeight < MIN_PARALLEL_WEIGHT) {
+            for (Section section : this.sections) section.write(this.parent, 0, section.count());
+            this.parent.resetPath("", 0);
+            return;
+        }
+
+        final long taskWeight = Math.max(
+                MIN_TASK_WEIGHT,
+                Math.min(MAX_TASK_WEIGHT, this.totalWeight / ((long) parallelism * TASKS_PER_THREAD))
+        );
+        final int window = parallelism * 2;
+        final Deque<ForkJoinTask<StringCharTarget>> pending = new ArrayDeque<>(window);
+
+        try {
+            Task task = new Task();
+            long weight = 0L;
+            int take;
+            for (Section section : this.sections) {
+                for (int from = 0; from < section.count(); from += take) {
+                    take = (int) Math.min(
+                            section.count() - from,
+                            Math.max(1L, (taskWeight - weight) / section.unitWeight())
+                    );
+                    task.add(section, from, from + take);
+                    weight += (long) take * section.unitWeight();
+                    if (weight < taskWeight) continue;
+
+                    if (pending.size() == window) await(pending.removeFirst()).drainTo(this.parent.out);
+                    pending.addLast(this.pool.submit(task));
+                    task = new Task();
+                    weight = 0L;
+                }
+            }
+            if (weight != 0L) pending.addLast(this.pool.submit(task));
+
+            while (!pending.isEmpty()) await(pending.removeFirst()).drainTo(this.parent.out);
+        } catch (RuntimeException | Error e) {
+            for (ForkJoinTask<?> t : pending) t.cancel(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a task, rethrowing any exception it raised as-is
+     */
+    private static @NotNull StringCharTarget await(@NotNull ForkJoinTask<StringCharTarget> task) throws TomlException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new AssertionError("Unexpected checked exception in write task", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException ex = new InterruptedIOException("Interrupted while writing");
+            ex.initCause(e);
+            TomlIOException.rethrow(ex);
+            throw new AssertionError("Unreachable code");
+        }
+    }
+
+    /**
+     * Lists the sections of the table at the parent's current path and its subtables
+     * in the order that they are written
+     */
+    private void split(@NotNull TomlTable table, boolean andHeader) {
+        final TableWriter parent = this.parent;
+        final List<TableWriter.TypedKey> keys = parent.deconstruct(table);
+        final int count = keys.size();
+
+        int end = count;
+        while (end > 0 && keys.get(end - 1).type.opensSection()) end--;
+        this.add(new HeadSection(parent.pathText(), parent.pathSize(), table, keys, andHeader, end));
+
+        TableWriter.TypedKey typedKey;
+        int mark;
+        for (int i=end; i < count; i++) {
+            typedKey = keys.get(i);
+            mark = parent.pushPath(typedKey.key);
+            if (typedKey.type == TableWriter.ValueType.TABLE) {
+                this.split(typedKey.value.asTable(), true);
+            } else {
+                this.add(new TableArraySection(parent.pathText(), parent.pathSize(), typedKey.value.asArray()));
+            }
+            parent.popPath(mark, typedKey.key);
+        }
+    }
+
+    private void add(@NotNull Section section) {
+        if (section.count() == 0) return;
+        this.sections.add(section);
+        this.totalWeight += (long) section.count() * section.unitWeight();
+    }
+
+    //
+
+    /**
+     * A run of output consisting of {@link #count()} units which may be written
+     * separately, in order
+     */
+    private interface Section {
+
+        int count();
+
+        int unitWeight();
+
+        void write(@NotNull TableWriter writer, int from, int to) throws TomlException;
+
+    }
+
+    /**
+     * The header of a table followed by the entries preceding its subtables. Always
+     * written whole.
+     */
+    private static final class HeadSection implements Section {
+
+        private final String pathText;
+        private final int pathSize;
+        private final TomlTable table;
+        private final List<TableWriter.TypedKey> keys;
+        private final boolean andHeader;
+        private final int end;
+
+        HeadSection(
+                @NotNull String pathText,
+                int pathSize,
+                @NotNull TomlTable table,
+                @NotNull List<TableWriter.TypedKey> keys,
+                boolean andHeader,
+                int end
+        ) {
+            this.pathText = pathText;
+            this.pathSize = pathSize;
+            this.table = table;
+            this.keys = keys;
+            this.andHeader = andHeader;
+            this.end = end;
+        }
+
+        @Override
+        public int count() {
+            return 1;
+        }
+
+        @Override
+        public int unitWeight() {
+            return 1 + this.end;
+        }
+
+        @Override
+        public void write(@NotNull TableWriter writer, int from, int to) throws TomlException {
+            writer.resetPath(this.pathText, this.pathSize);
+            writer.writeTableBody(this.table, this.keys, this.andHeader, this.end);
+        }
+
+    }
+
+    /**
+     * The elements of an array of tables
+     */
+    private static final class TableArraySection implements Section {
+
+        private final String pathText;
+        private final int pathSize;
+        private final TomlArray arr;
+
+        TableArraySection(@NotNull String pathText, int pathSize, @NotNull TomlArray arr) {
+            this.pathText = pathText;
+            this.pathSize = pathSize;
+            this.arr = arr;
+        }
+
+        @Override
+        public int count() {
+            return this.arr.size();
+        }
+
+        @Override
+        public int unitWeight() {
+            return ELEMENT_WEIGHT;
+        }
+
+        @Override
+        public void write(@NotNull TableWriter writer, int from, int to) throws TomlException {
+            writer.resetPath(this.pathText, this.pathSize);
+            writer.writeTableArray(this.arr, from, to);
+        }
+
+    }
+
+    /**
+     * Units {@code from} (inclusive) to {@code to} (exclusive) of a section
+     */
+    private static final class Slice {
+
+        private final Section section;
+        private final int from;
+        private final int to;
+
+        Slice(@NotNull Section section, int from, int to) {
+            this.section = section;
+            this.from = from;
+            this.to = to;
+        }
+
+    }
+
+    /**
+     * Renders one or more slices into a buffer
+     */
+    private final class Task implements Callable<StringCharTarget> {
+
+        private final List<Slice> slices = new ArrayList<>();
+
+        void add(@NotNull Section section, int from, int to) {
+            this.slices.add(new Slice(section, from, to));
+        }
+
+        @Override
+        public @NotNull StringCharTarget call() throws TomlException {
+            final StringCharTarget target = new StringCharTarget();
+            final TableWriter writer = new TableWriter(target, ParallelTableWriter.this.plan);
+            writer.beginStream();
+
+            for (Slice slice : this.slices) slice.section.write(writer, slice.from, slice.to);
+            return target;
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io;
+
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Formats integer and date-time primitives into a caller-supplied buffer,
+ * producing the same text as {@link TomlPrimitive#asString()} without
+ * allocating. Digits are emitted two at a time from a lookup table.
+ */
+public final class PrimitiveFormat {
+
+    /** Large enough for any value accepted by {@link #format(TomlPrimitive, char[])} */
+    public static final int BUFFER_SIZE = 40;
+
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+    static {
+        for (int i=0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + (i / 10));
+            DIGIT_ONES[i] = (char) ('0' + (i % 10));
+        }
+    }
+
+    private static final char[] LONG_MIN = Long.toString(Long.MIN_VALUE).toCharArray();
+
+    /**
+     * Writes the text of {@code value} to the start of {@code buf}, which must hold
+     * at least {@link #BUFFER_SIZE} chars.
+     * @return The number of chars written, or -1 if {@code value} is not an integer or date-time,
+     *         or has a year which cannot be written with 4 digits
+     */
+    public static int format(@NotNull TomlPrimitive value, char @NotNull [] buf) {
+        switch (value.type()) {
+            case INTEGER:
+                return putLong(buf, 0, value.asLong());
+            case LOCAL_DATE:
+                return putDate(buf, 0, value.asLocalDate());
+            case LOCAL_TIME:
+                return putTime(buf, 0, value.asLocalTime());
+            case LOCAL_DATE_TIME:
+                return putDateTime(buf, value.asLocalDate(), value.asLocalTime());
+            case OFFSET_DATE_TIME:
+                return putOffsetDateTime(buf, value.asOffsetDateTime());
+            default:
+                return -1;
+        }
+    }
+
+    private static int putOffsetDateTime(char @NotNull [] buf, @NotNull OffsetDateTime value) {
+        int pos = putDateTime(buf, value.toLocalDate(), value.toLocalTime());
+        if (pos == -1) return -1;
+
+        int sec = value.getOffset().getTotalSeconds();
+        if (sec == 0) {
+            buf[pos++] = 'Z';
+            return pos;
+        } else if (sec < 0) {
+            sec = -sec;
+            buf[pos++] = '-';
+        } else {
+            buf[pos++] = '+';
+        }
+
+        pos = putPair(buf, pos, sec / 3600);
+        buf[pos++] = ':';
+        return putPair(buf, pos, (sec % 3600) / 60);
+    }
+
+    private static int putDateTime(char @NotNull [] buf, @NotNull LocalDate date, @NotNull LocalTime time) {
+        int pos = putDate(buf, 0, date);
+        if (pos == -1) return -1;
+        buf[pos++] = 'T';
+        return putTime(buf, pos, time);
+    }
+
+    private static int putDate(char @NotNull [] buf, int pos, @NotNull LocalDate date) {
+        // Built-in primitives are limited to [0, 9999] by TomlValueException#checkDate, others may not be
+        final int year = date.getYear();
+        if (year < 0 || year > 9999) return -1;
+        pos = putPair(buf, pos, year / 100);
+        pos = putPair(buf, pos, year % 100);
+        buf[pos++] = '-';
+        pos = putPair(buf, pos, date.getMonthValue());
+        buf[pos++] = '-';
+        return putPair(buf, pos, date.getDayOfMonth());
+    }
+
+    private static int putTime(char @NotNull [] buf, int pos, @NotNull LocalTime time) {
+        pos = putPair(buf, pos, time.getHour());
+        buf[pos++] = ':';
+        pos = putPair(buf, pos, time.getMinute());
+        buf[pos++] = ':';
+        pos = putPair(buf, pos, time.getSecond());
+
+        int nano = time.getNano();
+        if (nano == 0) return pos;
+
+        // At least millisecond precision, with further trailing zeros dropped
+        buf[pos++] = '.';
+        final int start = pos;
+        pos = putPair(buf, pos, nano / 10000000);
+        nano %= 10000000;
+        pos = putPair(buf, pos, nano / 100000);
+        nano %= 100000;
+        pos = putPair(buf, pos, nano / 1000);
+        nano %= 1000;
+        pos = putPair(buf, pos, nano / 10);
+        buf[pos++] = (char) ('0' + (nano % 10));
+        while (pos > start + 3 && buf[pos - 1] == '0') pos--;
+        return pos;
+    }
+
+    private static int putLong(char @NotNull [] buf, int pos, long v) {
+        if (v == Long.MIN_VALUE) {
+            System.arraycopy(LONG_MIN, 0, buf, pos, LONG_MIN.length);
+            return pos + LONG_MIN.length;
+        }
+        if (v < 0L) {
+            buf[pos++] = '-';
+            v = -v;
+        }
+
+        int n = 1;
+        for (long r = v / 10L; r != 0L; r /= 10L) n++;
+
+        final int end = pos + n;
+        int i = end;
+        long q;
+        int r;
+        while (v >= 100L) {
+            q = v / 100L;
+            r = (int) (v - (q * 100L));
+            v = q;
+            buf[--i] = DIGIT_ONES[r];
+            buf[--i] = DIGIT_TENS[r];
+        }
+        r = (int) v;
+        buf[--i] = DIGIT_ONES[r];
+        if (r >= 10) buf[--i] = DIGIT_TENS[r];
+        return end;
+    }
+
+    private static int putPair(char @NotNull [] buf, int pos, int v) {
+        buf[pos++] = DIGIT_TENS[v];
+        buf[pos++] = DIGIT_ONES[v];
+        return pos;
+    }
+
+    //
+
+    private PrimitiveFormat() { }
+
+}
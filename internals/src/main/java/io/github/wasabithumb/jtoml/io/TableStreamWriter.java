@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io;
+
+import io.github.wasabithumb.jtoml.comment.Comment;
+import io.github.wasabithumb.jtoml.document.TomlStreamWriter;
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.io.target.CharTarget;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Writes a document piecewise through a {@link TableWriter}. The declared headers and the keys
+ * defined beneath them are retained until the array of tables element which contains them ends,
+ * so memory use does not grow with the number of rows written to an array of tables.
+ */
+public final class TableStreamWriter implements TomlStreamWriter {
+
+    /**
+     * Checks if the parts of {@code prefix} are a proper prefix of the parts of {@code key}
+     */
+    private static boolean isStrictPrefix(@NotNull TomlKey prefix, @NotNull TomlKey key) {
+        if (prefix.size() >= key.size()) return false;
+        Iterator<String> a = prefix.iterator();
+        Iterator<String> b = key.iterator();
+        while (a.hasNext()) {
+            if (!a.next().equals(b.next())) return false;
+        }
+        return true;
+    }
+
+    //
+
+    private final TableWriter writer;
+    private final boolean tall;
+    private final Map<TomlKey, Boolean> headers;
+    private final Map<TomlKey, Boolean> closedKeys;
+    private final Set<TomlKey> sectionKeys;
+    private final Set<TomlKey> sectionTables;
+    private TomlKey section;
+    private TomlKey headerKey;
+    private String headerText;
+    private int[] arrayCounts;
+    private int arrayDepth;
+    private boolean closed;
+
+    public TableStreamWriter(@NotNull CharTarget out, @NotNull WriterPlan plan) {
+        this.writer = new TableWriter(out, plan);
+        this.tall = this.writer.isStreamArrayTall();
+        this.headers = new HashMap<>();
+        this.closedKeys = new HashMap<>();
+        this.sectionKeys = new HashSet<>();
+        this.sectionTables = new HashSet<>();
+        this.section = TomlKey.literal();
+        this.headerKey = null;
+        this.headerText = null;
+        this.arrayCounts = new int[4];
+        this.arrayDepth = 0;
+        this.closed = false;
+        this.writer.beginStream();
+    }
+
+    //
+
+    private void checkStatement() throws IllegalStateException {
+        if (this.closed) throw new IllegalStateException("Writer is closed");
+        if (this.arrayDepth != 0) throw new IllegalStateException("Array is open");
+    }
+
+    private void checkElement() throws IllegalStateException {
+        if (this.closed) throw new IllegalStateException("Writer is closed");
+        if (this.arrayDepth == 0) throw new IllegalStateException("No array is open");
+    }
+
+    /**
+     * Records a key defined in the current table, along with the tables implicitly
+     * created by its dotted parts
+     */
+    private void defineKey(@NotNull TomlKey key) throws IllegalArgumentException {
+        if (this.sectionKeys.contains(key) || this.sectionTables.contains(key))
+            throw new IllegalArgumentException("Key \"" + key + "\" is already defined in the current table");
+
+        final TomlKey absolute = TomlKey.join(this.section, key);
+        if (this.headers.containsKey(absolute))
+            throw new IllegalArgumentException("Key \"" + key + "\" would override table \"" + absolute + "\"");
+
+        List<String> parts = new ArrayList<>(key.size());
+        Iterator<String> iter = key.iterator();
+        TomlKey prefix;
+        for (int i=0; i < (key.size() - 1); i++) {
+            parts.add(iter.next());
+            prefix = TomlKey.literal(parts);
+            if (this.sectionKeys.contains(prefix))
+                throw new IllegalArgumentException("Key \"" + key + "\" would override value \"" + prefix + "\"");
+            if (!this.sectionTables.contains(prefix) && this.headers.containsKey(TomlKey.join(this.section, prefix)))
+                throw new IllegalArgumentException("Key \"" + key + "\" would extend table \"" +
+                        TomlKey.join(this.section, prefix) + "\"");
+            this.sectionTables.add(prefix);
+        }
+        this.sectionKeys.add(key);
+    }
+
+    /**
+     * Checks a new header against the keys of the current table, if it is a descendant.
+     * The header may not name a value, or a table already created by dotted keys.
+     */
+    private void checkHeaderAgainstSection(@NotNull TomlKey key) throws IllegalArgumentException {
+        if (!isStrictPrefix(this.section, key)) return;
+
+        List<String> parts = new ArrayList<>(key.size());
+        Iterator<String> iter = key.iterator();
+        for (int i=0; i < this.section.size(); i++) iter.next();
+        TomlKey relative = null;
+        while (iter.hasNext()) {
+            parts.add(iter.next());
+            relative = TomlKey.literal(parts);
+            if (this.sectionKeys.contains(relative))
+                throw new IllegalArgumentException("Table \"" + key + "\" would override value \"" +
+                        TomlKey.join(this.section, relative) + "\"");
+        }
+        if (this.sectionTables.contains(relative))
+            throw new IllegalArgumentException("Table \"" + key + "\" is already defined by dotted keys");
+    }
+
+    /**
+     * Checks a new header against the keys of previous tables. The header may not name or
+     * descend into a value, and may not name a table created by dotted keys.
+     */
+    private void checkHeaderAgainstClosed(@NotNull TomlKey key) throws IllegalArgumentException {
+        if (this.closedKeys.isEmpty()) return;
+
+        TomlKey prefix;
+        for (int i=1; i < key.size(); i++) {
+            prefix = key.slice(0, i);
+            if (Boolean.TRUE.equals(this.closedKeys.get(prefix)))
+                throw new IllegalArgumentException("Table \"" + key + "\" would override value \"" + prefix + "\"");
+        }
+
+        Boolean existing = this.closedKeys.get(key);
+        if (existing == null) return;
+        throw new IllegalArgumentException(existing ?
+                "Table \"" + key + "\" would override value \"" + key + "\"" :
+                "Table \"" + key + "\" is already defined by dotted keys"
+        );
+    }
+
+    /**
+     * Moves the keys of the current table into {@link #closedKeys}, as absolute keys mapped to
+     * {@code true} for values and {@code false} for tables created by dotted keys
+     */
+    private void closeSection() {
+        for (TomlKey key : this.sectionKeys)
+            this.closedKeys.put(TomlKey.join(this.section, key), Boolean.TRUE);
+        for (TomlKey key : this.sectionTables)
+            this.closedKeys.put(TomlKey.join(this.section, key), Boolean.FALSE);
+        this.sectionKeys.clear();
+        this.sectionTables.clear();
+    }
+
+    private void writeHeader(@NotNull TomlKey key, boolean array) throws TomlException {
+        // Repeated array of tables headers are only encoded once
+        if (!key.equals(this.headerKey)) {
+            this.headerKey = key;
+            this.headerText = key.toString();
+        }
+        this.writer.writeStandaloneHeader(this.headerText, key.size(), array);
+    }
+
+    private void pushArray() {
+        if (this.arrayDepth == this.arrayCounts.length)
+            this.arrayCounts = Arrays.copyOf(this.arrayCounts, this.arrayDepth << 1);
+        this.arrayCounts[this.arrayDepth++] = 0;
+    }
+
+    private void nextElement() throws TomlException {
+        int index = this.arrayCounts[this.arrayDepth - 1]++;
+        this.writer.writeStreamArraySeparator(index, this.tall);
+    }
+
+    //
+
+    @Override
+    public @NotNull TomlStreamWriter comment(@NotNull String content) {
+        this.checkStatement();
+        this.writer.writeStandaloneComment(Comment.pre(content).content());
+        return this;
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter beginTable(@NotNull TomlKey key) {
+        this.checkStatement();
+        Boolean existing = this.headers.get(key);
+        if (existing != null) {
+            throw new IllegalArgumentException(existing ?
+                    "Defining table \"" + key + "\" would override table array" :
+                    "Table \"" + key + "\" is already defined"
+            );
+        }
+        this.checkHeaderAgainstSection(key);
+        this.checkHeaderAgainstClosed(key);
+
+        this.closeSection();
+        this.headers.put(key, Boolean.FALSE);
+        this.section = key;
+        this.writeHeader(key, false);
+        return this;
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter beginArrayTable(@NotNull TomlKey key) {
+        this.checkStatement();
+        Boolean existing = this.headers.get(key);
+        if (Boolean.FALSE.equals(existing))
+            throw new IllegalArgumentException("Defining table array \"" + key + "\" would override table");
+        this.checkHeaderAgainstSection(key);
+        this.checkHeaderAgainstClosed(key);
+
+        // Headers below the previous element are scoped to it, and may be declared again
+        Iterator<TomlKey> iter = this.headers.keySet().iterator();
+        while (iter.hasNext()) {
+            if (!isStrictPrefix(key, iter.next())) continue;
+            if (existing == null)
+                throw new IllegalArgumentException("Defining table array \"" + key + "\" would override table");
+            iter.remove();
+        }
+
+        // As are the keys defined beneath them
+        this.closeSection();
+        iter = this.closedKeys.keySet().iterator();
+        while (iter.hasNext()) {
+            if (isStrictPrefix(key, iter.next())) iter.remove();
+        }
+
+        this.headers.put(key, Boolean.TRUE);
+        this.section = key;
+        this.writeHeader(key, true);
+        return this;
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter keyValue(@NotNull TomlKey key, @NotNull TomlValue value) {
+        this.checkStatement();
+        this.defineKey(key);
+        this.writer.writeStatement(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter beginArray(@NotNull TomlKey key) {
+        this.checkStatement();
+        this.defineKey(key);
+        this.writer.openStreamArrayStatement(key);
+        this.pushArray();
+        return this;
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter beginArray() {
+        this.checkElement();
+        this.nextElement();
+        this.writer.openStreamArray();
+        this.pushArray();
+        return this;
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter value(@NotNull TomlValue value) {
+        this.checkElement();
+        this.nextElement();
+        this.writer.writeStreamArrayElement(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter endArray() {
+        this.checkElement();
+        int count = this.arrayCounts[--this.arrayDepth];
+        this.writer.closeStreamArray(count, this.tall);
+        if (this.arrayDepth == 0) this.writer.closeStreamArrayStatement();
+        return this;
+    }
+
+    @Override
+    public void flush() throws TomlIOException {
+        this.writer.flushStream();
+    }
+
+    @Override
+    public void close() throws TomlIOException {
+        if (this.closed) return;
+        if (this.arrayDepth != 0) throw new IllegalStateException("Array is open");
+        this.closed = true;
+        this.writer.flushStream();
+    }
+
+}
@@ -20,164 +20,333 @@ import io.github.wasabithumb.jtoml.comment.Comment;
 import io.github.wasabithumb.jtoml.comment.CommentPosition;
 import io.github.wasabithumb.jtoml.comment.Comments;
 import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
 import io.github.wasabithumb.jtoml.io.target.CharTarget;
 import io.github.wasabithumb.jtoml.key.TomlKey;
-import io.github.wasabithumb.jtoml.option.JTomlOption;
 import io.github.wasabithumb.jtoml.option.JTomlOptions;
 import io.github.wasabithumb.jtoml.option.prop.*;
 import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.array.CountedTomlArray;
 import io.github.wasabithumb.jtoml.value.array.TomlArray;
 import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
 import io.github.wasabithumb.jtoml.value.table.TomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlVisitor;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public final class TableWriter implements Closeable {
 
-    private final CharTarget out;
-    private final JTomlOptions options;
+    /**
+     * Escape sequences for each ASCII character, or null
+     * if the character may appear unescaped in a basic string
+     */
+    private static final String[] ESCAPES = new String[0x80];
+    static {
+        for (char c=0; c < 0x80; c++) {
+            switch (c) {
+                case '"':
+                    ESCAPES[c] = "\\\"";
+                    break;
+                case '\\':
+                    ESCAPES[c] = "\\\\";
+                    break;
+                case '\b':
+                    ESCAPES[c] = "\\b";
+                    break;
+                case '\f':
+                    ESCAPES[c] = "\\f";
+                    break;
+                case '\n':
+                    ESCAPES[c] = "\\n";
+                    break;
+                case '\r':
+                    ESCAPES[c] = "\\r";
+                    break;
+                case '\t':
+                    ESCAPES[c] = "\\t";
+                    break;
+                default:
+                    if (c < ' ' || c == 0x7F) ESCAPES[c] = unicodeEscape(c);
+                    break;
+            }
+        }
+    }
+
+    private static @NotNull String unicodeEscape(char c) {
+        return new String(new char[] {
+                '\\', 'u',
+                Character.forDigit((c >> 12) & 0xF, 16),
+                Character.forDigit((c >>  8) & 0xF, 16),
+                Character.forDigit((c >>  4) & 0xF, 16),
+                Character.forDigit(c         & 0xF, 16)
+        });
+    }
+
+    //
+
+    final CharTarget out;
+    final WriterPlan plan;
+    private final char[] scratch = new char[PrimitiveFormat.BUFFER_SIZE];
+    /** Encoded key of the table currently being written */
+    private final StringBuilder path = new StringBuilder();
+    private int pathSize = 0;
     private int indentLevel = 0;
 
-    public TableWriter(@NotNull CharTarget out, @NotNull JTomlOptions options) {
+    public TableWriter(@NotNull CharTarget out, @NotNull WriterPlan plan) {
         this.out = out;
-        this.options = options;
+        this.plan = plan;
+    }
+
+    public TableWriter(@NotNull CharTarget out, @NotNull JTomlOptions options) {
+        this(out, new WriterPlan(options));
     }
 
     //
 
     public void writeTable(@NotNull TomlTable table) throws TomlException {
-        this.indentLevel = this.options.get(JTomlOption.INDENTATION).globalIndent();
+        this.indentLevel = this.plan.globalIndent;
+
+        if (!this.plan.writeComments) {
+            this.writeRootBody(table);
+            return;
+        }
 
         final Comments comments = table.comments();
-        final boolean writeComments = this.options.get(JTomlOption.WRITE_COMMENTS) && comments.count() != 0;
-        final LineSeparator newline = this.options.get(JTomlOption.LINE_SEPARATOR);
+        final boolean writeComments = comments.count() != 0;
 
         if (writeComments) {
             for (Comment c : comments.all()) {
                 if (c.position() == CommentPosition.POST) break;
-                this.out.put("# ");
-                this.out.put(c.content());
-                this.out.put(newline);
+                this.writeComment(c);
             }
         }
 
-        this.writeTableBody(
-                TomlKey.literal(),
-                table,
-                false
-        );
+        this.writeRootBody(table);
 
         if (writeComments) {
-            for (Comment c : comments.get(CommentPosition.POST)) {
-                this.out.put("# ");
-                this.out.put(c.content());
-                this.out.put(newline);
-            }
+            for (Comment c : comments.get(CommentPosition.POST)) this.writeComment(c);
         }
     }
 
-    private void writeIndent() {
-        final char c = this.options.get(JTomlOption.INDENTATION).indentChar();
-        for (int i=0; i < this.indentLevel; i++) this.out.put(c);
+    private void writeRootBody(@NotNull TomlTable table) throws TomlException {
+        if (this.plan.parallel) {
+            new ParallelTableWriter(this, ForkJoinPool.commonPool()).write(table);
+        } else {
+            this.writeTableBody(table, false);
+        }
     }
 
-    private void writeTableHeader0(@NotNull TomlKey key, boolean array, @Nullable String inlineComment) throws TomlException {
-        final SpacingPolicy spacing         = this.options.get(JTomlOption.SPACING);
-        final PaddingPolicy padding         = this.options.get(JTomlOption.PADDING);
-        final IndentationPolicy indentation = this.options.get(JTomlOption.INDENTATION);
-        final LineSeparator newline         = this.options.get(JTomlOption.LINE_SEPARATOR);
+    //
 
-        this.indentLevel = indentation.globalIndent() + indentation.constantIndent();
-        int ks = key.size();
-        if (ks > 1) this.indentLevel += (ks * indentation.variableIndent());
+    /**
+     * Prepares to write a document piecewise, as done by {@link TableStreamWriter}
+     * and {@link ParallelTableWriter}
+     */
+    void beginStream() {
+        this.indentLevel = this.plan.globalIndent;
+    }
 
-        for (int i=0; i < spacing.preTable(); i++) this.out.put(newline);
+    void writeStandaloneComment(@NotNull String content) throws TomlException {
         this.writeIndent();
+        this.out.put("# ");
+        this.out.put(content);
+        this.out.put(this.plan.newline);
+    }
+
+    void writeStandaloneHeader(@NotNull String keyText, int keySize, boolean array) throws TomlException {
+        this.writeTableHeader0(keyText, keySize, array, null);
+    }
+
+    void writeStatement(@NotNull TomlKey key, @NotNull TomlValue value) throws TomlException {
+        if (value.isPrimitive()) {
+            this.writePrimitive(key, value.asPrimitive());
+        } else if (value.isArray()) {
+            this.writeArray(key, value.asArray());
+        } else {
+            this.writeInlineTable(key, value.asTable());
+        }
+    }
+
+    /**
+     * Streamed arrays cannot be inspected up front, so they are written on a single
+     * line unless the {@link ArrayStrategy#TALL TALL} strategy is set
+     */
+    boolean isStreamArrayTall() {
+        return this.plan.arrayStrategy == ArrayStrategy.TALL;
+    }
+
+    void openStreamArrayStatement(@NotNull TomlKey key) throws TomlException {
+        this.openStatement(key, null);
         this.out.put('[');
-        if (array) {
-            for (int i=0; i < padding.tablePadding(); i++) this.out.put(' ');
-            this.out.put('[');
+    }
+
+    void openStreamArray() throws TomlException {
+        this.out.put('[');
+    }
+
+    /**
+     * Writes the separator preceding an element of a streamed array, and indents
+     * or pads the first element
+     */
+    void writeStreamArraySeparator(int index, boolean tall) throws TomlException {
+        if (index == 0) {
+            if (tall) {
+                this.out.put(this.plan.newline);
+                this.indentLevel++;
+            } else {
+                this.out.put(this.plan.arrayPad);
+            }
+        } else {
+            this.out.put(tall ? this.plan.tallElementSeparator : this.plan.elementSeparator);
         }
-        for (int i=0; i < padding.tablePadding(); i++) this.out.put(' ');
-        this.out.put(key.toString());
-        if (array) {
-            for (int i=0; i < padding.tablePadding(); i++) this.out.put(' ');
+        if (tall) this.writeIndent();
+    }
+
+    void writeStreamArrayElement(@NotNull TomlValue value) throws TomlException {
+        this.writeAnyValue(value);
+    }
+
+    void closeStreamArray(int count, boolean tall) throws TomlException {
+        if (count == 0) {
+            this.out.put(']');
+        } else if (tall) {
+            this.out.put(this.plan.newline);
+            this.indentLevel--;
+            this.writeIndent();
             this.out.put(']');
+        } else {
+            this.out.put(this.plan.arrayClose);
         }
-        for (int i=0; i < padding.tablePadding(); i++) this.out.put(' ');
-        this.out.put(']');
+    }
+
+    void closeStreamArrayStatement() throws TomlException {
+        this.closeStatement(null);
+    }
+
+    void flushStream() throws TomlException {
+        if (this.out instanceof Flushable) {
+            try {
+                ((Flushable) this.out).flush();
+            } catch (IOException e) {
+                TomlIOException.rethrow(e);
+            }
+        }
+    }
+
+    //
+
+    private void writeIndent() {
+        if (this.indentLevel != 0) this.out.put(this.plan.indent(this.indentLevel));
+    }
+
+    private void writeComment(@NotNull Comment c) throws TomlException {
+        this.out.put("# ");
+        this.out.put(c.content());
+        this.out.put(this.plan.newline);
+    }
+
+    /**
+     * Writes a table header
+     * @param keyText Encoded key, as provided by {@link TomlKey#toString()}
+     * @param keySize Number of parts in the key
+     */
+    private void writeTableHeader0(
+            @NotNull CharSequence keyText,
+            int keySize,
+            boolean array,
+            @Nullable String inlineComment
+    ) throws TomlException {
+        final WriterPlan plan = this.plan;
+
+        this.indentLevel = plan.globalIndent + plan.constantIndent;
+        if (keySize > 1) this.indentLevel += (keySize * plan.variableIndent);
+
+        this.out.put(plan.preTable);
+        this.writeIndent();
+        this.out.put(array ? plan.arrayTableOpen : plan.tableOpen);
+        this.out.put(keyText);
+        this.out.put(array ? plan.arrayTableClose : plan.tableClose);
         if (inlineComment != null) {
             this.out.put(" # ");
             this.out.put(inlineComment);
         }
-        for (int i=0; i < (spacing.postTable() + 1); i++) this.out.put(newline);
+        this.out.put(plan.postTable);
 
-        this.indentLevel += indentation.postIndent();
+        this.indentLevel += plan.postIndent;
     }
 
+    /**
+     * Writes the header of the table at the current {@link #path}
+     */
     private void writeTableHeader(
-            @NotNull TomlKey key,
             @NotNull TomlTable table,
             boolean array,
             boolean unconditional
     ) throws TomlException {
+        if (!this.plan.writeComments) {
+            if (this.plan.writeEmptyTables || unconditional) this.writeTableHeader0(this.path, this.pathSize, array, null);
+            return;
+        }
+
         final Comments comments = table.comments();
-        final boolean writeComments = this.options.get(JTomlOption.WRITE_COMMENTS) && comments.count() != 0;
-        final boolean writeEmptyTables = this.options.get(JTomlOption.WRITE_EMPTY_TABLES);
-        final LineSeparator newline = this.options.get(JTomlOption.LINE_SEPARATOR);
+        final boolean writeComments = comments.count() != 0;
 
         if (writeComments) {
-            for (Comment c : comments.get(CommentPosition.PRE)) {
-                this.out.put("# ");
-                this.out.put(c.content());
-                this.out.put(newline);
-            }
+            for (Comment c : comments.get(CommentPosition.PRE)) this.writeComment(c);
         }
-        if (writeComments || writeEmptyTables || unconditional) {
+        if (writeComments || this.plan.writeEmptyTables || unconditional) {
             this.writeTableHeader0(
-                    key,
+                    this.path,
+                    this.pathSize,
                     array,
                     writeComments ? comments.getInline() : null
             );
         }
         if (writeComments) {
-            for (Comment c : comments.get(CommentPosition.POST)) {
-                this.out.put("# ");
-                this.out.put(c.content());
-                this.out.put(newline);
-            }
+            for (Comment c : comments.get(CommentPosition.POST)) this.writeComment(c);
         }
     }
 
-    private void writeTableBody(
-            @NotNull TomlKey prefix,
+    /**
+     * Writes the table at the current {@link #path}
+     */
+    private void writeTableBody(@NotNull TomlTable table, boolean andHeader) throws TomlException {
+        final List<TypedKey> keys = this.deconstruct(table);
+        this.writeTableBody(table, keys, andHeader, keys.size());
+    }
+
+    /**
+     * Writes the header of the table at the current {@link #path} (if {@code andHeader} is set)
+     * followed by the first {@code end} of its deconstructed keys
+     */
+    void writeTableBody(
             @NotNull TomlTable table,
-            boolean andHeader
+            @NotNull List<TypedKey> keys,
+            boolean andHeader,
+            int end
     ) throws TomlException {
-        List<TypedKey> keys = this.deconstruct(table);
-
         if (andHeader) {
-            boolean unconditional = false;
-            for (TypedKey typedKey : keys) {
-                if (typedKey.type == ValueType.PRIMITIVE ||
-                    typedKey.type == ValueType.ARRAY ||
-                    typedKey.type == ValueType.INLINE_TABLE
-                ) {
-                    unconditional = true;
-                    break;
-                }
-            }
-            this.writeTableHeader(prefix, table, false, unconditional);
+            // Key-values precede subtables, so the first key tells if there are any
+            final boolean unconditional = !keys.isEmpty() && !keys.get(0).type.opensSection();
+            this.writeTableHeader(table, false, unconditional);
         }
 
-        for (TypedKey typedKey : keys) {
-            TomlKey key = typedKey.key;
-            TomlValue value = table.get(key);
-            assert value != null;
+        TypedKey typedKey;
+        TomlKey key;
+        TomlValue value;
+        int mark;
+        for (int i=0; i < end; i++) {
+            typedKey = keys.get(i);
+            key = typedKey.key;
+            value = typedKey.value;
 
             switch (typedKey.type) {
                 case PRIMITIVE:
@@ -187,18 +356,15 @@ public final class TableWriter implements Closeable {
                     this.writeArray(key, value.asArray());
                     break;
                 case ARRAY_OF_TABLES:
-                    key = TomlKey.join(prefix, key);
+                    mark = this.pushPath(key);
                     TomlArray arr = value.asArray();
-                    TomlTable child;
-                    for (int z=0; z < arr.size(); z++) {
-                        child = arr.get(z).asTable();
-                        this.writeTableHeader(key, child, true, true);
-                        this.writeTableBody(key, child, false);
-                    }
+                    this.writeTableArray(arr, 0, arr.size());
+                    this.popPath(mark, key);
                     break;
                 case TABLE:
-                    key = TomlKey.join(prefix, key);
-                    this.writeTableBody(key, value.asTable(), true);
+                    mark = this.pushPath(key);
+                    this.writeTableBody(value.asTable(), true);
+                    this.popPath(mark, key);
                     break;
                 case INLINE_TABLE:
                     this.writeInlineTable(key, value.asTable());
@@ -207,19 +373,61 @@ public final class TableWriter implements Closeable {
         }
     }
 
-    private void openStatement(@NotNull TomlKey key, @NotNull Comments comments) throws TomlException {
-        final boolean writeComments = this.options.get(JTomlOption.WRITE_COMMENTS) && comments.count() != 0;
-        final SpacingPolicy spacing = this.options.get(JTomlOption.SPACING);
-        final LineSeparator newline = this.options.get(JTomlOption.LINE_SEPARATOR);
+    /**
+     * Writes elements {@code from} (inclusive) to {@code to} (exclusive) of the array of tables
+     * at the current {@link #path}
+     */
+    void writeTableArray(@NotNull TomlArray arr, int from, int to) throws TomlException {
+        TomlTable child;
+        for (int z=from; z < to; z++) {
+            child = arr.get(z).asTable();
+            this.writeTableHeader(child, true, true);
+            this.writeTableBody(child, false);
+        }
+    }
+
+    /**
+     * Appends a relative key to the current {@link #path}
+     * @return The length of the path before appending, to be passed to {@link #popPath(int, TomlKey)}
+     */
+    int pushPath(@NotNull TomlKey key) {
+        final int mark = this.path.length();
+        if (mark != 0) this.path.append('.');
+        this.path.append(key.toString());
+        this.pathSize += key.size();
+        return mark;
+    }
+
+    void popPath(int mark, @NotNull TomlKey key) {
+        this.path.setLength(mark);
+        this.pathSize -= key.size();
+    }
 
-        for (int i=0; i < spacing.preStatement(); i++) this.out.put(newline);
+    @NotNull String pathText() {
+        return this.path.toString();
+    }
+
+    int pathSize() {
+        return this.pathSize;
+    }
+
+    void resetPath(@NotNull String text, int size) {
+        this.path.setLength(0);
+        this.path.append(text);
+        this.pathSize = size;
+    }
+
+    /**
+     * Opens a statement
+     * @param comments Comments of the value, or null if comments are not written
+     */
+    private void openStatement(@NotNull TomlKey key, @Nullable Comments comments) throws TomlException {
+        this.out.put(this.plan.preStatement);
         this.writeIndent();
 
-        if (writeComments) {
+        if (comments != null && comments.count() != 0) {
             for (Comment c : comments.get(CommentPosition.PRE)) {
-                this.out.put("# ");
-                this.out.put(c.content());
-                this.out.put(newline);
+                this.writeComment(c);
                 this.writeIndent();
             }
         }
@@ -228,29 +436,29 @@ public final class TableWriter implements Closeable {
         this.out.put(" = ");
     }
 
-    private void closeStatement(@NotNull Comments comments) throws TomlException {
-        final boolean writeComments = this.options.get(JTomlOption.WRITE_COMMENTS);
-        final String inline = comments.getInline();
-        final SpacingPolicy spacing = this.options.get(JTomlOption.SPACING);
-        final LineSeparator newline = this.options.get(JTomlOption.LINE_SEPARATOR);
-        if (writeComments && inline != null) {
+    /**
+     * Closes a statement
+     * @param comments Comments of the value, or null if comments are not written
+     */
+    private void closeStatement(@Nullable Comments comments) throws TomlException {
+        final String inline = comments == null ? null : comments.getInline();
+        if (inline != null) {
             this.out.put(" # ");
             this.out.put(inline);
         }
-        this.out.put(newline);
-        if (writeComments) {
-            for (Comment c : comments.get(CommentPosition.POST)) {
-                this.out.put("# ");
-                this.out.put(c.content());
-                this.out.put(newline);
-            }
+        this.out.put(this.plan.newline);
+        if (comments != null) {
+            for (Comment c : comments.get(CommentPosition.POST)) this.writeComment(c);
         }
-        for (int i=0; i < spacing.postStatement(); i++)
-            this.out.put(newline);
+        this.out.put(this.plan.postStatement);
+    }
+
+    private @Nullable Comments statementComments(@NotNull TomlValue value) {
+        return this.plan.writeComments ? value.comments() : null;
     }
 
     private void writePrimitive(@NotNull TomlKey key, @NotNull TomlPrimitive value) throws TomlException {
-        final Comments comments = value.comments();
+        final Comments comments = this.statementComments(value);
         this.openStatement(key, comments);
         this.writePrimitiveValue(value);
         this.closeStatement(comments);
@@ -259,93 +467,89 @@ public final class TableWriter implements Closeable {
     private void writePrimitiveValue(@NotNull TomlPrimitive value) throws TomlException {
         if (value.isString()) {
             this.writeBasicString(value.asString());
-        } else {
+            return;
+        }
+        final int len = PrimitiveFormat.format(value, this.scratch);
+        if (len == -1) {
             this.out.put(value.asString());
+        } else {
+            this.out.put(this.scratch, 0, len);
         }
     }
 
     private void writeBasicString(@NotNull String s) throws TomlException {
-        this.out.put('"');
+        final String[] escapes = ESCAPES;
+        final int len = s.length();
+        int start = 0;
+        char c;
 
-        int c;
-        for (int i=0; i < s.length(); i++) {
+        this.out.put('"');
+        for (int i=0; i < len; i++) {
             c = s.charAt(i);
-            if (c == '"') {
-                this.out.put("\\\"");
-            } else if (c == '\\') {
-                this.out.put("\\\\");
-            } else if ((' ' <= c && c <= 0x007E) || (0x0080 <= c && c < 0xFFF0)) {
-                this.out.put(c);
-            } else if (c == '\b') {
-                this.out.put("\\b");
-            } else if (c == '\f') {
-                this.out.put("\\f");
-            } else if (c == '\n') {
-                this.out.put("\\n");
-            } else if (c == '\r') {
-                this.out.put("\\r");
-            } else if (c == '\t') {
-                this.out.put("\\t");
-            } else {
-                this.out.put("\\u");
-                this.out.put(Character.forDigit((c >> 12) & 0xF, 16));
-                this.out.put(Character.forDigit((c >> 8) & 0xF, 16));
-                this.out.put(Character.forDigit((c >> 4) & 0xF, 16));
-                this.out.put(Character.forDigit(c & 0xF, 16));
-            }
-        }
+            if (c < 0x80 ? escapes[c] == null : c < 0xFFF0) continue;
 
+            // Copy the clean run preceding this character at once
+            if (start < i) this.out.put(s, start, i);
+            this.out.put(c < 0x80 ? escapes[c] : unicodeEscape(c));
+            start = i + 1;
+        }
+        if (start < len) this.out.put(s, start, len);
         this.out.put('"');
     }
 
     private void writeArray(@NotNull TomlKey key, @NotNull TomlArray value) throws TomlException {
-        final Comments comments = value.comments();
+        final Comments comments = this.statementComments(value);
         this.openStatement(key, comments);
         this.writeArrayValue(value);
         this.closeStatement(comments);
     }
 
     private void writeArrayValue(@NotNull TomlArray value) throws TomlException {
-        final ArrayStrategy strategy = this.options.get(JTomlOption.ARRAY_STRATEGY);
+        final WriterPlan plan = this.plan;
         boolean allowComments, doNewlines;
-        switch (strategy) {
+        switch (plan.arrayStrategy) {
             case SHORT:
                 allowComments = false;
                 doNewlines = false;
                 break;
             case TALL:
-                allowComments = this.options.get(JTomlOption.WRITE_COMMENTS);
+                allowComments = plan.writeComments;
                 doNewlines = true;
                 break;
             case DYNAMIC:
+                boolean anyNonPrimitive = value instanceof CountedTomlArray &&
+                        ((CountedTomlArray) value).primitiveCount() != value.size();
                 boolean anyCommented = false;
-                boolean anyNonPrimitive = false;
-                for (TomlValue child : value) {
-                    anyCommented |= (child.comments().count() != 0);
-                    anyNonPrimitive |= (!child.isPrimitive());
+
+                // Comments only need to be found if they are written or decide the layout
+                if (plan.writeComments || !anyNonPrimitive) {
+                    final int n = value.size();
+                    TomlValue child;
+                    for (int i=0; i < n; i++) {
+                        child = value.get(i);
+                        anyCommented |= (child.comments().count() != 0);
+                        anyNonPrimitive |= (!child.isPrimitive());
+                        if (anyCommented && anyNonPrimitive) break;
+                    }
                 }
-                allowComments = this.options.get(JTomlOption.WRITE_COMMENTS) && anyCommented;
+                allowComments = plan.writeComments && anyCommented;
                 doNewlines = (anyCommented || anyNonPrimitive);
                 break;
             default:
                 throw new AssertionError("Unreachable code");
         }
 
-        final LineSeparator newline = this.options.get(JTomlOption.LINE_SEPARATOR);
-        final PaddingPolicy padding = this.options.get(JTomlOption.PADDING);
-        this.out.put('[');
-
         if (value.size() == 0) {
-            this.out.put(']');
+            this.out.put("[]");
             return;
         }
 
         if (doNewlines) {
-            this.out.put(newline);
+            this.out.put('[');
+            this.out.put(plan.newline);
             this.indentLevel++;
         } else {
-            for (int i=0; i < padding.arrayPadding(); i++)
-                this.out.put(' ');
+            this.out.put(plan.arrayOpen);
         }
 
         final int al = value.size();
@@ -353,98 +557,79 @@ public final class TableWriter implements Closeable {
         Comments nextComments;
         for (int i=0; i < al; i++) {
             next = value.get(i);
-            nextComments = next.comments();
 
             if (doNewlines) this.writeIndent();
-            if (allowComments) {
-                for (Comment c : nextComments.get(CommentPosition.PRE)) {
-                    this.out.put("# ");
-                    this.out.put(c.content());
-                    this.out.put(newline);
-                    this.writeIndent();
+            if (!allowComments) {
+                this.writeAnyValue(next);
+                if (i != (al - 1)) {
+                    this.out.put(doNewlines ? plan.tallElementSeparator : plan.elementSeparator);
+                } else if (doNewlines) {
+                    this.out.put(plan.newline);
                 }
+                continue;
+            }
+
+            nextComments = next.comments();
+            for (Comment c : nextComments.get(CommentPosition.PRE)) {
+                this.writeComment(c);
+                this.writeIndent();
             }
 
             this.writeAnyValue(next);
 
-            String inline;
-            if (i != (al - 1)) {
-                this.out.put(',');
-                if (allowComments && (inline = nextComments.getInline()) != null) {
-                    this.out.put(" # ");
-                    this.out.put(inline);
-                    this.out.put(newline);
-                } else if (doNewlines) {
-                    this.out.put(newline);
-                } else {
-                    for (int z=0; z < padding.elementPadding(); z++)
-                        this.out.put(' ');
-                }
-            } else if (allowComments && (inline = nextComments.getInline()) != null) {
+            String inline = nextComments.getInline();
+            if (i != (al - 1)) this.out.put(',');
+            if (inline != null) {
                 this.out.put(" # ");
                 this.out.put(inline);
-                this.out.put(newline);
+                this.out.put(plan.newline);
             } else if (doNewlines) {
-                this.out.put(newline);
+                this.out.put(plan.newline);
+            } else if (i != (al - 1)) {
+                this.out.put(plan.elementPad);
             }
 
-            if (allowComments) {
-                for (Comment c : nextComments.get(CommentPosition.POST)) {
-                    this.writeIndent();
-                    this.out.put("# ");
-                    this.out.put(c.content());
-                    this.out.put(newline);
-                }
+            for (Comment c : nextComments.get(CommentPosition.POST)) {
+                this.writeIndent();
+                this.writeComment(c);
             }
         }
 
         if (doNewlines) {
             this.indentLevel--;
             this.writeIndent();
+            this.out.put(']');
         } else {
-            for (int i=0; i < padding.arrayPadding(); i++)
-                this.out.put(' ');
+            this.out.put(plan.arrayClose);
         }
-
-        this.out.put(']');
     }
 
     private void writeInlineTable(@NotNull TomlKey key, @NotNull TomlTable value) throws TomlException {
-        final Comments comments = value.comments();
+        final Comments comments = this.statementComments(value);
         this.openStatement(key, comments);
         this.writeInlineTableValue(value);
         this.closeStatement(comments);
     }
 
     private void writeInlineTableValue(@NotNull TomlTable table) throws TomlException {
-        final PaddingPolicy padding = this.options.get(JTomlOption.PADDING);
-        this.out.put('{');
-
-        Set<TomlKey> keys = table.keys(false);
-        if (keys.isEmpty()) {
-            this.out.put('}');
+        Set<Map.Entry<TomlKey, TomlValue>> entries = table.entries(false);
+        if (entries.isEmpty()) {
+            this.out.put("{}");
             return;
         }
 
-        for (int i=0; i < padding.inlineTablePadding(); i++) this.out.put(' ');
+        this.out.put(this.plan.inlineTableOpen);
 
         boolean first = true;
-        TomlValue next;
-        for (TomlKey key : keys) {
-            if (!first) {
-                this.out.put(',');
-                for (int z=0; z < padding.elementPadding(); z++) this.out.put(' ');
-            }
+        for (Map.Entry<TomlKey, TomlValue> entry : entries) {
+            if (!first) this.out.put(this.plan.elementSeparator);
             first = false;
-            next = table.get(key);
-            assert next != null;
-            this.out.put(key.toString());
+            this.out.put(entry.getKey().toString());
             this.out.put(" = ");
-            this.writeAnyValue(next);
+            this.writeAnyValue(entry.getValue());
         }
 
-        for (int i=0; i < padding.inlineTablePadding(); i++) this.out.put(' ');
-        this.out.put('}');
+        this.out.put(this.plan.inlineTableClose);
     }
 
     private void writeAnyValue(@NotNull TomlValue value) throws TomlException {
@@ -457,9 +642,12 @@ public final class TableWriter implements Closeable {
         }
     }
 
-    private @NotNull List<TypedKey> deconstruct(@NotNull TomlTable table) {
-        SortMethod sort = this.options.get(JTomlOption.SORTING);
-        switch (sort) {
+    /**
+     * Lists the entries of a table in the order they are written. Tables and arrays
+     * of tables, which open a section, always follow every other entry.
+     */
+    @NotNull List<TypedKey> deconstruct(@NotNull TomlTable table) {
+        switch (this.plan.sorting) {
             case STRATIFIED:
                 return this.deconstructStratified(table);
             case LEXICOGRAPHICAL:
@@ -472,54 +660,34 @@ public final class TableWriter implements Closeable {
     }
 
     private @NotNull List<TypedKey> deconstructStratified(@NotNull TomlTable table) {
-        final Set<TomlKey> all = table.keys(false);
-        final int count = all.size();
-
-        Map<ValueType, List<TomlKey>> map = new EnumMap<>(ValueType.class);
-        for (TomlKey k : all) {
-            TomlValue tv = table.get(k);
-            assert tv != null;
-            List<TomlKey> list = map.computeIfAbsent(
-                    this.valueTypeOf(tv),
-                    (ValueType ignored) -> new LinkedList<>()
-            );
-            list.add(k);
-        }
-
-        List<TypedKey> ret = new ArrayList<>(count);
-        for (ValueType vt : ValueType.STRATA) {
-            List<TomlKey> l = map.get(vt);
-            if (l == null) continue;
-            for (TomlKey k : l) {
-                ret.add(new TypedKey(vt, k));
-            }
+        final Deconstructor d = new Deconstructor();
+        table.walk(d);
+        final TypedKey[] keys = d.keys;
+        final int count = d.count;
+
+        // Stable placement of each key after all keys of earlier strata
+        final int[] offsets = new int[ValueType.STRATA_COUNT];
+        for (int i=0, o=0; i < ValueType.STRATA_COUNT; i++) {
+            offsets[i] = o;
+            o += d.typeCounts[i];
         }
+        TypedKey[] ret = new TypedKey[count];
+        for (int i=0; i < count; i++) ret[offsets[keys[i].type.ordinal()]++] = keys[i];
 
-        return ret;
+        return Arrays.asList(ret);
     }
 
     private @NotNull List<TypedKey> deconstructLexOrTime(@NotNull TomlTable table, boolean time) {
-        final Set<TomlKey> all = table.keys(false);
-        final int count = all.size();
-
-        TypedKey[] buf = new TypedKey[count];
-        int head = 0;
-        for (TomlKey k : all) {
-            TomlValue tv = table.get(k);
-            assert tv != null;
-            buf[head++] = new TypedKey(this.valueTypeOf(tv), k);
-        }
+        final Deconstructor d = new Deconstructor();
+        table.walk(d);
+        final TypedKey[] buf = d.keys;
+        final int head = d.count;
 
         if (time) {
             Arrays.sort(
                     buf,
                     0, head,
-                    (TypedKey k0, TypedKey k1) -> {
-                        TomlValue v0 = table.get(k0.key);
-                        TomlValue v1 = table.get(k1.key);
-                        assert v0 != null && v1 != null;
-                        return Long.compare(v0.creationTime(), v1.creationTime());
-                    }
+                    (TypedKey k0, TypedKey k1) -> Long.compare(k0.value.creationTime(), k1.value.creationTime())
             );
         }
 
@@ -528,7 +696,7 @@ public final class TableWriter implements Closeable {
     }
 
     @Contract(mutates = "param1")
-    private void rectifyKeyTypes(@NotNull TypedKey @NotNull [] keys, int end) {
+    private static void rectifyKeyTypes(@NotNull TypedKey @NotNull [] keys, int end) {
         boolean allowRich = true;
         for (int i = (end - 1); i >= 0; i--) {
             TypedKey tk = keys[i];
@@ -536,20 +704,23 @@ public final class TableWriter implements Closeable {
                 if (tk.type == ValueType.PRIMITIVE || tk.type == ValueType.ARRAY)
                     allowRich = false;
             } else if (tk.type == ValueType.ARRAY_OF_TABLES) {
-                keys[i] = new TypedKey(ValueType.ARRAY, tk.key);
+                keys[i] = new TypedKey(ValueType.ARRAY, tk.key, tk.value);
             } else if (tk.type == ValueType.TABLE) {
-                keys[i] = new TypedKey(ValueType.INLINE_TABLE, tk.key);
+                keys[i] = new TypedKey(ValueType.INLINE_TABLE, tk.key, tk.value);
             }
         }
     }
 
-    private @NotNull ValueType valueTypeOf(@NotNull TomlValue value) {
+    private static @NotNull ValueType valueTypeOf(@NotNull TomlValue value) {
         if (value.isTable()) {
             return ValueType.TABLE;
         } else if (value.isArray()) {
             TomlArray a = value.asArray();
             int n = a.size();
             if (n == 0) return ValueType.ARRAY;
+            if (a instanceof CountedTomlArray) {
+                return ((CountedTomlArray) a).tableCount() == n ? ValueType.ARRAY_OF_TABLES : ValueType.ARRAY;
+            }
             for (int i=0; i < n; i++) {
                 if (!a.get(i).isTable())
                     return ValueType.ARRAY;
@@ -567,32 +738,72 @@ public final class TableWriter implements Closeable {
 
     //
 
-    private enum ValueType {
+    enum ValueType {
         PRIMITIVE,
         ARRAY,
         ARRAY_OF_TABLES,
         TABLE,
         INLINE_TABLE;
 
-        static final ValueType[] STRATA = new ValueType[] {
-                PRIMITIVE,
-                ARRAY,
-                ARRAY_OF_TABLES,
-                TABLE
-        };
+        /** Types produced by {@link #valueTypeOf(TomlValue)}, which are written in order of declaration */
+        static final int STRATA_COUNT = 4;
+
+        /** True for types which are written under a header of their own */
+        boolean opensSection() {
+            return this == ARRAY_OF_TABLES || this == TABLE;
+        }
+    }
+
+    /**
+     * Collects and classifies the top-level entries of a table in one pass
+     */
+    private static final class Deconstructor implements TomlVisitor {
+
+        TypedKey[] keys = new TypedKey[8];
+        int count = 0;
+        final int[] typeCounts = new int[ValueType.STRATA_COUNT];
+
+        @Override
+        public boolean enterTable(
+                @NotNull @Unmodifiable List<String> parent,
+                @NotNull String label,
+                @NotNull TomlTable table
+        ) {
+            this.add(ValueType.TABLE, label, table);
+            return false;
+        }
+
+        @Override
+        public void visitValue(
+                @NotNull @Unmodifiable List<String> parent,
+                @NotNull String label,
+                @NotNull TomlValue value
+        ) {
+            this.add(valueTypeOf(value), label, value);
+        }
+
+        private void add(@NotNull ValueType type, @NotNull String label, @NotNull TomlValue value) {
+            if (this.count == this.keys.length) this.keys = Arrays.copyOf(this.keys, this.count << 1);
+            this.keys[this.count++] = new TypedKey(type, TomlKey.literal(label), value);
+            this.typeCounts[type.ordinal()]++;
+        }
+
     }
 
-    private static final class TypedKey {
+    static final class TypedKey {
 
-        private final ValueType type;
-        private final TomlKey key;
+        final ValueType type;
+        final TomlKey key;
+        final TomlValue value;
 
         TypedKey(
                 @NotNull ValueType type,
-                @NotNull TomlKey key
+                @NotNull TomlKey key,
+                @NotNull TomlValue value
         ) {
             this.type = type;
             this.key = key;
+            this.value = value;
         }
 
     }
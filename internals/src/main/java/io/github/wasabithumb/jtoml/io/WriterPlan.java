@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io;
+
+import io.github.wasabithumb.jtoml.option.JTomlOption;
+import io.github.wasabithumb.jtoml.option.JTomlOptions;
+import io.github.wasabithumb.jtoml.option.prop.*;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The options which affect {@link TableWriter}, resolved once per
+ * {@link JTomlOptions} instance. Repeated whitespace such as indentation,
+ * padding and blank lines is prebuilt so that it can be emitted in one call.
+ */
+public final class WriterPlan {
+
+    private static final int CACHED_INDENT_LEVELS = 32;
+
+    private static @NotNull String repeat(@NotNull String s, int count) {
+        if (count == 0) return "";
+        StringBuilder sb = new StringBuilder(s.length() * count);
+        for (int i=0; i < count; i++) sb.append(s);
+        return sb.toString();
+    }
+
+    //
+
+    final boolean writeComments;
+    final boolean writeEmptyTables;
+    final SortMethod sorting;
+    final ArrayStrategy arrayStrategy;
+    final boolean parallel;
+
+    final String newline;
+    final char indentChar;
+    final int globalIndent;
+    final int constantIndent;
+    final int variableIndent;
+    final int postIndent;
+    private final String[] indents;
+
+    /** Blank lines preceding a table header */
+    final String preTable;
+    /** Line break and blank lines following a table header */
+    final String postTable;
+    /** Blank lines preceding a statement */
+    final String preStatement;
+    /** Blank lines following a statement */
+    final String postStatement;
+
+    /** Padding inside the brackets of a single-line array */
+    final String arrayPad;
+    /** Padding following the comma between single-line elements */
+    final String elementPad;
+
+    /** Opening of a table header, such as {@code [ } */
+    final String tableOpen;
+    /** Closing of a table header, such as {@code  ]} */
+    final String tableClose;
+    /** Opening of a table array header, such as {@code [[ } */
+    final String arrayTableOpen;
+    /** Closing of a table array header, such as {@code  ]]} */
+    final String arrayTableClose;
+    /** Opening of a non-empty single-line array, such as {@code [ } */
+    final String arrayOpen;
+    /** Closing of a non-empty single-line array, such as {@code  ]} */
+    final String arrayClose;
+    /** Opening of a non-empty inline table, such as <code>{ </code> */
+    final String inlineTableOpen;
+    /** Closing of a non-empty inline table, such as <code> }</code> */
+    final String inlineTableClose;
+    /** Separator between single-line elements, such as {@code , } */
+    final String elementSeparator;
+    /** Separator between the elements of a tall array, a comma followed by a line break */
+    final String tallElementSeparator;
+
+    public WriterPlan(@NotNull JTomlOptions options) {
+        final IndentationPolicy indentation = options.get(JTomlOption.INDENTATION);
+        final SpacingPolicy spacing = options.get(JTomlOption.SPACING);
+        final PaddingPolicy padding = options.get(JTomlOption.PADDING);
+        final String newline = options.get(JTomlOption.LINE_SEPARATOR).toString();
+
+        this.writeComments = options.get(JTomlOption.WRITE_COMMENTS);
+        this.writeEmptyTables = options.get(JTomlOption.WRITE_EMPTY_TABLES);
+        this.sorting = options.get(JTomlOption.SORTING);
+        this.arrayStrategy = options.get(JTomlOption.ARRAY_STRATEGY);
+        this.parallel = options.get(JTomlOption.PARALLEL_WRITE);
+
+        this.newline = newline;
+        this.indentChar = indentation.indentChar();
+        this.globalIndent = indentation.globalIndent();
+        this.constantIndent = indentation.constantIndent();
+        this.variableIndent = indentation.variableIndent();
+        this.postIndent = indentation.postIndent();
+
+        final String indentUnit = String.valueOf(this.indentChar);
+        String[] indents = new String[CACHED_INDENT_LEVELS];
+        for (int i=0; i < CACHED_INDENT_LEVELS; i++) indents[i] = repeat(indentUnit, i);
+        this.indents = indents;
+
+        this.preTable = repeat(newline, spacing.preTable());
+        this.postTable = repeat(newline, spacing.postTable() + 1);
+        this.preStatement = repeat(newline, spacing.preStatement());
+        this.postStatement = repeat(newline, spacing.postStatement());
+
+        final String tablePad = repeat(" ", padding.tablePadding());
+        final String arrayPad = repeat(" ", padding.arrayPadding());
+        final String inlineTablePad = repeat(" ", padding.inlineTablePadding());
+        final String elementPad = repeat(" ", padding.elementPadding());
+        this.arrayPad = arrayPad;
+        this.elementPad = elementPad;
+        this.tableOpen = "[" + tablePad;
+        this.tableClose = tablePad + "]";
+        this.arrayTableOpen = "[" + tablePad + "[" + tablePad;
+        this.arrayTableClose = tablePad + "]" + tablePad + "]";
+        this.arrayOpen = "[" + arrayPad;
+        this.arrayClose = arrayPad + "]";
+        this.inlineTableOpen = "{" + inlineTablePad;
+        this.inlineTableClose = inlineTablePad + "}";
+        this.elementSeparator = "," + elementPad;
+        this.tallElementSeparator = "," + newline;
+    }
+
+    //
+
+    /**
+     * Provides the whitespace for the given indentation level
+     */
+    @NotNull String indent(int level) {
+        if (level < CACHED_INDENT_LEVELS) return this.indents[level];
+        return repeat(String.valueOf(this.indentChar), level);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.binary;
+
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.except.parse.TomlBinaryException;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only array backed directly by a binary snapshot
+ * @see BinaryTableView
+ */
+final class BinaryArrayView implements TomlArray {
+
+    @Contract("-> fail")
+    private static UnsupportedOperationException readOnly() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Array is read-only");
+    }
+
+    //
+
+    private final BinaryTableView.Shared shared;
+    private final int start;
+    private final int limit;
+    private final int count;
+    private final int offsets;
+
+    BinaryArrayView(@NotNull BinaryTableView.Shared shared, int start, int end) throws TomlBinaryException {
+        final BinarySnapshot snapshot = shared.snapshot;
+        final int pos = snapshot.payload(start);
+        final int limit = snapshot.containerEnd(start, pos, end);
+        final int count = snapshot.u32(pos + 4);
+        final int offsets = pos + 8;
+        if (count < 0 || count > ((limit - offsets) >> 2))
+            throw new TomlBinaryException("Array is truncated");
+
+        this.shared = shared;
+        this.start = start;
+        this.limit = limit;
+        this.count = count;
+        this.offsets = offsets;
+    }
+
+    //
+
+    @Override
+    public long creationTime() {
+        return this.shared.creationTime;
+    }
+
+    @Override
+    public int flags() {
+        return 0;
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public @NotNull TomlArray flags(int flags) {
+        throw readOnly();
+    }
+
+    @Override
+    public @NotNull Comments comments() {
+        return this.shared.comments(this.start);
+    }
+
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    @Override
+    public @NotNull TomlValue get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= this.count) throw new IndexOutOfBoundsException("Index " + index + " out of bounds");
+        final BinarySnapshot snapshot = this.shared.snapshot;
+        try {
+            int offset = snapshot.u32(this.offsets + (index << 2));
+            int end = (index + 1 < this.count) ? snapshot.u32(this.offsets + ((index + 1) << 2)) : this.limit;
+            snapshot.checkOffset(end, offset, this.limit + 1);
+            snapshot.checkOffset(offset, this.offsets + (this.count << 2) - 1, this.limit);
+            return BinaryTableView.valueAt(this.shared, offset, end);
+        } catch (IndexOutOfBoundsException e) {
+            throw BinarySnapshot.malformed(e);
+        }
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public void add(TomlValue value) {
+        throw readOnly();
+    }
+
+    @Override
+    @Contract("_ -> fail")
+    public TomlValue remove(int index) throws IndexOutOfBoundsException {
+        throw readOnly();
+    }
+
+    @Override
+    @Contract("_, _ -> fail")
+    public @NotNull TomlValue set(int index, TomlValue value) throws IndexOutOfBoundsException {
+        throw readOnly();
+    }
+
+    @Override
+    public @NotNull Iterator<TomlValue> iterator() {
+        return new Iter();
+    }
+
+    //
+
+    private final class Iter implements Iterator<TomlValue> {
+
+        private int head = 0;
+
+        @Override
+        public boolean hasNext() {
+            return this.head < BinaryArrayView.this.count;
+        }
+
+        @Override
+        public @NotNull TomlValue next() {
+            if (this.head >= BinaryArrayView.this.count) throw new NoSuchElementException();
+            return BinaryArrayView.this.get(this.head++);
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.binary;
+
+/**
+ * Layout constants for the binary snapshot format.
+ * <p>
+ * All multi-byte quantities are big-endian, and all offsets are absolute
+ * from the first byte of the header.
+ * <pre>
+ *  header   : 'J' 'T' 'B' VERSION, u8 flags, 3 reserved bytes, u32 string table offset, u32 root offset
+ *  value    : u8 tag, [comments], payload
+ *  comments : u32 count, count * (u8 position, u32 string)      (present if tag &amp; TAG_F_COMMENTS)
+ *  array    : u32 byte length, u32 count, count * u32 offset, elements...
+ *  table    : u32 byte length, u32 count, u32 size, count * (u32 label, u32 offset),
+ *             [count * u32 creation rank] (present if tag &amp; TAG_F_ORDERED), values...
+ *  strings  : u32 count, (count + 1) * u32 offset, UTF-8 data
+ * </pre>
+ * The byte length of a container spans from its tag up to the end of its last descendant,
+ * so a reader may skip a subtree without visiting it. The size of a table is its
+ * {@link io.github.wasabithumb.jtoml.value.table.TomlTable#size() deep entry count}.
+ * Table entries are sorted by label as by {@link String#compareTo(String)}, so labels can be
+ * found by binary search. Strings are deduplicated and stored in order of first use.
+ * Child values are always written after their parent and in entry order, so every value
+ * is bounded by the offset of its next sibling; readers enforce this, which rules out
+ * cyclic or shared subtrees.
+ */
+final class BinaryFormat {
+
+    static final byte MAGIC_0 = 'J';
+    static final byte MAGIC_1 = 'T';
+    static final byte MAGIC_2 = 'B';
+    static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+    static final int HEADER_FLAGS = 4;
+    static final int HEADER_STRINGS = 8;
+    static final int HEADER_ROOT = 12;
+
+    /** Header flag: comments were written */
+    static final int F_COMMENTS = 1;
+    /** Header flag: source document began with a byte order mark */
+    static final int F_ORDER_MARKED = 2;
+
+    //
+
+    static final int TAG_STRING = 1;
+    static final int TAG_FALSE = 2;
+    static final int TAG_TRUE = 3;
+    static final int TAG_INTEGER = 4;
+    static final int TAG_FLOAT = 5;
+    static final int TAG_OFFSET_DATE_TIME = 6;
+    static final int TAG_LOCAL_DATE_TIME = 7;
+    static final int TAG_LOCAL_DATE = 8;
+    static final int TAG_LOCAL_TIME = 9;
+    static final int TAG_ARRAY = 10;
+    static final int TAG_TABLE = 11;
+
+    static final int TAG_MASK = 0x1F;
+    /** Tag flag: table entries were not created in label order, creation ranks follow */
+    static final int TAG_F_ORDERED = 0x40;
+    /** Tag flag: a comment block follows the tag */
+    static final int TAG_F_COMMENTS = 0x80;
+
+    //
+
+    private BinaryFormat() { }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.binary;
+
+import io.github.wasabithumb.jtoml.comment.Comment;
+import io.github.wasabithumb.jtoml.comment.CommentPosition;
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.except.TomlValueException;
+import io.github.wasabithumb.jtoml.except.parse.TomlBinaryException;
+import io.github.wasabithumb.jtoml.value.UnsafePrimitives;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+
+import static io.github.wasabithumb.jtoml.io.binary.BinaryFormat.*;
+
+/**
+ * Low-level access to a binary snapshot held in a buffer. Positions passed to
+ * and returned from this class are relative to the start of the snapshot.
+ * Only the header is validated up front; containers are validated as they are visited.
+ * @see BinaryFormat
+ */
+final class BinarySnapshot {
+
+    private static final CommentPosition[] POSITIONS = CommentPosition.values();
+
+    static @NotNull BinarySnapshot open(@NotNull ByteBuffer in, boolean cacheStrings) throws TomlBinaryException {
+        try {
+            return new BinarySnapshot(in, cacheStrings);
+        } catch (IndexOutOfBoundsException e) {
+            throw malformed(e);
+        }
+    }
+
+    static @NotNull TomlBinaryException malformed(@NotNull RuntimeException cause) {
+        return new TomlBinaryException("Malformed binary snapshot", cause);
+    }
+
+    //
+
+    private final ByteBuffer in;
+    private final int base;
+    final int size;
+    final int flags;
+    final int root;
+    final int stringTable;
+    private final int stringCount;
+    private final int stringOffsets;
+    private final int stringData;
+    private final String[] strings;
+
+    private BinarySnapshot(@NotNull ByteBuffer in, boolean cacheStrings) throws TomlBinaryException {
+        this.in = in.duplicate().order(ByteOrder.BIG_ENDIAN);
+        this.base = in.position();
+        this.size = in.limit() - this.base;
+
+        if (this.size < HEADER_SIZE)
+            throw new TomlBinaryException("Binary snapshot is truncated");
+        if (this.u8(0) != MAGIC_0 || this.u8(1) != MAGIC_1 || this.u8(2) != MAGIC_2)
+            throw new TomlBinaryException("Data is not a binary snapshot");
+
+        int version = this.u8(3);
+        if (version != VERSION)
+            throw new TomlBinaryException("Unsupported binary snapshot version " + version);
+        this.flags = this.u8(HEADER_FLAGS);
+
+        int stringTable = this.u32(HEADER_STRINGS);
+        this.checkOffset(stringTable, HEADER_SIZE - 1, this.size);
+        int stringCount = this.u32(stringTable);
+        if (stringCount < 0 || stringCount > ((this.size - stringTable - 8) >> 2))
+            throw new TomlBinaryException("String table is truncated");
+        this.stringTable = stringTable;
+        this.stringCount = stringCount;
+        this.stringOffsets = stringTable + 4;
+        this.stringData = this.stringOffsets + ((stringCount + 1) << 2);
+        this.strings = cacheStrings ? new String[stringCount] : null;
+
+        int root = this.u32(HEADER_ROOT);
+        this.checkOffset(root, HEADER_SIZE - 1, stringTable);
+        if ((this.u8(root) & TAG_MASK) != TAG_TABLE)
+            throw new TomlBinaryException("Root value is not a table");
+        this.root = root;
+    }
+
+    //
+
+    boolean isOrderMarked() {
+        return (this.flags & F_ORDER_MARKED) != 0;
+    }
+
+    // START Values
+
+    /** Provides the position of the payload of the value at {@code pos}, skipping its tag and comments */
+    int payload(int pos) throws TomlBinaryException {
+        final int tag = this.u8(pos++);
+        if ((tag & TAG_F_COMMENTS) == 0) return pos;
+        int count = this.u32(pos);
+        if (count < 0 || count > ((this.size - pos - 4) / 5))
+            throw new TomlBinaryException("Comment block is truncated");
+        return pos + 4 + (count * 5);
+    }
+
+    /** Decodes the comments of the value at {@code pos} into {@code dest} */
+    void comments(int pos, @NotNull Comments dest) throws TomlBinaryException {
+        final int tag = this.u8(pos++);
+        if ((tag & TAG_F_COMMENTS) == 0) return;
+        final int count = this.u32(pos);
+        pos += 4;
+        if (count < 0 || count > ((this.size - pos) / 5))
+            throw new TomlBinaryException("Comment block is truncated");
+        for (int i=0; i < count; i++) {
+            int position = this.u8(pos);
+            if (position >= POSITIONS.length)
+                throw new TomlBinaryException("Unknown comment position " + position);
+            String content = this.string(this.u32(pos + 1));
+            try {
+                dest.add(Comment.of(POSITIONS[position], content));
+            } catch (IllegalArgumentException e) {
+                throw new TomlBinaryException("Invalid comment at " + pos, e);
+            }
+            pos += 5;
+        }
+    }
+
+    /**
+     * Decodes the primitive with the given tag, whose payload is at {@code pos}.
+     * Local temporal values take the given zone.
+     */
+    @NotNull TomlPrimitive primitive(int tag, int pos, @Nullable ZoneOffset zone) throws TomlBinaryException {
+        try {
+            return this.primitive0(tag, pos, zone);
+        } catch (TomlValueException | DateTimeException e) {
+            throw new TomlBinaryException("Invalid value at " + pos, e);
+        }
+    }
+
+    private @NotNull TomlPrimitive primitive0(int tag, int pos, @Nullable ZoneOffset zone) throws TomlBinaryException {
+        switch (tag & TAG_MASK) {
+            case TAG_STRING:
+                return TomlPrimitive.of(this.string(this.u32(pos)));
+            case TAG_FALSE:
+                return TomlPrimitive.of(false);
+            case TAG_TRUE:
+                return TomlPrimitive.of(true);
+            case TAG_INTEGER:
+                return TomlPrimitive.of(this.i64(pos));
+            case TAG_FLOAT:
+                return UnsafePrimitives.createFloat(
+                        Double.longBitsToDouble(this.i64(pos)),
+                        this.string(this.u32(pos + 8))
+                );
+            case TAG_OFFSET_DATE_TIME:
+                return TomlPrimitive.of(OffsetDateTime.of(
+                        LocalDate.ofEpochDay(this.i64(pos)),
+                        LocalTime.ofNanoOfDay(this.i64(pos + 8)),
+                        ZoneOffset.ofTotalSeconds(this.u32(pos + 16))
+                ));
+            case TAG_LOCAL_DATE_TIME:
+                return TomlPrimitive.of(LocalDateTime.of(
+                        LocalDate.ofEpochDay(this.i64(pos)),
+                        LocalTime.ofNanoOfDay(this.i64(pos + 8))
+                ), zone);
+            case TAG_LOCAL_DATE:
+                return TomlPrimitive.of(LocalDate.ofEpochDay(this.i64(pos)), zone);
+            case TAG_LOCAL_TIME:
+                return TomlPrimitive.of(LocalTime.ofNanoOfDay(this.i64(pos)), zone);
+            default:
+                throw new TomlBinaryException("Unknown value tag " + (tag & TAG_MASK));
+        }
+    }
+
+    /** Validates the byte length of the container starting at {@code start}, read from {@code pos} */
+    int containerEnd(int start, int pos, int end) throws TomlBinaryException {
+        int length = this.u32(pos);
+        if (length < 0 || length > (end - start))
+            throw new TomlBinaryException("Container at " + start + " overruns its parent");
+        return start + length;
+    }
+
+    void checkOffset(int offset, int after, int end) throws TomlBinaryException {
+        if (offset <= after || offset >= end)
+            throw new TomlBinaryException("Offset " + offset + " is out of bounds");
+    }
+
+    // END Values
+
+    // START Strings
+
+    private void checkString(int index) throws TomlBinaryException {
+        if (index < 0 || index >= this.stringCount)
+            throw new TomlBinaryException("String index " + index + " out of range");
+    }
+
+    private int stringStart(int index) {
+        return this.u32(this.stringOffsets + (index << 2));
+    }
+
+    private int stringEnd(int index, int start) throws TomlBinaryException {
+        int end = this.u32(this.stringOffsets + ((index + 1) << 2));
+        if (start < 0 || end < start || end > (this.size - this.stringData))
+            throw new TomlBinaryException("String " + index + " is out of bounds");
+        return end;
+    }
+
+    @NotNull String string(int index) throws TomlBinaryException {
+        this.checkString(index);
+        String ret;
+        if (this.strings != null && (ret = this.strings[index]) != null) return ret;
+
+        final int start = this.stringStart(index);
+        final int len = this.stringEnd(index, start) - start;
+        final int abs = this.base + this.stringData + start;
+        if (this.in.hasArray()) {
+            ret = new String(this.in.array(), this.in.arrayOffset() + abs, len, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[len];
+            ByteBuffer slice = this.in.duplicate();
+            slice.position(abs);
+            slice.get(bytes);
+            ret = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (this.strings != null) this.strings[index] = ret;
+        return ret;
+    }
+
+    /**
+     * Compares the string at the given index to {@code other} as by {@link String#compareTo(String)},
+     * decoding in place
+     */
+    int compareString(int index, @NotNull String other) throws TomlBinaryException {
+        this.checkString(index);
+        if (this.strings != null && this.strings[index] != null) return this.strings[index].compareTo(other);
+
+        final int start = this.stringStart(index);
+        int pos = this.stringData + start;
+        final int end = this.stringData + this.stringEnd(index, start);
+        final int len = other.length();
+        int i = 0;
+        int pending = -1;
+        int b;
+        int cp;
+        char c;
+
+        while (true) {
+            // Next UTF-16 unit of the stored string
+            if (pending != -1) {
+                c = (char) pending;
+                pending = -1;
+            } else if (pos < end) {
+                b = this.u8(pos++);
+                if (b < 0x80) {
+                    cp = b;
+                } else if (b < 0xE0) {
+                    cp = ((b & 0x1F) << 6) | (this.u8(pos++) & 0x3F);
+                } else if (b < 0xF0) {
+                    cp = ((b & 0x0F) << 12) | ((this.u8(pos++) & 0x3F) << 6) | (this.u8(pos++) & 0x3F);
+                } else {
+                    cp = ((b & 0x07) << 18) | ((this.u8(pos++) & 0x3F) << 12) |
+                            ((this.u8(pos++) & 0x3F) << 6) | (this.u8(pos++) & 0x3F);
+                }
+                if (cp >= 0x10000) {
+                    c = Character.highSurrogate(cp);
+                    pending = Character.lowSurrogate(cp);
+                } else {
+                    c = (char) cp;
+                }
+            } else {
+                return (i < len) ? -1 : 0;
+            }
+
+            if (i >= len) return 1;
+            char o = other.charAt(i++);
+            if (c != o) return c - o;
+        }
+    }
+
+    // END Strings
+
+    // START Buffer
+
+    int u8(int pos) {
+        return this.in.get(this.base + pos) & 0xFF;
+    }
+
+    int u32(int pos) {
+        return this.in.getInt(this.base + pos);
+    }
+
+    long i64(int pos) {
+        return this.in.getLong(this.base + pos);
+    }
+
+    // END Buffer
+
+}
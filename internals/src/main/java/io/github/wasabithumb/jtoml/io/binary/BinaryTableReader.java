@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.binary;
+
+import io.github.wasabithumb.jtoml.except.parse.TomlBinaryException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.option.JTomlOption;
+import io.github.wasabithumb.jtoml.option.JTomlOptions;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static io.github.wasabithumb.jtoml.io.binary.BinaryFormat.*;
+
+/**
+ * Decodes a table from the binary snapshot format.
+ * Local date-times, dates and times take the {@link JTomlOption#TIME_ZONE configured zone},
+ * as they would when read from text.
+ * @see BinaryFormat
+ * @see BinaryTableWriter
+ * @see BinaryTableView
+ */
+public final class BinaryTableReader {
+
+    private final ByteBuffer in;
+    private final boolean readComments;
+    private final ZoneOffset zone;
+    private BinarySnapshot snapshot;
+
+    public BinaryTableReader(@NotNull ByteBuffer in, @NotNull JTomlOptions options) {
+        this.in = in;
+        this.readComments = options.get(JTomlOption.READ_COMMENTS);
+        this.zone = options.get(JTomlOption.TIME_ZONE);
+    }
+
+    //
+
+    /**
+     * True if the most recently read snapshot was taken from a document
+     * which began with a byte order mark
+     */
+    public boolean isOrderMarked() {
+        return this.snapshot != null && this.snapshot.isOrderMarked();
+    }
+
+    public @NotNull TomlTable readTable() throws TomlBinaryException {
+        final BinarySnapshot snapshot = this.snapshot = BinarySnapshot.open(this.in, true);
+        try {
+            return this.readValue(snapshot.root, snapshot.stringTable).asTable();
+        } catch (IndexOutOfBoundsException e) {
+            throw BinarySnapshot.malformed(e);
+        }
+    }
+
+    /**
+     * Reads the value at {@code pos}, which must not extend past {@code end}.
+     * Siblings are required to appear in storage order and containers may not
+     * overrun their bound, so every byte belongs to at most one value and malicious
+     * offsets cannot produce cycles or shared subtrees.
+     */
+    private @NotNull TomlValue readValue(int pos, int end) throws TomlBinaryException {
+        final BinarySnapshot snapshot = this.snapshot;
+        final int tag = snapshot.u8(pos);
+        final int payload = snapshot.payload(pos);
+
+        TomlValue ret;
+        switch (tag & TAG_MASK) {
+            case TAG_ARRAY:
+                ret = this.readArray(pos, payload, end);
+                break;
+            case TAG_TABLE:
+                ret = this.readTable(pos, payload, end, (tag & TAG_F_ORDERED) != 0);
+                break;
+            default:
+                ret = snapshot.primitive(tag, payload, this.zone);
+                break;
+        }
+
+        if (this.readComments) snapshot.comments(pos, ret.comments());
+        return ret;
+    }
+
+    private @NotNull TomlArray readArray(int start, int pos, int end) throws TomlBinaryException {
+        final BinarySnapshot snapshot = this.snapshot;
+        final int limit = snapshot.containerEnd(start, pos, end);
+        final int count = snapshot.u32(pos + 4);
+        final int offsets = pos + 8;
+        if (count < 0 || count > ((limit - offsets) >> 2))
+            throw new TomlBinaryException("Array is truncated");
+
+        int[] children = new int[count];
+        int prev = offsets + (count << 2) - 1;
+        for (int i=0; i < count; i++) {
+            int child = snapshot.u32(offsets + (i << 2));
+            snapshot.checkOffset(child, prev, limit);
+            children[i] = prev = child;
+        }
+
+        TomlArray ret = TomlArray.create(count);
+        for (int i=0; i < count; i++) {
+            ret.add(this.readValue(children[i], (i + 1 < count) ? children[i + 1] : limit));
+        }
+        return ret;
+    }
+
+    private @NotNull TomlTable readTable(int start, int pos, int end, boolean ordered) throws TomlBinaryException {
+        final BinarySnapshot snapshot = this.snapshot;
+        final int limit = snapshot.containerEnd(start, pos, end);
+        final int count = snapshot.u32(pos + 4);
+        final int entries = pos + 12;
+        if (count < 0 || count > ((limit - entries) / (ordered ? 12 : 8)))
+            throw new TomlBinaryException("Table is truncated");
+
+        int[] children = new int[count];
+        int prev = entries + (count << 3) + (ordered ? (count << 2) : 0) - 1;
+        for (int i=0; i < count; i++) {
+            int child = snapshot.u32(entries + (i << 3) + 4);
+            snapshot.checkOffset(child, prev, limit);
+            children[i] = prev = child;
+        }
+
+        // Children are instantiated in their original creation order so that
+        // time-sorted output is reproduced
+        int[] order = null;
+        if (ordered) {
+            final int ranks = entries + (count << 3);
+            order = new int[count];
+            Arrays.fill(order, -1);
+            for (int i=0; i < count; i++) {
+                int rank = snapshot.u32(ranks + (i << 2));
+                if (rank < 0 || rank >= count || order[rank] != -1)
+                    throw new TomlBinaryException("Invalid creation rank " + rank);
+                order[rank] = i;
+            }
+        }
+
+        TomlTable ret = TomlTable.create();
+        for (int r=0; r < count; r++) {
+            int i = (order == null) ? r : order[r];
+            String label = snapshot.string(snapshot.u32(entries + (i << 3)));
+            TomlValue value = this.readValue(children[i], (i + 1 < count) ? children[i + 1] : limit);
+            ret.put(TomlKey.literal(label), value);
+        }
+        return ret;
+    }
+
+}
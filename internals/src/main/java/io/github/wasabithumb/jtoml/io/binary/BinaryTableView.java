@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.binary;
+
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.except.parse.TomlBinaryException;
+import io.github.wasabithumb.jtoml.option.JTomlOption;
+import io.github.wasabithumb.jtoml.option.JTomlOptions;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.AbstractTomlTableView;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneOffset;
+
+import static io.github.wasabithumb.jtoml.io.binary.BinaryFormat.*;
+
+/**
+ * Read-only table backed directly by a binary snapshot. Navigation is performed
+ * by offset within the buffer, and value objects are only created for values which are
+ * returned; nothing is retained on the heap between calls. Strings and keys are decoded
+ * on each access. Since the content of the buffer is never copied, it must not be modified
+ * while views over it are in use.
+ * <p>
+ * Creation order is not retained by views; every table and array reports the time
+ * at which the snapshot was opened.
+ * @see BinaryFormat
+ * @see BinaryTableReader
+ */
+public final class BinaryTableView extends AbstractTomlTableView {
+
+    public static @NotNull BinaryTableView open(@NotNull ByteBuffer in, @NotNull JTomlOptions options) throws TomlBinaryException {
+        BinarySnapshot snapshot = BinarySnapshot.open(in, false);
+        Shared shared = new Shared(snapshot, options);
+        try {
+            return new BinaryTableView(shared, snapshot.root, snapshot.stringTable);
+        } catch (IndexOutOfBoundsException e) {
+            throw BinarySnapshot.malformed(e);
+        }
+    }
+
+    /** Creates a view of the value at {@code pos}, which must not extend past {@code end} */
+    static @NotNull TomlValue valueAt(@NotNull Shared shared, int pos, int end) throws TomlBinaryException {
+        final BinarySnapshot snapshot = shared.snapshot;
+        final int tag = snapshot.u8(pos);
+        switch (tag & TAG_MASK) {
+            case TAG_ARRAY:
+                return new BinaryArrayView(shared, pos, end);
+            case TAG_TABLE:
+                return new BinaryTableView(shared, pos, end);
+            default:
+                TomlPrimitive ret = snapshot.primitive(tag, snapshot.payload(pos), shared.zone);
+                if (shared.readComments) snapshot.comments(pos, ret.comments());
+                return TomlPrimitive.immutableCopyOf(ret);
+        }
+    }
+
+    //
+
+    private final Shared shared;
+    private final int start;
+    private final int limit;
+    private final int count;
+    private final int size;
+    private final int entries;
+    private final int children;
+
+    private BinaryTableView(@NotNull Shared shared, int start, int end) throws TomlBinaryException {
+        final BinarySnapshot snapshot = shared.snapshot;
+        final int pos = snapshot.payload(start);
+        final int limit = snapshot.containerEnd(start, pos, end);
+        final int count = snapshot.u32(pos + 4);
+        final int entries = pos + 12;
+        final boolean ordered = (snapshot.u8(start) & TAG_F_ORDERED) != 0;
+        if (count < 0 || count > ((limit - entries) / (ordered ? 12 : 8)))
+            throw new TomlBinaryException("Table is truncated");
+
+        this.shared = shared;
+        this.start = start;
+        this.limit = limit;
+        this.count = count;
+        this.size = snapshot.u32(pos + 8);
+        this.entries = entries;
+        this.children = entries + (count << 3) + (ordered ? (count << 2) : 0);
+    }
+
+    //
+
+    /**
+     * True if the snapshot was taken from a document
+     * which began with a byte order mark
+     */
+    public boolean isOrderMarked() {
+        return this.shared.snapshot.isOrderMarked();
+    }
+
+    @Override
+    public long creationTime() {
+        return this.shared.creationTime;
+    }
+
+    @Override
+    public @NotNull Comments comments() {
+        return this.shared.comments(this.start);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // START Level Super
+
+    @Override
+    public int levelSize() {
+        return this.count;
+    }
+
+    @Override
+    public @NotNull String levelLabel(int index) {
+        if (index < 0 || index >= this.count) throw new IndexOutOfBoundsException("Index " + index + " out of bounds");
+        try {
+            return this.shared.snapshot.string(this.shared.snapshot.u32(this.entries + (index << 3)));
+        } catch (IndexOutOfBoundsException e) {
+            throw BinarySnapshot.malformed(e);
+        }
+    }
+
+    @Override
+    protected int levelIndexOf(@NotNull String label) {
+        final BinarySnapshot snapshot = this.shared.snapshot;
+        int lo = 0;
+        int hi = this.count - 1;
+        int mid;
+        int cmp;
+        try {
+            while (lo <= hi) {
+                mid = (lo + hi) >>> 1;
+                cmp = snapshot.compareString(snapshot.u32(this.entries + (mid << 3)), label);
+                if (cmp < 0) {
+                    lo = mid + 1;
+                } else if (cmp > 0) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw BinarySnapshot.malformed(e);
+        }
+        return -(lo + 1);
+    }
+
+    @Override
+    public @NotNull TomlValue levelValue(int index) {
+        if (index < 0 || index >= this.count) throw new IndexOutOfBoundsException("Index " + index + " out of bounds");
+        final BinarySnapshot snapshot = this.shared.snapshot;
+        try {
+            int offset = snapshot.u32(this.entries + (index << 3) + 4);
+            int end = (index + 1 < this.count) ? snapshot.u32(this.entries + ((index + 1) << 3) + 4) : this.limit;
+            snapshot.checkOffset(end, offset, this.limit + 1);
+            snapshot.checkOffset(offset, this.children - 1, this.limit);
+            return valueAt(this.shared, offset, end);
+        } catch (IndexOutOfBoundsException e) {
+            throw BinarySnapshot.malformed(e);
+        }
+    }
+
+    // END Level Super
+
+    //
+
+    static final class Shared {
+
+        final BinarySnapshot snapshot;
+        final ZoneOffset zone;
+        final boolean readComments;
+        final long creationTime;
+
+        Shared(@NotNull BinarySnapshot snapshot, @NotNull JTomlOptions options) {
+            this.snapshot = snapshot;
+            this.zone = options.get(JTomlOption.TIME_ZONE);
+            this.readComments = options.get(JTomlOption.READ_COMMENTS);
+            this.creationTime = System.nanoTime();
+        }
+
+        /** Provides an immutable copy of the comments of the value at {@code pos} */
+        @NotNull Comments comments(int pos) {
+            Comments ret = Comments.empty();
+            if (this.readComments) {
+                try {
+                    this.snapshot.comments(pos, ret);
+                } catch (IndexOutOfBoundsException e) {
+                    throw BinarySnapshot.malformed(e);
+                }
+            }
+            return Comments.immutableCopyOf(ret);
+        }
+
+    }
+
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.binary;
+
+import io.github.wasabithumb.jtoml.comment.Comment;
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.option.JTomlOption;
+import io.github.wasabithumb.jtoml.option.JTomlOptions;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+import static io.github.wasabithumb.jtoml.io.binary.BinaryFormat.*;
+
+/**
+ * Encodes a table into the binary snapshot format
+ * @see BinaryFormat
+ * @see BinaryTableReader
+ */
+public final class BinaryTableWriter {
+
+    private final boolean writeComments;
+    private final Map<String, Integer> strings;
+    private final List<String> stringList;
+    private byte[] buf;
+    private int len;
+
+    public BinaryTableWriter(@NotNull JTomlOptions options) {
+        this.writeComments = options.get(JTomlOption.WRITE_COMMENTS);
+        this.strings = new HashMap<>();
+        this.stringList = new ArrayList<>();
+        this.buf = new byte[256];
+        this.len = 0;
+    }
+
+    //
+
+    public void writeTable(@NotNull OutputStream out, @NotNull TomlTable table, boolean orderMarked) throws TomlIOException {
+        byte[] data = this.encode(table, orderMarked);
+        try {
+            out.write(data, 0, this.len);
+            out.flush();
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    private byte @NotNull [] encode(@NotNull TomlTable table, boolean orderMarked) {
+        this.len = 0;
+        this.strings.clear();
+        this.stringList.clear();
+
+        this.u8(MAGIC_0);
+        this.u8(MAGIC_1);
+        this.u8(MAGIC_2);
+        this.u8(VERSION);
+        int flags = 0;
+        if (this.writeComments) flags |= F_COMMENTS;
+        if (orderMarked) flags |= F_ORDER_MARKED;
+        this.u8(flags);
+        this.u8(0);
+        this.u8(0);
+        this.u8(0);
+        this.u32(0);
+        this.u32(0);
+
+        int root = this.writeValue(table);
+        int stringTable = this.writeStrings();
+        this.patch32(HEADER_STRINGS, stringTable);
+        this.patch32(HEADER_ROOT, root);
+        return this.buf;
+    }
+
+    // START Strings
+
+    /** Provides the index of the given string in the string table, adding it if necessary */
+    private int stringIndex(@NotNull String s) {
+        Integer idx = this.strings.get(s);
+        if (idx != null) return idx;
+        int ret = this.stringList.size();
+        this.strings.put(s, ret);
+        this.stringList.add(s);
+        return ret;
+    }
+
+    private int writeStrings() {
+        final int start = this.len;
+        final int count = this.stringList.size();
+        this.u32(count);
+
+        int offsets = this.len;
+        this.reserve((count + 1) << 2);
+        int data = this.len;
+
+        byte[] bytes;
+        for (int i=0; i < count; i++) {
+            this.patch32(offsets + (i << 2), this.len - data);
+            bytes = this.stringList.get(i).getBytes(StandardCharsets.UTF_8);
+            this.ensure(bytes.length);
+            System.arraycopy(bytes, 0, this.buf, this.len, bytes.length);
+            this.len += bytes.length;
+        }
+        this.patch32(offsets + (count << 2), this.len - data);
+        return start;
+    }
+
+    // END Strings
+
+    // START Values
+
+    private int writeValue(@NotNull TomlValue value) {
+        final int start = this.len;
+        final Comments comments = value.comments();
+        final boolean commented = this.writeComments && comments.count() != 0;
+        final int commentFlag = commented ? TAG_F_COMMENTS : 0;
+
+        if (value.isPrimitive()) {
+            TomlPrimitive p = value.asPrimitive();
+            switch (p.type()) {
+                case STRING:
+                    this.u8(TAG_STRING | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    this.u32(this.stringIndex(p.asString()));
+                    break;
+                case BOOLEAN:
+                    this.u8((p.asBoolean() ? TAG_TRUE : TAG_FALSE) | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    break;
+                case INTEGER:
+                    this.u8(TAG_INTEGER | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    this.i64(p.asLong());
+                    break;
+                case FLOAT:
+                    this.u8(TAG_FLOAT | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    this.i64(Double.doubleToRawLongBits(p.asDouble()));
+                    this.u32(this.stringIndex(p.asString()));
+                    break;
+                case OFFSET_DATE_TIME:
+                    OffsetDateTime odt = p.asOffsetDateTime();
+                    this.u8(TAG_OFFSET_DATE_TIME | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    this.i64(odt.toLocalDate().toEpochDay());
+                    this.i64(odt.toLocalTime().toNanoOfDay());
+                    this.u32(odt.getOffset().getTotalSeconds());
+                    break;
+                case LOCAL_DATE_TIME:
+                    LocalDateTime ldt = p.asLocalDateTime();
+                    this.u8(TAG_LOCAL_DATE_TIME | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    this.i64(ldt.toLocalDate().toEpochDay());
+                    this.i64(ldt.toLocalTime().toNanoOfDay());
+                    break;
+                case LOCAL_DATE:
+                    this.u8(TAG_LOCAL_DATE | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    this.i64(p.asLocalDate().toEpochDay());
+                    break;
+                case LOCAL_TIME:
+                    this.u8(TAG_LOCAL_TIME | commentFlag);
+                    if (commented) this.writeComments(comments);
+                    this.i64(p.asLocalTime().toNanoOfDay());
+                    break;
+                default:
+                    throw new AssertionError("Unreachable code");
+            }
+        } else if (value.isArray()) {
+            this.writeArray(value.asArray(), commentFlag, comments);
+        } else {
+            this.writeTable(value.asTable(), commentFlag, comments);
+        }
+        return start;
+    }
+
+    private void writeArray(@NotNull TomlArray array, int commentFlag, @NotNull Comments comments) {
+        final int start = this.len;
+        final int count = array.size();
+
+        this.u8(TAG_ARRAY | commentFlag);
+        if (commentFlag != 0) this.writeComments(comments);
+        int lengthPos = this.len;
+        this.u32(0);
+        this.u32(count);
+        int offsets = this.len;
+        this.reserve(count << 2);
+
+        for (int i=0; i < count; i++) {
+            this.patch32(offsets + (i << 2), this.writeValue(array.get(i)));
+        }
+        this.patch32(lengthPos, this.len - start);
+    }
+
+    private void writeTable(@NotNull TomlTable table, int commentFlag, @NotNull Comments comments) {
+        final int start = this.len;
+
+        Set<Map.Entry<TomlKey, TomlValue>> all = table.entries(false);
+        final int count = all.size();
+        String[] labels = new String[count];
+        TomlValue[] values = new TomlValue[count];
+        Integer[] order = new Integer[count];
+        int head = 0;
+        for (Map.Entry<TomlKey, TomlValue> entry : all) {
+            labels[head] = entry.getKey().get(0);
+            values[head] = entry.getValue();
+            order[head] = head;
+            head++;
+        }
+
+        // Entries are stored by label; creation ranks are stored only if they disagree
+        if (!isSorted(labels, head)) Arrays.sort(order, 0, head, Comparator.comparing((Integer i) -> labels[i]));
+        Integer[] byTime = order;
+        boolean ordered = false;
+        for (int i=1; i < head; i++) {
+            if (values[order[i - 1]].creationTime() <= values[order[i]].creationTime()) continue;
+            byTime = order.clone();
+            Arrays.sort(byTime, 0, head, Comparator.comparingLong((Integer idx) -> values[idx].creationTime()));
+            ordered = true;
+            break;
+        }
+
+        this.u8(TAG_TABLE | commentFlag | (ordered ? TAG_F_ORDERED : 0));
+        if (commentFlag != 0) this.writeComments(comments);
+        int lengthPos = this.len;
+        this.u32(0);
+        this.u32(head);
+        this.u32(table.size());
+        int entries = this.len;
+        this.reserve(head << 3);
+        if (ordered) {
+            int[] rank = new int[count];
+            for (int r=0; r < head; r++) rank[byTime[r]] = r;
+            for (int i=0; i < head; i++) this.u32(rank[order[i]]);
+        }
+
+        for (int i=0; i < head; i++) {
+            int idx = order[i];
+            this.patch32(entries + (i << 3), this.stringIndex(labels[idx]));
+            this.patch32(entries + (i << 3) + 4, this.writeValue(values[idx]));
+        }
+        this.patch32(lengthPos, this.len - start);
+    }
+
+    private static boolean isSorted(@NotNull String @NotNull [] labels, int len) {
+        for (int i=1; i < len; i++) {
+            if (labels[i - 1].compareTo(labels[i]) > 0) return false;
+        }
+        return true;
+    }
+
+    private void writeComments(@NotNull Comments comments) {
+        List<Comment> list = comments.all();
+        this.u32(list.size());
+        for (Comment c : list) {
+            this.u8(c.position().ordinal());
+            this.u32(this.stringIndex(c.content()));
+        }
+    }
+
+    // END Values
+
+    // START Buffer
+
+    private void ensure(int n) {
+        int need = this.len + n;
+        if (need < 0) throw new OutOfMemoryError("Binary snapshot exceeds 2 GiB");
+        if (need <= this.buf.length) return;
+        int cap = Math.max(need, this.buf.length << 1);
+        this.buf = Arrays.copyOf(this.buf, cap);
+    }
+
+    private void reserve(int n) {
+        this.ensure(n);
+        this.len += n;
+    }
+
+    private void u8(int v) {
+        this.ensure(1);
+        this.buf[this.len++] = (byte) v;
+    }
+
+    private void u32(int v) {
+        this.ensure(4);
+        this.patch32(this.len, v);
+        this.len += 4;
+    }
+
+    private void i64(long v) {
+        this.u32((int) (v >>> 32));
+        this.u32((int) v);
+    }
+
+    private void patch32(int pos, int v) {
+        final byte[] b = this.buf;
+        b[pos] = (byte) (v >>> 24);
+        b[pos + 1] = (byte) (v >>> 16);
+        b[pos + 2] = (byte) (v >>> 8);
+        b[pos + 3] = (byte) v;
+    }
+
+    // END Buffer
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.target;
+
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public final class AppendableCharTarget implements CharTarget {
+
+    private final Appendable out;
+
+    public AppendableCharTarget(@NotNull Appendable out) {
+        this.out = out;
+    }
+
+    //
+
+    @Override
+    public void put(int c) throws TomlException {
+        this.put((char) c);
+    }
+
+    @Override
+    public void put(char c) throws TomlException {
+        try {
+            this.out.append(c);
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    @Override
+    public void put(@NotNull CharSequence cs) throws TomlException {
+        try {
+            this.out.append(cs);
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    @Override
+    public void put(@NotNull CharSequence cs, int start, int end) throws TomlException {
+        try {
+            this.out.append(cs, start, end);
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    @Override
+    public void close() { }
+
+}
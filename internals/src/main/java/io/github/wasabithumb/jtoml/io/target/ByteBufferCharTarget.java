@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.target;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes into the remaining space of a byte buffer, which may be direct.
+ * Raises {@link BufferOverflowException} once the buffer is full.
+ */
+public final class ByteBufferCharTarget extends Utf8CharTarget {
+
+    private final ByteBuffer dest;
+
+    public ByteBufferCharTarget(@NotNull ByteBuffer dest) {
+        super(Math.max(4, Math.min(DEFAULT_CAPACITY, dest.remaining())));
+        this.dest = dest;
+    }
+
+    //
+
+    @Override
+    protected void write(byte @NotNull [] buf, int len) throws BufferOverflowException {
+        this.dest.put(buf, 0, len);
+    }
+
+    @Override
+    public void close() {
+        this.flush();
+    }
+
+}
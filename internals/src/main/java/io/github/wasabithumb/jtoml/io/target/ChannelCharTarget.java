@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.target;
+
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+public final class ChannelCharTarget extends Utf8CharTarget {
+
+    private final WritableByteChannel channel;
+
+    public ChannelCharTarget(@NotNull WritableByteChannel channel, int capacity) {
+        super(capacity);
+        this.channel = channel;
+    }
+
+    public ChannelCharTarget(@NotNull WritableByteChannel channel) {
+        this(channel, DEFAULT_CAPACITY);
+    }
+
+    //
+
+    @Override
+    protected void write(byte @NotNull [] buf, int len) throws TomlIOException {
+        ByteBuffer src = ByteBuffer.wrap(buf, 0, len);
+        try {
+            // Non-blocking channels may accept only part of the data
+            while (src.hasRemaining()) this.channel.write(src);
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    @Override
+    public void close() throws TomlIOException {
+        try {
+            this.flush();
+        } finally {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                TomlIOException.rethrow(e);
+            }
+        }
+    }
+
+}
@@ -29,6 +29,20 @@ public interface CharTarget extends Closeable {
 
     void put(@NotNull CharSequence cs) throws TomlException;
 
+    /**
+     * Puts the characters of {@code cs} from {@code start} (inclusive) to {@code end} (exclusive)
+     */
+    default void put(@NotNull CharSequence cs, int start, int end) throws TomlException {
+        for (int i=start; i < end; i++) this.put(cs.charAt(i));
+    }
+
+    /**
+     * Puts {@code len} characters of {@code buf} starting at {@code off}
+     */
+    default void put(char @NotNull [] buf, int off, int len) throws TomlException {
+        for (int i=0; i < len; i++) this.put(buf[off + i]);
+    }
+
     @Override
     void close() throws TomlException;
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.target;
+
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public final class StreamCharTarget extends Utf8CharTarget {
+
+    private final OutputStream out;
+
+    public StreamCharTarget(@NotNull OutputStream out, int capacity) {
+        super(capacity);
+        this.out = out;
+    }
+
+    public StreamCharTarget(@NotNull OutputStream out) {
+        this(out, DEFAULT_CAPACITY);
+    }
+
+    //
+
+    @Override
+    protected void write(byte @NotNull [] buf, int len) throws TomlIOException {
+        try {
+            this.out.write(buf, 0, len);
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    @Override
+    public void flush() throws TomlIOException {
+        super.flush();
+        try {
+            this.out.flush();
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    @Override
+    public void close() throws TomlIOException {
+        try {
+            this.flush();
+        } finally {
+            try {
+                this.out.close();
+            } catch (IOException e) {
+                TomlIOException.rethrow(e);
+            }
+        }
+    }
+
+}
@@ -39,6 +39,25 @@ public final class StringCharTarget implements CharTarget {
         this.backing.append(cs);
     }
 
+    @Override
+    public void put(@NotNull CharSequence cs, int start, int end) {
+        this.backing.append(cs, start, end);
+    }
+
+    @Override
+    public void put(char @NotNull [] buf, int off, int len) {
+        this.backing.append(buf, off, len);
+    }
+
+    /**
+     * Puts the characters held by this target into another, then clears this target
+     */
+    public void drainTo(@NotNull CharTarget other) {
+        other.put(this.backing, 0, this.backing.length());
+        this.backing.setLength(0);
+        this.backing.trimToSize();
+    }
+
     @Override
     public void close() { }
 
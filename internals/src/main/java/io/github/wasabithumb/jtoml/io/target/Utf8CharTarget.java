@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.io.target;
+
+import io.github.wasabithumb.jtoml.except.TomlIOException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Flushable;
+
+/**
+ * Encodes characters to UTF-8 directly into a byte buffer, which is drained
+ * only when full or when flushed. Unpaired surrogates are encoded as {@code ?},
+ * matching the replacement behavior of {@link java.io.OutputStreamWriter}.
+ */
+public abstract class Utf8CharTarget implements CharTarget, Flushable {
+
+    protected static final int DEFAULT_CAPACITY = 8192;
+
+    //
+
+    private final byte[] buf;
+    private int pos;
+    private char high;
+
+    protected Utf8CharTarget(int capacity) {
+        if (capacity < 4) throw new IllegalArgumentException("Capacity must be at least 4 bytes");
+        this.buf = new byte[capacity];
+        this.pos = 0;
+        this.high = 0;
+    }
+
+    //
+
+    /**
+     * Receives a chunk of encoded data
+     */
+    protected abstract void write(byte @NotNull [] buf, int len) throws TomlIOException;
+
+    //
+
+    @Override
+    public void put(int c) throws TomlIOException {
+        this.put((char) c);
+    }
+
+    @Override
+    public void put(char c) throws TomlIOException {
+        if (c < 0x80 && this.high == 0) {
+            if (this.pos == this.buf.length) this.drain();
+            this.buf[this.pos++] = (byte) c;
+        } else {
+            this.putSlow(c);
+        }
+    }
+
+    @Override
+    public void put(@NotNull CharSequence cs) throws TomlIOException {
+        this.put(cs, 0, cs.length());
+    }
+
+    @Override
+    public void put(@NotNull CharSequence cs, int start, int end) throws TomlIOException {
+        final byte[] buf = this.buf;
+        int i = start;
+        int pos;
+        int limit;
+        char c;
+
+        while (i < end) {
+            c = cs.charAt(i);
+            if (c >= 0x80 || this.high != 0) {
+                this.putSlow(c);
+                i++;
+                continue;
+            }
+
+            // ASCII run, bounded by the space remaining in the buffer
+            if (this.pos == buf.length) this.drain();
+            pos = this.pos;
+            limit = Math.min(end, i + (buf.length - pos));
+            do {
+                buf[pos++] = (byte) c;
+                if (++i == limit) break;
+                c = cs.charAt(i);
+            } while (c < 0x80);
+            this.pos = pos;
+        }
+    }
+
+    @Override
+    public void put(char @NotNull [] src, int off, int len) throws TomlIOException {
+        final byte[] buf = this.buf;
+        final int end = off + len;
+        int i = off;
+        int pos;
+        int limit;
+        char c;
+
+        while (i < end) {
+            c = src[i];
+            if (c >= 0x80 || this.high != 0) {
+                this.putSlow(c);
+                i++;
+                continue;
+            }
+
+            // ASCII run, bounded by the space remaining in the buffer
+            if (this.pos == buf.length) this.drain();
+            pos = this.pos;
+            limit = Math.min(end, i + (buf.length - pos));
+            do {
+                buf[pos++] = (byte) c;
+                if (++i == limit) break;
+                c = src[i];
+            } while (c < 0x80);
+            this.pos = pos;
+        }
+    }
+
+    private void putSlow(char c) throws TomlIOException {
+        char high = this.high;
+        if (high != 0) {
+            this.high = 0;
+            if (Character.isLowSurrogate(c)) {
+                this.putCodePoint(Character.toCodePoint(high, c));
+                return;
+            }
+            this.putCodePoint('?');
+        }
+        if (Character.isHighSurrogate(c)) {
+            this.high = c;
+        } else if (Character.isLowSurrogate(c)) {
+            this.putCodePoint('?');
+        } else {
+            this.putCodePoint(c);
+        }
+    }
+
+    private void putCodePoint(int cp) throws TomlIOException {
+        if (this.buf.length - this.pos < 4) this.drain();
+        final byte[] buf = this.buf;
+        int pos = this.pos;
+
+        if (cp < 0x80) {
+            buf[pos++] = (byte) cp;
+        } else if (cp < 0x800) {
+            buf[pos++] = (byte) (0xC0 | (cp >> 6));
+            buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+        } else if (cp < 0x10000) {
+            buf[pos++] = (byte) (0xE0 | (cp >> 12));
+            buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+        } else {
+            buf[pos++] = (byte) (0xF0 | (cp >> 18));
+            buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+            buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+        }
+
+        this.pos = pos;
+    }
+
+    private void drain() throws TomlIOException {
+        if (this.pos == 0) return;
+        this.write(this.buf, this.pos);
+        this.pos = 0;
+    }
+
+    /**
+     * Encodes any pending surrogate and drains the buffer
+     */
+    @Override
+    public void flush() throws TomlIOException {
+        if (this.high != 0) {
+            this.high = 0;
+            this.putCodePoint('?');
+        }
+        this.drain();
+    }
+
+}
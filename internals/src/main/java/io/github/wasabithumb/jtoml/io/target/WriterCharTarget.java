@@ -66,6 +66,30 @@ public final class WriterCharTarget extends FilterWriter implements CharTarget {
         }
     }
 
+    @Override
+    public void put(@NotNull CharSequence cs, int start, int end) throws TomlException {
+        try {
+            if (cs instanceof String) {
+                this.out.write((String) cs, start, end - start);
+            } else {
+                for (int i = start; i < end; i++) {
+                    this.out.write(cs.charAt(i));
+                }
+            }
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
+    @Override
+    public void put(char @NotNull [] buf, int off, int len) throws TomlException {
+        try {
+            this.out.write(buf, off, len);
+        } catch (IOException e) {
+            TomlIOException.rethrow(e);
+        }
+    }
+
     @Override
     public void flush() throws TomlIOException {
         try {
@@ -17,6 +17,7 @@
 package io.github.wasabithumb.jtoml
 
 import io.github.wasabithumb.jtoml.document.TomlDocument
+import io.github.wasabithumb.jtoml.document.TomlStreamWriter
 import io.github.wasabithumb.jtoml.except.TomlException
 import io.github.wasabithumb.jtoml.key.TomlKey
 import io.github.wasabithumb.jtoml.option.JTomlOptions
@@ -29,6 +30,9 @@ import java.io.InputStream
 import java.io.OutputStream
 import java.io.Reader
 import java.io.Writer
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+import java.nio.channels.WritableByteChannel
 import java.time.*
 import java.util.function.DoubleUnaryOperator
 import java.util.function.LongUnaryOperator
@@ -102,6 +106,44 @@ object KToml : JToml {
         this.instance.write(writer, table)
     }
 
+    @Throws(TomlException::class)
+    override fun write(channel: WritableByteChannel, table: TomlTable) {
+        this.instance.write(channel, table)
+    }
+
+    @Throws(BufferOverflowException::class, TomlException::class)
+    override fun write(buffer: ByteBuffer, table: TomlTable): Int {
+        return this.instance.write(buffer, table)
+    }
+
+    @Throws(TomlException::class)
+    override fun writeTo(out: Appendable, table: TomlTable) {
+        this.instance.writeTo(out, table)
+    }
+
+    override fun streamWriter(out: OutputStream): TomlStreamWriter {
+        return this.instance.streamWriter(out)
+    }
+
+    override fun streamWriter(writer: Writer): TomlStreamWriter {
+        return this.instance.streamWriter(writer)
+    }
+
+    @Throws(TomlException::class)
+    override fun writeBinary(out: OutputStream, table: TomlTable) {
+        this.instance.writeBinary(out, table)
+    }
+
+    @Throws(TomlException::class)
+    override fun readBinary(buffer: ByteBuffer): TomlDocument {
+        return this.instance.readBinary(buffer)
+    }
+
+    @Throws(TomlException::class)
+    override fun viewBinary(buffer: ByteBuffer): TomlDocument {
+        return this.instance.viewBinary(buffer)
+    }
+
     @Throws(TomlException::class)
     override fun <T : Any> fromToml(type: Class<T>, table: TomlTable): T {
         return this.instance.fromToml(type, table)
@@ -65,11 +65,8 @@ public final class GsonTomlSerializer implements TomlSerializer.Symmetric<JsonOb
     @Override
     public @NotNull JsonObject fromToml(@NotNull TomlTable table) {
         JsonObject ret = new JsonObject();
-        TomlValue value;
-        for (TomlKey key : table.keys(false)) {
-            value = table.get(key);
-            assert value != null;
-            ret.add(key.get(0), this.serializeValue(value));
+        for (Map.Entry<TomlKey, TomlValue> entry : table.entries(false)) {
+            ret.add(entry.getKey().get(0), this.serializeValue(entry.getValue()));
         }
         return ret;
     }
@@ -263,11 +263,9 @@ public final class ReflectTomlSerializer<T> implements TomlSerializer.Symmetric<
                 builder.set(modelKey, object);
             }
         } else {
-            for (TomlKey tk : table.keys(false)) {
-                TomlValue value = table.get(tk);
-                assert value != null;
-
-                TableTypeModel.Key key = mapper.fromTomlKey(tk);
+            for (Map.Entry<TomlKey, TomlValue> entry : table.entries(false)) {
+                TomlValue value = entry.getValue();
+                TableTypeModel.Key key = mapper.fromTomlKey(entry.getKey());
                 if (key == null) continue;
 
                 TypeModel<?> valueModel = TypeModel.of(model.elementType(key));
@@ -18,15 +18,25 @@ package io.github.wasabithumb.jtoml;
 
 import io.github.wasabithumb.jtoml.document.TomlDocument;
 import io.github.wasabithumb.jtoml.document.TomlDocumentImpl;
+import io.github.wasabithumb.jtoml.document.TomlStreamWriter;
 import io.github.wasabithumb.jtoml.except.TomlException;
 import io.github.wasabithumb.jtoml.except.TomlIOException;
 import io.github.wasabithumb.jtoml.io.TableReader;
+import io.github.wasabithumb.jtoml.io.TableStreamWriter;
 import io.github.wasabithumb.jtoml.io.TableWriter;
+import io.github.wasabithumb.jtoml.io.WriterPlan;
+import io.github.wasabithumb.jtoml.io.binary.BinaryTableReader;
+import io.github.wasabithumb.jtoml.io.binary.BinaryTableView;
+import io.github.wasabithumb.jtoml.io.binary.BinaryTableWriter;
 import io.github.wasabithumb.jtoml.io.source.BufferedCharSource;
 import io.github.wasabithumb.jtoml.io.source.ReaderCharSource;
 import io.github.wasabithumb.jtoml.io.source.StreamCharSource;
 import io.github.wasabithumb.jtoml.io.source.StringCharSource;
+import io.github.wasabithumb.jtoml.io.target.AppendableCharTarget;
+import io.github.wasabithumb.jtoml.io.target.ByteBufferCharTarget;
+import io.github.wasabithumb.jtoml.io.target.ChannelCharTarget;
 import io.github.wasabithumb.jtoml.io.target.CharTarget;
+import io.github.wasabithumb.jtoml.io.target.StreamCharTarget;
 import io.github.wasabithumb.jtoml.io.target.StringCharTarget;
 import io.github.wasabithumb.jtoml.io.target.WriterCharTarget;
 import io.github.wasabithumb.jtoml.meta.JTomlVersionInfo;
@@ -40,6 +50,9 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.ServiceLoader;
 
 @ApiStatus.Internal
@@ -57,9 +70,11 @@ final class JTomlImpl implements JToml {
     //
 
     private final JTomlOptions options;
+    private final WriterPlan writerPlan;
 
     JTomlImpl(@NotNull JTomlOptions options) {
         this.options = options;
+        this.writerPlan = new WriterPlan(options);
     }
 
     //
@@ -108,7 +123,7 @@ final class JTomlImpl implements JToml {
     //
 
     private void write(@NotNull CharTarget ct, @NotNull TomlTable table) throws TomlException {
-        TableWriter tw = new TableWriter(ct, this.options);
+        TableWriter tw = new TableWriter(ct, this.writerPlan);
         tw.writeTable(table);
     }
 
@@ -122,7 +137,7 @@ final class JTomlImpl implements JToml {
 
     @Override
     public void write(@NotNull OutputStream out, @NotNull TomlTable table) throws TomlIOException {
-        WriterCharTarget ct = WriterCharTarget.of(out);
+        StreamCharTarget ct = new StreamCharTarget(out);
         if (this.shouldWriteBOM(table)) ct.put(0xFEFF);
         this.write((CharTarget) ct, table);
         ct.flush();
@@ -136,6 +151,76 @@ final class JTomlImpl implements JToml {
         ct.flush();
     }
 
+    @Override
+    public void write(@NotNull WritableByteChannel channel, @NotNull TomlTable table) throws TomlIOException {
+        ChannelCharTarget ct = new ChannelCharTarget(channel);
+        if (this.shouldWriteBOM(table)) ct.put(0xFEFF);
+        this.write((CharTarget) ct, table);
+        ct.flush();
+    }
+
+    @Override
+    public int write(@NotNull ByteBuffer buffer, @NotNull TomlTable table) throws BufferOverflowException {
+        final int start = buffer.position();
+        ByteBufferCharTarget ct = new ByteBufferCharTarget(buffer);
+        try {
+            if (this.shouldWriteBOM(table)) ct.put(0xFEFF);
+            this.write((CharTarget) ct, table);
+            ct.flush();
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return buffer.position() - start;
+    }
+
+    @Override
+    public void writeTo(@NotNull Appendable out, @NotNull TomlTable table) throws TomlIOException {
+        AppendableCharTarget ct = new AppendableCharTarget(out);
+        if (this.shouldWriteBOM(table)) ct.put(0xFEFF);
+        this.write(ct, table);
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter streamWriter(@NotNull OutputStream out) {
+        StreamCharTarget ct = new StreamCharTarget(out);
+        if (this.options.get(JTomlOption.WRITE_BOM) == OrderMarkPolicy.ALWAYS) ct.put(0xFEFF);
+        return new TableStreamWriter(ct, this.writerPlan);
+    }
+
+    @Override
+    public @NotNull TomlStreamWriter streamWriter(@NotNull Writer writer) {
+        WriterCharTarget ct = new WriterCharTarget(writer);
+        if (this.options.get(JTomlOption.WRITE_BOM) == OrderMarkPolicy.ALWAYS) ct.put(0xFEFF);
+        return new TableStreamWriter(ct, this.writerPlan);
+    }
+
+    //
+
+    @Override
+    public void writeBinary(@NotNull OutputStream out, @NotNull TomlTable table) throws TomlIOException {
+        boolean orderMarked = table instanceof TomlDocumentImpl && ((TomlDocumentImpl) table).isOrderMarked();
+        BinaryTableWriter bw = new BinaryTableWriter(this.options);
+        bw.writeTable(out, table, orderMarked);
+    }
+
+    @Override
+    public @NotNull TomlDocument readBinary(@NotNull ByteBuffer buffer) throws TomlException {
+        BinaryTableReader br = new BinaryTableReader(buffer, this.options);
+        TomlTable table = br.readTable();
+        TomlDocumentImpl doc = new TomlDocumentImpl(table);
+        doc.setOrderMarked(br.isOrderMarked());
+        return doc;
+    }
+
+    @Override
+    public @NotNull TomlDocument viewBinary(@NotNull ByteBuffer buffer) throws TomlException {
+        BinaryTableView view = BinaryTableView.open(buffer, this.options);
+        TomlDocumentImpl doc = new TomlDocumentImpl(view);
+        doc.setOrderMarked(view.isOrderMarked());
+        return doc;
+    }
+
     //
 
     @Override
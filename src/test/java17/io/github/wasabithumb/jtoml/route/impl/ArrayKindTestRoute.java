@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.array.CountedTomlArray;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ArrayKindTestRoute implements TestRoute {
+
+    @Override
+    public String displayName() {
+        return "Array Kind";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        TomlArray arr = TomlArray.create();
+        arr.add(TomlTable.create());
+        arr.add(TomlTable.create());
+        assertCounts(arr, 2, 0);
+
+        TomlTable table = TomlTable.create();
+        table.put("a.b", 1);
+        table.put("rows", arr);
+        assertEquals(2, instance.readFromString(instance.writeToString(table)).get("rows").asArray().size());
+        assertTrue(instance.writeToString(table).contains("[[rows]]"));
+
+        // Element kinds are tracked through every kind of modification
+        arr.add(5);
+        assertCounts(arr, 2, 1);
+        assertFalse(instance.writeToString(table).contains("[[rows]]"));
+        arr.set(2, TomlArray.create());
+        assertCounts(arr, 2, 0);
+        arr.set(0, TomlPrimitive.of("x"));
+        assertCounts(arr, 1, 1);
+        arr.remove(0);
+        assertCounts(arr, 1, 0);
+
+        Iterator<?> iter = arr.iterator();
+        iter.next();
+        iter.next();
+        iter.remove();
+        assertCounts(arr, 1, 0);
+        assertTrue(instance.writeToString(table).contains("[[rows]]"));
+
+        assertCounts(TomlArray.copyOf(arr), 1, 0);
+        assertCounts(TomlArray.immutableCopyOf(arr), 1, 0);
+        assertEquals(
+                instance.writeToString(table),
+                instance.writeToString(TomlValue.immutableCopyOf(table).asTable())
+        );
+    }
+
+    private static void assertCounts(TomlArray arr, int tables, int primitives) {
+        assertTrue(arr instanceof CountedTomlArray);
+        CountedTomlArray counted = (CountedTomlArray) arr;
+        assertEquals(tables, counted.tableCount());
+        assertEquals(primitives, counted.primitiveCount());
+    }
+
+}
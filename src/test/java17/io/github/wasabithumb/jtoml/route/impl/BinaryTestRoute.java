@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.document.TomlDocument;
+import io.github.wasabithumb.jtoml.except.parse.TomlBinaryException;
+import io.github.wasabithumb.jtoml.option.JTomlOption;
+import io.github.wasabithumb.jtoml.option.JTomlOptions;
+import io.github.wasabithumb.jtoml.option.prop.SortMethod;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class BinaryTestRoute implements TestRoute.Configuring {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Binary";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        // Types, float text and key order survive the round trip
+        this.table.put("floats.plain", 1.5d);
+        this.table.put("floats.exp", instance.readFromString("x = 1e3").get("x"));
+        this.table.comments().addPre("holidays");
+        this.table.get("months").comments().addInline("abbreviated");
+
+        byte[] data = write(instance, this.table);
+        TomlDocument copy = instance.readBinary(ByteBuffer.wrap(data));
+        assertEquals(instance.writeToString(this.table), instance.writeToString(copy));
+        assertEquals(this.table.fingerprint(), copy.fingerprint());
+        assertEquals("1e3", copy.get("floats.exp").asPrimitive().asString());
+        assertEquals("abbreviated", copy.get("months").comments().getInline());
+
+        // Reading starts at the buffer position, which is left untouched
+        ByteBuffer offset = ByteBuffer.allocateDirect(data.length + 3);
+        offset.position(3);
+        offset.put(data);
+        offset.position(3);
+        assertEquals(copy.fingerprint(), instance.readBinary(offset).fingerprint());
+        assertEquals(3, offset.position());
+
+        // Corrupt data is rejected
+        assertThrows(TomlBinaryException.class, () -> instance.readBinary(ByteBuffer.wrap(data, 0, data.length / 2)));
+        byte[] corrupt = data.clone();
+        corrupt[0] = 'X';
+        assertThrows(TomlBinaryException.class, () -> instance.readBinary(ByteBuffer.wrap(corrupt)));
+    }
+
+    @Override
+    public void configure(JTomlOptions.Builder options) {
+        options.set(JTomlOption.SORTING, SortMethod.TIME);
+    }
+
+    //
+
+    private static byte[] write(JToml instance, TomlTable table) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        instance.writeBinary(bos, table);
+        return bos.toByteArray();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.document.TomlDocument;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.table.TomlDiff;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class BinaryViewTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Binary View";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        instance.writeBinary(bos, this.table);
+        byte[] data = bos.toByteArray();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        TomlDocument view = instance.viewBinary(direct);
+
+        assertEquals(this.table.size(), view.size());
+        assertEquals(this.table.keys(), view.keys());
+        assertEquals(this.table.fingerprint(), view.fingerprint());
+        assertTrue(TomlDiff.between(this.table, view).isEmpty());
+        assertEquals(instance.writeToString(this.table), instance.writeToString(view));
+
+        // Lookups resolve through nested tables and arrays
+        TomlValue holiday = view.get("holidays.JAN").asArray().get(0);
+        assertEquals(
+                this.table.get("holidays.JAN").asArray().get(0).asTable().get("name"),
+                holiday.asTable().get("name")
+        );
+        assertNull(view.get("holidays.UND"));
+        assertNull(view.get("months.name"));
+
+        // Views are read-only
+        assertThrows(UnsupportedOperationException.class, () -> view.put("key", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> view.get("months").asArray().add("UND"));
+
+        // Snapshots can be mapped from disk
+        try {
+            Path tmp = Files.createTempFile("jtoml", ".bin");
+            try {
+                Files.write(tmp, data);
+                assertEquals(this.table.fingerprint(), instance.viewBinary(tmp).fingerprint());
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ConcurrentTestRoute implements TestRoute {
+
+    private static final int THREADS = 4;
+    private static final int OPERATIONS = 10000;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Concurrent";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        TomlTable table = TomlTable.concurrent();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int t=0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> mutate(table)));
+            }
+            for (Future<?> future : futures) future.get();
+        } catch (Exception e) {
+            fail(e);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Entry count must agree with a full traversal once writers are quiescent
+        assertEquals(table.keys().size(), table.size());
+        assertEquals(table.entries().size(), table.size());
+
+        TomlTable copy = TomlTable.copyOf(table);
+        assertEquals(table.keys(), copy.keys());
+        assertEquals(instance.writeToString(copy), instance.writeToString(table));
+    }
+
+    private static void mutate(TomlTable table) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i=0; i < OPERATIONS; i++) {
+            String parent = "a" + random.nextInt(4) + ".b" + random.nextInt(4);
+            String key = parent + ".c" + random.nextInt(8);
+            switch (random.nextInt(6)) {
+                case 0 -> table.remove(key);
+                case 1 -> table.remove(parent);
+                case 2 -> table.put(parent, i);
+                case 3 -> assertTrue(table.keys().size() >= 0);
+                default -> table.put(key, i);
+            }
+        }
+    }
+
+}
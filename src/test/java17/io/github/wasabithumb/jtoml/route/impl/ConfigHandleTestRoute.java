@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.document.TomlConfigHandle;
+import io.github.wasabithumb.jtoml.document.TomlWatcher;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ConfigHandleTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private String source;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Config Handle";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        try {
+            Path dir = Files.createTempDirectory("jtoml");
+            try {
+                this.execute(instance, dir);
+            } finally {
+                try (var files = Files.list(dir)) {
+                    for (Path p : files.toList()) Files.delete(p);
+                }
+                Files.delete(dir);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void execute(JToml instance, Path dir) throws IOException {
+        Path file = dir.resolve("holidays.toml");
+        Files.writeString(file, this.source);
+
+        try (TomlWatcher watcher = TomlWatcher.create(instance);
+             TomlConfigHandle handle = TomlConfigHandle.open(watcher, file)
+        ) {
+            assertSame(watcher.snapshot(file), handle.get());
+
+            List<String> calls = new ArrayList<>();
+            handle.onChange(TomlKey.literal(), (k, o, n) -> calls.add("root"));
+            handle.onChange("holidays", (k, o, n) -> calls.add("holidays"));
+            handle.onChange("months", (k, o, n) -> calls.add("months"));
+            handle.onChange("holidays.JAN", (k, o, n) -> calls.add("JAN"));
+            List<TomlValue[]> dec = new ArrayList<>();
+            TomlConfigHandle.Subscription sub = handle.onChange("holidays.DEC", (k, o, n) -> {
+                assertEquals(TomlKey.literal("holidays", "DEC"), k);
+                dec.add(new TomlValue[] { o, n });
+            });
+
+            // Only ancestors of the changed key are notified
+            Files.writeString(file, this.source.replace("Christmas", "Xmas"));
+            watcher.refresh();
+            assertEquals(List.of("root", "holidays"), calls);
+            assertEquals(1, dec.size());
+            assertEquals("Christmas Day", dec.get(0)[0].asArray().get(0).asTable().get("name").asPrimitive().asString());
+            assertEquals("Xmas Day", dec.get(0)[1].asArray().get(0).asTable().get("name").asPrimitive().asString());
+            assertSame(watcher.snapshot(file), handle.get());
+
+            // Cancelled subscriptions are not notified
+            calls.clear();
+            sub.cancel();
+            Files.writeString(file, this.source);
+            watcher.refresh();
+            assertEquals(List.of("root", "holidays"), calls);
+            assertEquals(1, dec.size());
+
+            // Descendants of a changed key are notified
+            calls.clear();
+            Files.writeString(file, "months = []\n");
+            watcher.refresh();
+            assertEquals(4, calls.size());
+            assertEquals(Set.of("root", "months", "holidays", "JAN"), new HashSet<>(calls));
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class CopyOnWriteTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Copy On Write";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        ImmutableTomlTable base = this.table.freeze();
+        TomlTable a = TomlTable.copyOf(base);
+        TomlTable b = TomlTable.copyOf(base);
+        assertEquals(base.size(), a.size());
+        assertEquals(instance.writeToString(base), instance.writeToString(a));
+
+        // Modifications stay within the copy that made them
+        a.put("holidays.JAN2", TomlPrimitive.of(true));
+        a.get("months").asArray().add(TomlPrimitive.of("UND"));
+        a.comments().addPre("tenant a");
+        assertEquals(base.size() + 1, a.size());
+        assertFalse(b.contains("holidays.JAN2"));
+        assertEquals(12, b.get("months").asArray().size());
+        assertEquals(12, base.get("months").asArray().size());
+        assertEquals(0, b.comments().count());
+
+        // Copies of copies remain independent
+        TomlTable c = TomlTable.copyOf(b);
+        c.remove("holidays");
+        assertTrue(b.contains("holidays.FEB"));
+        assertEquals(base.size(), b.size());
+        assertEquals(instance.writeToString(base), instance.writeToString(b));
+
+        // Reads share the snapshot, and writes only diverge along their path
+        TomlTable source = TomlTable.create();
+        source.put("server.host", "localhost");
+        source.put("server.port", 80);
+        source.put("db.pool.size", 4);
+        ImmutableTomlTable config = source.freeze();
+        TomlTable tenant = TomlTable.copyOf(config);
+        assertEquals(config.fingerprint(), tenant.fingerprint());
+
+        TomlTable server = tenant.get("server").asTable();
+        assertSame(server, tenant.get("server").asTable());
+        server.put("port", 8080);
+        assertEquals(8080L, tenant.get("server.port").asPrimitive().asLong());
+        assertEquals(80L, config.get("server.port").asPrimitive().asLong());
+        assertEquals(config.size(), tenant.size());
+        assertNotEquals(config.fingerprint(), tenant.fingerprint());
+
+        TomlTable fork = TomlTable.copyOf(tenant);
+        assertEquals(8080L, fork.get("server.port").asPrimitive().asLong());
+        server.put("port", 8081);
+        assertEquals(8080L, fork.get("server.port").asPrimitive().asLong());
+        assertEquals(tenant.size(), fork.size());
+        source.put("server.port", 8081);
+        assertEquals(instance.writeToString(source), instance.writeToString(tenant));
+
+        // Values handed out by a copy are mutable, including primitives
+        TomlTable annotated = TomlTable.copyOf(config);
+        TomlPrimitive host = annotated.get("server.host").asPrimitive();
+        assertSame(host, annotated.get("server.host"));
+        host.comments().addPre("primary");
+        annotated.get("db").asTable().get("pool.size").comments().addPre("pool");
+        annotated.put("server.port", 8082);
+        assertSame(host, annotated.get("server.host"));
+        host.comments().addInline("kept once the level is copied");
+        assertEquals(2, annotated.get("server.host").comments().count());
+        assertEquals(1, annotated.get("db.pool.size").comments().count());
+        assertEquals(0, config.get("server.host").comments().count());
+        assertEquals(0, config.get("db.pool.size").comments().count());
+
+        TomlValue.copyOf(config.get("db").asTable()).asTable().get("pool.size").comments().addPre("pool");
+        assertEquals(0, config.get("db.pool.size").comments().count());
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlDiff;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class DiffTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Diff";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        assertTrue(TomlDiff.between(this.table, this.table).isEmpty());
+        assertTrue(TomlDiff.between(this.table, TomlTable.copyOf(this.table)).isEmpty());
+
+        TomlTable updated = TomlTable.copyOf(this.table);
+        updated.get("months").asArray().remove(11);
+        updated.remove("holidays.FEB");
+        updated.put("holidays.AUG", TomlPrimitive.of("none"));
+
+        TomlDiff diff = TomlDiff.between(this.table, updated);
+        assertEquals(3, diff.entries().size());
+
+        TomlDiff.Entry added = diff.added().get(0);
+        assertEquals(TomlKey.literal("holidays", "AUG"), added.key());
+        assertNull(added.oldValue());
+        assertEquals("none", added.newValue().asPrimitive().asString());
+
+        TomlDiff.Entry removed = diff.removed().get(0);
+        assertEquals(TomlKey.literal("holidays", "FEB"), removed.key());
+        assertTrue(removed.oldValue().isArray());
+
+        TomlDiff.Entry changed = diff.changed().get(0);
+        assertEquals(TomlKey.literal("months"), changed.key());
+        assertEquals(12, changed.oldValue().asArray().size());
+        assertEquals(11, changed.newValue().asArray().size());
+
+        // Entries are ordered by key
+        assertEquals(added, diff.entries().get(0));
+        assertEquals(removed, diff.entries().get(1));
+        assertEquals(changed, diff.entries().get(2));
+    }
+
+}
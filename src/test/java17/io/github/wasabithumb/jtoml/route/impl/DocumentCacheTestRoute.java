@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.document.TomlDocumentCache;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class DocumentCacheTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private String source;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Document Cache";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        try {
+            Path dir = Files.createTempDirectory("jtoml");
+            try {
+                this.execute(instance, dir);
+            } finally {
+                try (var files = Files.list(dir)) {
+                    for (Path p : files.toList()) Files.delete(p);
+                }
+                Files.delete(dir);
+            }
+        } catch (IOException | InterruptedException | ExecutionException e) {
+            fail(e);
+        }
+    }
+
+    private void execute(JToml instance, Path dir) throws IOException, InterruptedException, ExecutionException {
+        Path file = dir.resolve("holidays.toml");
+        Files.writeString(file, this.source);
+        FileTime time = Files.getLastModifiedTime(file);
+
+        // Unchanged files are shared
+        TomlDocumentCache cache = TomlDocumentCache.create(instance);
+        ImmutableTomlTable first = cache.get(file);
+        assertSame(first, cache.get(file));
+        assertSame(first, cache.get(dir.resolve(".").resolve("holidays.toml")));
+        assertEquals(1, cache.size());
+        assertTrue(cache.weight() > 0);
+
+        // Copies are private
+        TomlTable copy = cache.getCopy(file);
+        copy.put("months", "none");
+        assertTrue(cache.get(file).get("months").isArray());
+
+        // Modified files are reread
+        Files.writeString(file, this.source.replace("Christmas", "Xmas"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(time.toMillis() + 2000L));
+        ImmutableTomlTable second = cache.get(file);
+        assertNotSame(first, second);
+        assertEquals("Xmas Day", second.get("holidays.DEC").asArray().get(0).asTable().get("name").asPrimitive().asString());
+
+        // Content verification ignores metadata-only changes
+        TomlDocumentCache verifying = TomlDocumentCache.builder(instance).verifyContent(true).build();
+        ImmutableTomlTable verified = verifying.get(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(time.toMillis() + 4000L));
+        assertSame(verified, verifying.get(file));
+
+        // Entries are evicted once the weight bound is exceeded
+        Path other = dir.resolve("other.toml");
+        Files.writeString(other, this.source);
+        TomlDocumentCache small = TomlDocumentCache.builder(instance)
+                .maxWeight(cache.weight() + (cache.weight() >> 1))
+                .build();
+        small.get(file);
+        small.get(other);
+        assertEquals(1, small.size());
+
+        // Concurrent requests observe a single parse
+        TomlDocumentCache shared = TomlDocumentCache.create(instance);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ImmutableTomlTable>> futures = new ArrayList<>();
+            for (int i=0; i < 8; i++) futures.add(pool.submit(() -> shared.get(file)));
+            ImmutableTomlTable expected = futures.get(0).get();
+            for (Future<ImmutableTomlTable> f : futures) assertSame(expected, f.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
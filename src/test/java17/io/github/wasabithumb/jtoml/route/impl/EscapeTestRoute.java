@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class EscapeTestRoute implements TestRoute {
+
+    /** Raw text, followed by its expected encoding as a key and as a string value */
+    private static final String[][] CASES = new String[][] {
+            { "plain", "plain", "\"plain\"" },
+            { "say \"hi\"", "\"say \\\"hi\\\"\"", "\"say \\\"hi\\\"\"" },
+            { "back\\slash", "\"back\\\\slash\"", "\"back\\\\slash\"" },
+            { "a\tb", "\"a\tb\"", "\"a\\tb\"" },
+            { "\b\f\n\r", "\"\\b\\f\\n\\r\"", "\"\\b\\f\\n\\r\"" },
+            { "nul\u0000bell\u0007esc\u001B", "\"nul\\u0000bell\\u0007esc\\u001b\"", "\"nul\\u0000bell\\u0007esc\\u001b\"" },
+            { "del\u007F", "\"del\\u007f\"", "\"del\\u007f\"" },
+            { "spec\uFFF0ial\uFFFD", "\"spec\uFFF0ial\uFFFD\"", "\"spec\\ufff0ial\\ufffd\"" },
+            { "grin \uD83D\uDE00", "\"grin \uD83D\uDE00\"", "\"grin \uD83D\uDE00\"" },
+            { "café 世界", "\"café 世界\"", "\"café 世界\"" },
+            { "", "\"\"", "\"\"" }
+    };
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Escape";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        TomlTable table = TomlTable.create();
+        for (String[] c : CASES) table.put(TomlKey.literal(c[0]), TomlPrimitive.of(c[0]));
+
+        // Every ASCII control character, in a single run
+        StringBuilder controls = new StringBuilder("controls ");
+        for (char c=0; c < ' '; c++) controls.append(c).append('.');
+        controls.append('\u007F');
+        table.put(TomlKey.literal(controls.toString()), TomlPrimitive.of(controls.toString()));
+
+        String text = instance.writeToString(table);
+        for (String[] c : CASES) {
+            String line = c[1] + " = " + c[2] + "\n";
+            assertTrue(text.contains(line), line);
+        }
+        this.checkRoundTrip(table, instance.readFromString(text));
+
+        // Runs are encoded straight into the byte buffer when writing to a stream
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        instance.write(bytes, table);
+        assertEquals(text, bytes.toString(StandardCharsets.UTF_8));
+        this.checkRoundTrip(table, instance.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private void checkRoundTrip(TomlTable expected, TomlTable actual) {
+        assertEquals(expected.size(), actual.size());
+        for (TomlKey key : expected.keys()) {
+            TomlKey parsed = TomlKey.parse(key.toString());
+            assertEquals(key, parsed);
+            assertTrue(actual.contains(key), key.toString());
+            assertEquals(
+                    expected.get(key).asPrimitive().asString(),
+                    actual.get(key).asPrimitive().asString()
+            );
+        }
+    }
+
+}
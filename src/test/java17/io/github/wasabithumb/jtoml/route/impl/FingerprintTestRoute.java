@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class FingerprintTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    @Sentinel("holidays.toml")
+    private String source;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Fingerprint";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        final long fingerprint = this.table.fingerprint();
+        assertEquals(fingerprint, instance.readFromString(this.source).fingerprint());
+        assertEquals(fingerprint, this.table.freeze().fingerprint());
+        assertEquals(fingerprint, TomlTable.copyOf(this.table).fingerprint());
+
+        // Modifications deep within the table are reflected at the root
+        TomlTable holiday = this.table.get("holidays.JAN").asArray().get(0).asTable();
+        holiday.put("name", TomlPrimitive.of("New Year"));
+        assertNotEquals(fingerprint, this.table.fingerprint());
+        holiday.put("name", TomlPrimitive.of("New Year's Day"));
+        assertEquals(fingerprint, this.table.fingerprint());
+
+        TomlArray months = this.table.get("months").asArray();
+        months.add("UND");
+        assertNotEquals(fingerprint, this.table.fingerprint());
+        months.remove(12);
+        assertEquals(fingerprint, this.table.fingerprint());
+
+        // Comments are not part of the content
+        this.table.comments().addPre("comment");
+        assertEquals(fingerprint, this.table.fingerprint());
+    }
+
+}
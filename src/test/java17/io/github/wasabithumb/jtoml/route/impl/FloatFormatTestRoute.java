@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class FloatFormatTestRoute implements TestRoute {
+
+    @Override
+    public String displayName() {
+        return "Float Format";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        assertEquals("inf", TomlPrimitive.of(Double.POSITIVE_INFINITY).asString());
+        assertEquals("-inf", TomlPrimitive.of(Double.NEGATIVE_INFINITY).asString());
+        assertEquals("nan", TomlPrimitive.of(Double.NaN).asString());
+        assertEquals("0.0", TomlPrimitive.of(0d).asString());
+        assertEquals("-0.0", TomlPrimitive.of(-0d).asString());
+        assertEquals("1.0", TomlPrimitive.of(1d).asString());
+        assertEquals("0.1", TomlPrimitive.of(0.1d).asString());
+        assertEquals("0.30000000000000004", TomlPrimitive.of(0.1d + 0.2d).asString());
+        assertEquals("-12.5", TomlPrimitive.of(-12.5d).asString());
+        assertEquals("0.0000001", TomlPrimitive.of(1e-7d).asString());
+        assertEquals("1.5e-8", TomlPrimitive.of(1.5e-8d).asString());
+        assertEquals("100000000000000000000.0", TomlPrimitive.of(1e20d).asString());
+        assertEquals("1e21", TomlPrimitive.of(1e21d).asString());
+        assertEquals("1.7976931348623157e308", TomlPrimitive.of(Double.MAX_VALUE).asString());
+        assertEquals("4.9e-324", TomlPrimitive.of(Double.MIN_VALUE).asString());
+
+        // Arrays of arbitrary doubles survive a write and read exactly
+        Random random = new Random(47L);
+        double[] values = new double[4096];
+        TomlArray arr = TomlArray.create();
+        for (int i=0; i < values.length; i++) {
+            double d;
+            do {
+                d = (i & 1) == 0 ?
+                        Double.longBitsToDouble(random.nextLong()) :
+                        random.nextDouble() * Math.pow(10d, random.nextInt(40) - 20);
+            } while (Double.isNaN(d));
+            values[i] = d;
+            arr.add(d);
+        }
+        TomlTable table = TomlTable.create();
+        table.put("values", arr);
+
+        TomlArray read = instance.readFromString(instance.writeToString(table)).get("values").asArray();
+        assertEquals(values.length, read.size());
+        for (int i=0; i < values.length; i++) {
+            assertEquals(
+                    Double.doubleToLongBits(values[i]),
+                    Double.doubleToLongBits(read.get(i).asPrimitive().asDouble())
+            );
+        }
+    }
+
+}
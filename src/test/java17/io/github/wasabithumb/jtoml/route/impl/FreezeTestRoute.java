@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class FreezeTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Freeze";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        ImmutableTomlTable frozen = this.table.freeze();
+        assertSame(frozen, frozen.freeze());
+        assertEquals(this.table.size(), frozen.size());
+        assertEquals(this.table.keys(), frozen.keys());
+        assertEquals(instance.writeToString(this.table), instance.writeToString(frozen));
+
+        // Snapshots are isolated from the source
+        this.table.put("months", TomlPrimitive.of("none"));
+        assertTrue(frozen.get("months").isArray());
+
+        // Snapshots reject modification
+        assertThrows(UnsupportedOperationException.class, () -> frozen.put("months", "none"));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.get("months").asArray().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.comments().addPre("comment"));
+
+        // New versions share untouched subtrees
+        ImmutableTomlTable next = frozen.with("holidays.JAN2", TomlPrimitive.of(true));
+        assertEquals(frozen.size() + 1, next.size());
+        assertFalse(frozen.contains("holidays.JAN2"));
+        assertTrue(next.get("holidays.JAN2").asPrimitive().asBoolean());
+        assertSame(frozen.get("months"), next.get("months"));
+        assertSame(frozen.get(TomlKey.literal("holidays", "JAN")), next.get(TomlKey.literal("holidays", "JAN")));
+
+        ImmutableTomlTable prev = next.without("holidays.JAN2");
+        assertEquals(frozen.keys(), prev.keys());
+        assertSame(prev, prev.without("holidays.JAN2"));
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.document.TomlStreamWriter;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class HeaderTestRoute implements TestRoute {
+
+    @Override
+    public String displayName() {
+        return "Header";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        // Each element of a nested array of tables repeats the full header
+        TomlTable table = TomlTable.create();
+        TomlArray fruits = TomlArray.create();
+        for (int i=0; i < 2; i++) {
+            TomlTable fruit = TomlTable.create();
+            fruit.put("name", "f" + i);
+            TomlArray varieties = TomlArray.create();
+            for (int j=0; j < 2; j++) {
+                TomlTable variety = TomlTable.create();
+                variety.put("name", "v" + i + j);
+                variety.put("meta.size", j);
+                TomlArray tags = TomlArray.create();
+                TomlTable tag = TomlTable.create();
+                tag.put("id", j);
+                tags.add(tag);
+                variety.put("tags", tags);
+                varieties.add(variety);
+            }
+            fruit.put("varieties", varieties);
+            fruits.add(fruit);
+        }
+        table.put("fruits", fruits);
+
+        // Keys which share a prefix but split their parts differently
+        table.put(TomlKey.literal("a", "b.c", "k"), TomlPrimitive.of(1));
+        table.put(TomlKey.literal("a", "b", "c", "k"), TomlPrimitive.of(2));
+
+        String text = instance.writeToString(table);
+        List<String> expected = new ArrayList<>();
+        for (int i=0; i < 2; i++) {
+            expected.add("[[fruits]]");
+            for (int j=0; j < 2; j++) {
+                expected.add("[[fruits.varieties]]");
+                expected.add("[[fruits.varieties.tags]]");
+                expected.add("[fruits.varieties.meta]");
+            }
+        }
+        expected.add("[a.b.c]");
+        expected.add("[a.\"b.c\"]");
+        assertEquals(expected, headers(text));
+
+        TomlTable read = instance.readFromString(text);
+        for (int i=0; i < 2; i++) {
+            TomlArray varieties = read.get("fruits").asArray().get(i).asTable().get("varieties").asArray();
+            assertEquals(2, varieties.size());
+            for (int j=0; j < 2; j++) {
+                TomlTable variety = varieties.get(j).asTable();
+                assertEquals("v" + i + j, variety.get("name").asPrimitive().asString());
+                assertEquals(j, variety.get("meta.size").asPrimitive().asInteger());
+                assertEquals(j, variety.get("tags").asArray().get(0).asTable().get("id").asPrimitive().asInteger());
+            }
+        }
+        assertEquals(1, read.get(TomlKey.literal("a", "b.c", "k")).asPrimitive().asInteger());
+        assertEquals(2, read.get(TomlKey.literal("a", "b", "c", "k")).asPrimitive().asInteger());
+
+        // Repeated stream headers are only reused while the key is unchanged
+        StringWriter sw = new StringWriter();
+        try (TomlStreamWriter writer = instance.streamWriter(sw)) {
+            writer.beginArrayTable(TomlKey.literal("r", "s")).keyValue("n", 1L);
+            writer.beginArrayTable(TomlKey.join(TomlKey.literal("r"), TomlKey.literal("s"))).keyValue("n", 2L);
+            writer.beginArrayTable(TomlKey.literal("r.s")).keyValue("n", 3L);
+            writer.beginArrayTable(TomlKey.parse("r.s")).keyValue("n", 4L);
+        }
+        assertEquals(List.of("[[r.s]]", "[[r.s]]", "[[\"r.s\"]]", "[[r.s]]"), headers(sw.toString()));
+
+        read = instance.readFromString(sw.toString());
+        assertEquals(3, read.get("r.s").asArray().size());
+        assertEquals(3, read.get(TomlKey.literal("r.s")).asArray().get(0).asTable().get("n").asPrimitive().asInteger());
+    }
+
+    private static List<String> headers(String text) {
+        List<String> ret = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            line = line.trim();
+            if (line.startsWith("[")) ret.add(line);
+        }
+        return ret;
+    }
+
+}
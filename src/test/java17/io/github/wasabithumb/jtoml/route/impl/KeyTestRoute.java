@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class KeyTestRoute implements TestRoute {
+
+    private static final String[][] PARTS = new String[][] {
+            { "a" },
+            { "a", "b" },
+            { "a", "b", "c" },
+            { "b", "a" },
+            { "lorem ipsum", "dolor", "\"sit amet\"" },
+            { "1.5", "", "x" },
+            { "café", "tab\there", "back\\slash" },
+            { "a", "b", "c", "d", "e", "f", "g" }
+    };
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Key";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        List<List<TomlKey>> forms = new ArrayList<>(PARTS.length);
+        for (String[] parts : PARTS) forms.add(forms(parts));
+
+        for (int i=0; i < PARTS.length; i++) {
+            List<TomlKey> a = forms.get(i);
+            TomlKey canonical = a.get(0).intern();
+            assertEquals(a.get(0), canonical);
+
+            for (TomlKey k : a) {
+                assertSame(canonical, k.intern());
+                assertEquals(PARTS[i].length, k.size());
+                for (int z=0; z < PARTS[i].length; z++) assertEquals(PARTS[i][z], k.get(z));
+            }
+
+            for (int j=0; j < PARTS.length; j++) {
+                List<TomlKey> b = forms.get(j);
+                int expected = Integer.signum(a.get(0).compareTo(b.get(0)));
+                for (TomlKey x : a) {
+                    for (TomlKey y : b) {
+                        String desc = form(x) + " " + x + " vs " + form(y) + " " + y;
+                        assertEquals(i == j, x.equals(y), desc);
+                        assertEquals(expected, Integer.signum(x.compareTo(y)), desc);
+                        assertEquals(-expected, Integer.signum(y.compareTo(x)), desc);
+                        if (i == j) {
+                            assertEquals(x.hashCode(), y.hashCode(), desc);
+                            assertEquals(x.toString(), y.toString(), desc);
+                        } else {
+                            assertNotSame(x.intern(), y.intern(), desc);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Builds the same key through each of the available representations */
+    private static List<TomlKey> forms(String[] parts) {
+        List<TomlKey> ret = new ArrayList<>();
+        TomlKey array = TomlKey.literal(parts);
+        ret.add(array);
+        ret.add(TomlKey.parse(array.toString()));
+        ret.add(array.intern());
+
+        // Joined at each possible boundary
+        for (int split=1; split < parts.length; split++) {
+            String[] head = new String[split];
+            String[] tail = new String[parts.length - split];
+            System.arraycopy(parts, 0, head, 0, split);
+            System.arraycopy(parts, split, tail, 0, tail.length);
+            ret.add(TomlKey.join(TomlKey.literal(head), TomlKey.literal(tail)));
+        }
+
+        // Sliced out of a longer key, and out of a joined key
+        String[] padded = new String[parts.length + 2];
+        padded[0] = "pre";
+        System.arraycopy(parts, 0, padded, 1, parts.length);
+        padded[padded.length - 1] = "post";
+        ret.add(TomlKey.literal(padded).slice(1, parts.length + 1));
+        ret.add(TomlKey.join(TomlKey.literal("pre"), array, TomlKey.literal("post")).slice(1, parts.length + 1));
+        return ret;
+    }
+
+    private static String form(TomlKey key) {
+        return key.getClass().getSimpleName();
+    }
+
+}
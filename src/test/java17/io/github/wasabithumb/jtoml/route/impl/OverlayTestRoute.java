@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class OverlayTestRoute implements TestRoute {
+
+    @Override
+    public String displayName() {
+        return "Overlay";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        TomlTable defaults = instance.readFromString("""
+                name = "app"
+                [db]
+                host = "localhost"
+                port = 5432
+                [log]
+                level = "info"
+                """);
+        TomlTable env = instance.readFromString("""
+                [db]
+                host = "db.internal"
+                """);
+        TomlTable runtime = TomlTable.create();
+        TomlTable overlay = TomlTable.overlay(defaults, env, runtime);
+
+        // Sub-tables are merged
+        assertEquals("db.internal", overlay.get("db.host").asPrimitive().asString());
+        assertEquals(5432L, overlay.get("db.port").asPrimitive().asLong());
+        assertEquals(4, overlay.size());
+        assertEquals(defaults.keys(), overlay.keys());
+
+        // Layers are live
+        TomlTable log = overlay.get("log").asTable();
+        runtime.put("log.level", TomlPrimitive.of("debug"));
+        assertEquals("debug", log.get("level").asPrimitive().asString());
+        assertEquals(4, overlay.size());
+
+        // Other values shadow the tables beneath them
+        runtime.put("db", TomlPrimitive.of(false));
+        assertTrue(overlay.get("db").isPrimitive());
+        assertNull(overlay.get("db.host"));
+        assertEquals(3, overlay.size());
+        runtime.remove("db");
+        assertEquals("db.internal", overlay.get("db.host").asPrimitive().asString());
+
+        // The view is read-only
+        assertThrows(UnsupportedOperationException.class, () -> overlay.put("name", "other"));
+        assertThrows(UnsupportedOperationException.class, () -> log.remove("level"));
+        assertEquals("info", defaults.get("log.level").asPrimitive().asString());
+
+        // Concurrent readers share the memo, even when a layer forces it to be rebuilt on every read
+        TomlTable tenant = TomlTable.concurrent();
+        tenant.put("db.pool", TomlPrimitive.of(8));
+        TomlTable shared = TomlTable.overlay(defaults, env, tenant);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t=0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i=0; i < 2000; i++) {
+                        assertEquals("db.internal", shared.get("db.host").asPrimitive().asString());
+                        assertEquals(8L, shared.get("db.pool").asPrimitive().asLong());
+                        assertEquals(5, shared.size());
+                        assertEquals(3, shared.get("db").asTable().keys().size());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            fail(e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.option.JTomlOption;
+import io.github.wasabithumb.jtoml.option.JTomlOptions;
+import io.github.wasabithumb.jtoml.option.prop.SortMethod;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ParallelWriteTestRoute implements TestRoute.Configuring {
+
+    @Override
+    public String displayName() {
+        return "Parallel Write";
+    }
+
+    @Override
+    public void configure(JTomlOptions.Builder options) {
+        options.set(JTomlOption.PARALLEL_WRITE, true);
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        Random random = new Random(49L);
+        TomlTable table = createTable(random, 3);
+        for (int i=0; i < 4; i++) {
+            TomlArray rows = TomlArray.create();
+            for (int z=0; z < 5000; z++) rows.add(createTable(random, 0));
+            table.put("section" + i + ".rows", rows);
+        }
+
+        String expected = JToml.jToml().writeToString(table);
+        assertEquals(expected, instance.writeToString(table));
+
+        for (SortMethod sorting : SortMethod.values()) {
+            JTomlOptions.Builder options = JTomlOptions.builder()
+                    .set(JTomlOption.SORTING, sorting)
+                    .set(JTomlOption.WRITE_EMPTY_TABLES, true);
+            expected = JToml.jToml(options.build()).writeToString(table);
+            options.set(JTomlOption.PARALLEL_WRITE, true);
+            assertEquals(expected, JToml.jToml(options.build()).writeToString(table));
+        }
+    }
+
+    //
+
+    private static TomlTable createTable(Random random, int depth) {
+        TomlTable ret = TomlTable.create();
+        ret.put("id", random.nextLong());
+        ret.put("name", "name " + random.nextInt());
+        ret.put("ratio", random.nextDouble());
+        if (random.nextBoolean()) ret.comments().addPre("depth " + depth);
+        if (depth == 0) return ret;
+
+        for (int i=0; i < 4; i++) ret.put("child" + i, createTable(random, depth - 1));
+        TomlArray arr = TomlArray.create();
+        for (int i=0; i < 20; i++) arr.add(createTable(random, depth - 1));
+        ret.put("items", arr);
+        ret.put("empty", TomlTable.create());
+        return ret;
+    }
+
+}
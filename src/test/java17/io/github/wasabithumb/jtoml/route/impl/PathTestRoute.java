@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.key.TomlPath;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class PathTestRoute implements TestRoute {
+
+    private static final TomlPath MEANING_OF_LIFE = TomlPath.compile("meaning-of-life");
+    private static final TomlPath PI = TomlPath.compile("pi");
+    private static final TomlPath LOREM_IPSUM = TomlPath.compile("lorem-ipsum");
+    private static final TomlPath NESTED = TomlPath.compile("a.\"b.c\".d");
+
+    @Sentinel("simple.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Path";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        assertEquals(42L, this.table.getLong(MEANING_OF_LIFE, 0L));
+        assertEquals(Math.PI, this.table.getDouble(PI, 0d));
+        assertEquals(42d, this.table.getDouble(MEANING_OF_LIFE, 0d));
+        assertEquals(-1L, this.table.getLong(PI, -1L));
+        assertEquals(-1L, this.table.getLong(LOREM_IPSUM, -1L));
+        assertTrue(this.table.getString(LOREM_IPSUM, "").startsWith("Lorem ipsum"));
+
+        // Cached resolution must observe later modifications
+        assertFalse(this.table.contains(NESTED));
+        assertEquals(-1L, this.table.getLong(NESTED, -1L));
+        this.table.put(NESTED.toKey(), 7L);
+        assertTrue(this.table.contains(NESTED));
+        assertEquals(7L, this.table.getLong(NESTED, -1L));
+
+        TomlTable sub = this.table.get("a").asTable();
+        sub.put(TomlKey.literal("b.c", "d"), 8L);
+        assertEquals(8L, this.table.getLong(NESTED, -1L));
+        sub.clear();
+        assertFalse(this.table.contains(NESTED));
+
+        assertEquals(NESTED, TomlPath.of(TomlKey.literal("a", "b.c", "d")));
+        assertEquals("a.\"b.c\".d", NESTED.toString());
+        assertThrows(IllegalArgumentException.class, () -> TomlPath.compile("a..b"));
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.comment.Comments;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitiveType;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.Serializable;
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class PrimitiveWriteTestRoute implements TestRoute {
+
+    @Override
+    public String displayName() {
+        return "Primitive Write";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        LocalDate date = LocalDate.of(987, 6, 5);
+        TomlPrimitive[] values = new TomlPrimitive[] {
+                TomlPrimitive.of(0L),
+                TomlPrimitive.of(-7L),
+                TomlPrimitive.of(1234567890123L),
+                TomlPrimitive.of(Long.MAX_VALUE),
+                TomlPrimitive.of(Long.MIN_VALUE),
+                TomlPrimitive.of(date),
+                TomlPrimitive.of(LocalTime.of(1, 2, 3)),
+                TomlPrimitive.of(LocalTime.of(1, 2, 3, 5)),
+                TomlPrimitive.of(LocalTime.of(23, 59, 59, 120000000)),
+                TomlPrimitive.of(LocalDateTime.of(date, LocalTime.of(4, 5, 6, 123456789))),
+                TomlPrimitive.of(OffsetDateTime.of(date, LocalTime.NOON, ZoneOffset.UTC)),
+                TomlPrimitive.of(OffsetDateTime.of(date, LocalTime.NOON, ZoneOffset.ofHoursMinutes(-9, -30))),
+                TomlPrimitive.of(OffsetDateTime.of(date, LocalTime.MIDNIGHT, ZoneOffset.ofHours(14)))
+        };
+
+        TomlTable table = TomlTable.create();
+        TomlArray arr = TomlArray.create();
+        for (int i=0; i < values.length; i++) {
+            table.put("v" + i, values[i]);
+            arr.add(values[i]);
+        }
+        table.put("all", arr);
+
+        String text = instance.writeToString(table);
+        for (int i=0; i < values.length; i++) {
+            assertTrue(text.contains("v" + i + " = " + values[i].asString() + "\n"), values[i].asString());
+        }
+
+        TomlTable read = instance.readFromString(text);
+        TomlArray readArr = read.get("all").asArray();
+        for (int i=0; i < values.length; i++) {
+            assertEquals(values[i].asString(), read.get("v" + i).asPrimitive().asString());
+            assertEquals(values[i].asString(), readArr.get(i).asPrimitive().asString());
+        }
+
+        // Years which the built-in primitives reject are written as the primitive reports them
+        TomlTable far = TomlTable.create();
+        far.put("future", new ForeignDate(LocalDate.of(12345, 6, 7)));
+        far.put("past", new ForeignDate(LocalDate.of(-1, 2, 3)));
+        text = instance.writeToString(far);
+        assertTrue(text.contains("future = +12345-06-07\n"), text);
+        assertTrue(text.contains("past = -0001-02-03\n"), text);
+    }
+
+    //
+
+    /** A primitive which does not go through the checks applied by the built-in date primitives */
+    private static final class ForeignDate implements TomlPrimitive {
+
+        private final LocalDate date;
+        private final Comments comments = Comments.empty();
+
+        ForeignDate(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public TomlPrimitiveType type() {
+            return TomlPrimitiveType.LOCAL_DATE;
+        }
+
+        @Override
+        public Serializable value() {
+            return this.date;
+        }
+
+        @Override
+        public String asString() {
+            return this.date.toString();
+        }
+
+        @Override
+        public boolean asBoolean() {
+            return true;
+        }
+
+        @Override
+        public long asLong() {
+            return this.date.toEpochDay();
+        }
+
+        @Override
+        public double asDouble() {
+            return this.date.toEpochDay();
+        }
+
+        @Override
+        public LocalDate asLocalDate() {
+            return this.date;
+        }
+
+        @Override
+        public long creationTime() {
+            return 0L;
+        }
+
+        @Override
+        public int flags() {
+            return 0;
+        }
+
+        @Override
+        public TomlPrimitive flags(int flags) {
+            return this;
+        }
+
+        @Override
+        public Comments comments() {
+            return this.comments;
+        }
+
+    }
+
+}
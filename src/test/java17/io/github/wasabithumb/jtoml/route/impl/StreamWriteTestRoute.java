@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class StreamWriteTestRoute implements TestRoute {
+
+    @Override
+    public String displayName() {
+        return "Stream Write";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        // Mixed-width text, long enough to cross several buffer boundaries
+        StringBuilder sb = new StringBuilder();
+        for (int i=0; i < 2000; i++) {
+            sb.append("ascii ").append(i).append(" éè 中文 😀 ");
+        }
+        String text = sb.toString();
+
+        TomlTable table = TomlTable.create();
+        TomlArray arr = TomlArray.create();
+        for (int i=0; i < 64; i++) arr.add(text.substring(i, i + 1000));
+        table.put("text", text);
+        table.put("nested.\"über\"", arr);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        instance.write(bos, table);
+        byte[] expected = instance.writeToString(table).getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, bos.toByteArray());
+
+        TomlTable read = instance.readFromString(new String(bos.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(text, read.get("text").asPrimitive().asString());
+
+        // Channels
+        bos.reset();
+        instance.write(Channels.newChannel(bos), table);
+        assertArrayEquals(expected, bos.toByteArray());
+
+        // Direct buffers
+        ByteBuffer buf = ByteBuffer.allocateDirect(expected.length + 16);
+        buf.position(3);
+        assertEquals(expected.length, instance.write(buf, table));
+        assertEquals(3 + expected.length, buf.position());
+        byte[] written = new byte[expected.length];
+        buf.flip().position(3);
+        buf.get(written);
+        assertArrayEquals(expected, written);
+
+        // Overflow leaves the position unchanged
+        ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+        small.position(1);
+        assertThrows(BufferOverflowException.class, () -> instance.write(small, table));
+        assertEquals(1, small.position());
+
+        // Appendables
+        StringBuilder dest = new StringBuilder("# prefix\n");
+        instance.writeTo(dest, table);
+        assertEquals("# prefix\n" + instance.writeToString(table), dest.toString());
+    }
+
+}
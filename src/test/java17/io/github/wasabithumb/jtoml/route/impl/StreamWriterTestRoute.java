@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.document.TomlStreamWriter;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.array.TomlArray;
+import io.github.wasabithumb.jtoml.value.primitive.TomlPrimitive;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class StreamWriterTestRoute implements TestRoute {
+
+    @Override
+    public String displayName() {
+        return "Stream Writer";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        // Output matches that of an equivalent table
+        TomlTable table = TomlTable.create();
+        table.put("title", "Export");
+        table.put("server.port", 8080);
+        TomlArray records = TomlArray.create();
+        for (int i=0; i < 3; i++) {
+            TomlTable record = TomlTable.create();
+            record.put("id", i);
+            record.put("name", "Record \"" + i + "\"");
+            TomlArray tags = TomlArray.create();
+            for (int z=0; z <= i; z++) tags.add("tag" + z);
+            record.put("tags", tags);
+            records.add(record);
+        }
+        table.put("records", records);
+
+        StringWriter sw = new StringWriter();
+        try (TomlStreamWriter writer = instance.streamWriter(sw)) {
+            writer.keyValue("title", "Export");
+            for (int i=0; i < 3; i++) {
+                writer.beginArrayTable("records")
+                        .keyValue("id", (long) i)
+                        .keyValue("name", "Record \"" + i + "\"")
+                        .beginArray("tags");
+                for (int z=0; z <= i; z++) writer.value(TomlPrimitive.of("tag" + z));
+                writer.endArray();
+            }
+            writer.beginTable("server").keyValue("port", 8080L);
+        }
+        assertEquals(instance.writeToString(table), sw.toString());
+
+        // Nested arrays and comments
+        sw = new StringWriter();
+        try (TomlStreamWriter writer = instance.streamWriter(sw)) {
+            writer.comment("Matrix")
+                    .beginArray("matrix")
+                    .beginArray().value(TomlPrimitive.of(1)).value(TomlPrimitive.of(2)).endArray()
+                    .beginArray().endArray()
+                    .endArray();
+        }
+        TomlTable read = instance.readFromString(sw.toString());
+        assertEquals(2, read.get("matrix").asArray().get(0).asArray().size());
+        assertEquals(0, read.get("matrix").asArray().get(1).asArray().size());
+
+        // Invalid documents are rejected
+        TomlStreamWriter writer = instance.streamWriter(new StringWriter());
+        writer.keyValue("a.b", 1L);
+        assertThrows(IllegalArgumentException.class, () -> writer.keyValue("a.b", 2L));
+        assertThrows(IllegalArgumentException.class, () -> writer.keyValue("a", 2L));
+        assertThrows(IllegalArgumentException.class, () -> writer.keyValue("a.b.c", 2L));
+        writer.keyValue("table", TomlTable.create());
+        assertThrows(IllegalArgumentException.class, () -> writer.beginTable("table.child"));
+
+        writer.beginTable("x");
+        assertThrows(IllegalArgumentException.class, () -> writer.beginTable("x"));
+        assertThrows(IllegalArgumentException.class, () -> writer.beginArrayTable("x"));
+
+        writer.beginArrayTable("rows").beginTable("rows.meta").keyValue("n", 1L);
+        writer.beginArrayTable("rows").beginTable("rows.meta").keyValue("n", 2L);
+        assertThrows(IllegalArgumentException.class, () -> writer.beginTable("rows"));
+
+        writer.beginArray("open");
+        assertThrows(IllegalStateException.class, () -> writer.keyValue("k", 1L));
+        assertThrows(IllegalStateException.class, writer::close);
+        writer.endArray();
+        assertThrows(IllegalStateException.class, writer::endArray);
+        writer.close();
+
+        // Tables created by dotted keys may not be redeclared or extended
+        TomlStreamWriter dotted = instance.streamWriter(new StringWriter());
+        dotted.beginTable("a").keyValue("b.c", 1L);
+        assertThrows(IllegalArgumentException.class, () -> dotted.beginTable("a.b"));
+        assertThrows(IllegalArgumentException.class, () -> dotted.beginArrayTable("a.b"));
+
+        TomlStreamWriter root = instance.streamWriter(new StringWriter());
+        root.keyValue("a.b", 1L);
+        assertThrows(IllegalArgumentException.class, () -> root.beginTable("a"));
+
+        TomlStreamWriter extend = instance.streamWriter(new StringWriter());
+        extend.beginTable("a.b").beginTable("a");
+        assertThrows(IllegalArgumentException.class, () -> extend.keyValue("b.y", 1L));
+        assertThrows(IllegalArgumentException.class, () -> extend.beginArray("b.y"));
+
+        // Values and dotted tables of previous tables are remembered
+        TomlStreamWriter value = instance.streamWriter(new StringWriter());
+        value.keyValue("a", 1L).beginTable("x");
+        assertThrows(IllegalArgumentException.class, () -> value.beginTable("a.b"));
+        assertThrows(IllegalArgumentException.class, () -> value.beginArrayTable("a.b"));
+
+        TomlStreamWriter named = instance.streamWriter(new StringWriter());
+        named.beginTable("a").keyValue("x", 1L).beginTable("b");
+        assertThrows(IllegalArgumentException.class, () -> named.beginTable("a.x"));
+
+        TomlStreamWriter closed = instance.streamWriter(new StringWriter());
+        closed.beginTable("a").keyValue("b.c", 1L).beginTable("z");
+        assertThrows(IllegalArgumentException.class, () -> closed.beginTable("a.b"));
+        assertThrows(IllegalArgumentException.class, () -> closed.beginArrayTable("a.b"));
+        closed.beginTable("a.b.d");
+
+        TomlStreamWriter inline = instance.streamWriter(new StringWriter());
+        TomlTable inlineTable = TomlTable.create();
+        inlineTable.put("b", 1);
+        inline.keyValue("a", inlineTable).beginTable("z");
+        assertThrows(IllegalArgumentException.class, () -> inline.beginTable("a.c"));
+
+        // Keys beneath an array of tables element are forgotten once the next element begins
+        sw = new StringWriter();
+        try (TomlStreamWriter rows = instance.streamWriter(sw)) {
+            for (long i=0; i < 2; i++) {
+                rows.beginArrayTable("rows").keyValue("meta.n", i)
+                        .beginTable("rows.extra").keyValue("k", i);
+                assertThrows(IllegalArgumentException.class, () -> rows.beginTable("rows.meta"));
+                assertThrows(IllegalArgumentException.class, () -> rows.beginTable("rows.extra.k"));
+            }
+        }
+        read = instance.readFromString(sw.toString());
+        assertEquals(2, read.get("rows").asArray().size());
+        assertEquals(1L, read.get("rows").asArray().get(1).asTable().get("extra.k").asPrimitive().asLong());
+
+        // Sub-tables of dotted tables may still be declared
+        sw = new StringWriter();
+        try (TomlStreamWriter fruit = instance.streamWriter(sw)) {
+            fruit.beginTable("fruit")
+                    .keyValue("apple.color", "red")
+                    .keyValue("apple.taste.sweet", true)
+                    .beginTable("fruit.apple.texture")
+                    .keyValue("smooth", true);
+        }
+        read = instance.readFromString(sw.toString());
+        assertEquals("red", read.get("fruit.apple.color").asPrimitive().asString());
+        assertTrue(read.get("fruit.apple.texture.smooth").asPrimitive().asBoolean());
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class TraversalTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Traversal";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        List<TomlKey> expected = new ArrayList<>(this.table.keys());
+        expected.sort(null);
+
+        // Entries
+        List<TomlKey> fromEntries = new ArrayList<>();
+        for (Map.Entry<TomlKey, TomlValue> entry : this.table.entries()) {
+            assertSame(this.table.get(entry.getKey()), entry.getValue());
+            fromEntries.add(entry.getKey());
+        }
+        assertEquals(expected, fromEntries);
+        assertEquals(this.table.keys(false).size(), this.table.entries(false).size());
+        for (Map.Entry<TomlKey, TomlValue> entry : this.table.entries(false)) {
+            assertEquals(1, entry.getKey().size());
+            assertSame(this.table.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.TomlValue;
+import io.github.wasabithumb.jtoml.value.table.TomlCursor;
+import io.github.wasabithumb.jtoml.value.table.TomlTable;
+import io.github.wasabithumb.jtoml.value.table.TomlVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class WalkTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private TomlTable table;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Walk";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        List<TomlKey> expected = new ArrayList<>(this.table.keys());
+        expected.sort(null);
+
+        // Cursor
+        List<TomlKey> fromCursor = new ArrayList<>();
+        TomlCursor cursor = this.table.cursor();
+        while (cursor.next()) {
+            TomlKey key = cursor.key();
+            assertEquals(key.size() - 1, cursor.depth());
+            assertSame(this.table.get(key), cursor.value());
+            fromCursor.add(key);
+        }
+        assertEquals(expected, fromCursor);
+
+        // Visitor
+        List<TomlKey> fromVisitor = new ArrayList<>();
+        this.table.walk((List<String> parent, String label, TomlValue value) -> {
+            List<String> parts = new ArrayList<>(parent);
+            parts.add(label);
+            fromVisitor.add(TomlKey.literal(parts));
+        });
+        assertEquals(expected, fromVisitor);
+
+        // Skipping subtrees
+        int[] count = { 0 };
+        this.table.walk(new TomlVisitor() {
+            @Override
+            public boolean enterTable(List<String> parent, String label, TomlTable table) {
+                return false;
+            }
+
+            @Override
+            public void visitValue(List<String> parent, String label, TomlValue value) {
+                assertTrue(parent.isEmpty());
+                count[0]++;
+            }
+        });
+        assertEquals(1, count[0]);
+    }
+
+}
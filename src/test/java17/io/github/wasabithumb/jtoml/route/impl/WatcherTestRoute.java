@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Xavier Pedraza
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.wasabithumb.jtoml.route.impl;
+
+import io.github.wasabithumb.jtoml.JToml;
+import io.github.wasabithumb.jtoml.document.TomlWatcher;
+import io.github.wasabithumb.jtoml.except.TomlException;
+import io.github.wasabithumb.jtoml.key.TomlKey;
+import io.github.wasabithumb.jtoml.route.Sentinel;
+import io.github.wasabithumb.jtoml.route.TestRoute;
+import io.github.wasabithumb.jtoml.value.table.ImmutableTomlTable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class WatcherTestRoute implements TestRoute {
+
+    @Sentinel("holidays.toml")
+    private String source;
+
+    //
+
+    @Override
+    public String displayName() {
+        return "Watcher";
+    }
+
+    @Override
+    public void execute(JToml instance) {
+        try {
+            Path dir = Files.createTempDirectory("jtoml");
+            try {
+                this.execute(instance, dir);
+            } finally {
+                try (var files = Files.list(dir)) {
+                    for (Path p : files.toList()) Files.delete(p);
+                }
+                Files.delete(dir);
+            }
+        } catch (IOException | InterruptedException e) {
+            fail(e);
+        }
+    }
+
+    private void execute(JToml instance, Path dir) throws IOException, InterruptedException {
+        Path file = dir.resolve("holidays.toml");
+        Files.writeString(file, this.source);
+
+        List<TomlWatcher.Event> events = new ArrayList<>();
+        try (TomlWatcher watcher = TomlWatcher.create(instance)) {
+            ImmutableTomlTable first = watcher.watch(file);
+            assertSame(first, watcher.snapshot(file));
+            assertSame(first, watcher.watch(dir.resolve(".").resolve("holidays.toml")));
+            watcher.subscribe(events::add);
+
+            // Touching the file without changing its content does nothing
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 2000L));
+            watcher.refresh();
+            assertSame(first, watcher.snapshot(file));
+
+            // Changed content publishes a new snapshot with the changed keys
+            Files.writeString(file, this.source.replace("months = [", "months = [\"NONE\", "));
+            watcher.refresh();
+            ImmutableTomlTable second = watcher.snapshot(file);
+            assertNotSame(first, second);
+            assertEquals(13, second.get("months").asArray().size());
+
+            assertFalse(events.isEmpty());
+            TomlWatcher.Event event = events.get(events.size() - 1);
+            assertSame(first, event.previous());
+            assertSame(second, event.current());
+            assertEquals(1, event.changedKeys().size());
+            assertTrue(event.changedKeys().contains(TomlKey.literal("months")));
+
+            // Unwatched files are forgotten
+            watcher.unwatch(file);
+            assertNull(watcher.snapshot(file));
+        }
+
+        // Changes are picked up in the background
+        BlockingQueue<TomlWatcher.Event> queue = new LinkedBlockingQueue<>();
+        try (TomlWatcher watcher = TomlWatcher.builder(instance).debounce(10L, TimeUnit.MILLISECONDS).build()) {
+            watcher.watch(file);
+            watcher.subscribe(queue::add);
+            Files.writeString(file, this.source);
+
+            TomlWatcher.Event event = queue.poll(30L, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(file.toAbsolutePath().normalize(), event.file());
+            assertEquals(12, event.current().get("months").asArray().size());
+
+            // Listeners which throw do not stop later reloads
+            BlockingQueue<Path> errors = new LinkedBlockingQueue<>();
+            watcher.subscribe(new TomlWatcher.Listener() {
+                @Override
+                public void onReload(TomlWatcher.Event event) {
+                    throw new IllegalStateException("onReload");
+                }
+
+                @Override
+                public void onError(Path file, TomlException error) {
+                    errors.add(file);
+                    throw new IllegalStateException("onError");
+                }
+            });
+            Files.writeString(file, "months = [");
+            assertNotNull(errors.poll(30L, TimeUnit.SECONDS));
+
+            Files.writeString(file, this.source.replace("months = [", "months = [\"NONE\", "));
+            event = queue.poll(30L, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals(13, event.current().get("months").asArray().size());
+        }
+    }
+
+}